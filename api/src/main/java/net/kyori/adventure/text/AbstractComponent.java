@@ -55,6 +55,12 @@ public abstract class AbstractComponent implements Component {
    * The style of this component.
    */
   protected final Style style;
+  /**
+   * The cached hash of {@link #children} and {@link #style}, or {@code 0} if not yet computed.
+   *
+   * <p>Components are immutable, so a racy single-check is enough: at worst, two threads compute the same value.</p>
+   */
+  private int hash;
 
   protected AbstractComponent(final @NonNull List<? extends ComponentLike> children, final @NonNull Style style) {
     this.children = ComponentLike.asComponents(children, NOT_EMPTY);
@@ -91,14 +97,22 @@ public abstract class AbstractComponent implements Component {
     if(this == other) return true;
     if(!(other instanceof AbstractComponent)) return false;
     final AbstractComponent that = (AbstractComponent) other;
+    // if both sides have already been hashed, unequal trees can be rejected without walking them
+    final int hash = this.hash;
+    final int thatHash = that.hash;
+    if(hash != 0 && thatHash != 0 && hash != thatHash) return false;
     return Objects.equals(this.children, that.children)
       && Objects.equals(this.style, that.style);
   }
 
   @Override
   public int hashCode() {
-    int result = this.children.hashCode();
-    result = (31 * result) + this.style.hashCode();
+    int result = this.hash;
+    if(result == 0) {
+      result = this.children.hashCode();
+      result = (31 * result) + this.style.hashCode();
+      this.hash = result;
+    }
     return result;
   }
 
@@ -1687,6 +1687,40 @@ public interface Component extends ComponentBuilderApplicable, ComponentLike, Ex
   @Contract(pure = true)
   @NonNull Component replaceText(final @NonNull TextReplacementConfig config);
 
+  /**
+   * Finds and replaces any text with this or child {@link Component}s using every replacement in a group, in a single pass.
+   *
+   * @param group the replacement group
+   * @return a modified copy of this component
+   * @see TextReplacementGroup
+   * @since 4.8.0
+   */
+  @Contract(pure = true)
+  default @NonNull Component replaceText(final @NonNull TextReplacementGroup group) {
+    Objects.requireNonNull(group, "group");
+    if(!(group instanceof TextReplacementGroupImpl)) {
+      throw new IllegalArgumentException("Provided replacement group was a custom TextReplacementGroup implementation, which is not supported.");
+    }
+    return TextReplacementRenderer.INSTANCE.render(this, ((TextReplacementGroupImpl) group).createState());
+  }
+
+  /**
+   * Compacts this component into an equivalent component tree with fewer nodes.
+   *
+   * <p>Empty text components are dropped, text components that only wrap a single child are replaced by that child,
+   * adjacent text components with the same style are merged, and style already inherited from a parent is removed
+   * from its children. The result renders identically to this component.</p>
+   *
+   * <p>Arguments of {@link TranslatableComponent}s and the contents of hover events are left as they are.</p>
+   *
+   * @return a compacted component, or this component if it could not be compacted further
+   * @since 4.8.0
+   */
+  @Contract(pure = true)
+  default @NonNull Component compact() {
+    return ComponentCompaction.compact(this);
+  }
+
   /**
    * Finds and replaces text within any {@link Component}s using a string literal.
    *
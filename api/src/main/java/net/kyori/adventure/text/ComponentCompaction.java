@@ -0,0 +1,152 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Rewrites a component tree into a smaller one that renders identically.
+ *
+ * <p>Styles are inherited by children, so a child's style is compared against the effective
+ * style of its parent: anything the parent already sets to the same value is dropped.</p>
+ */
+final class ComponentCompaction {
+  private static final TextDecoration[] DECORATIONS = TextDecoration.values();
+
+  private ComponentCompaction() {
+  }
+
+  static @NonNull Component compact(final @NonNull Component component) {
+    final Component compacted = compact(component, Style.empty());
+    if(compacted == null) return Component.empty();
+    if(isWrapper(compacted)) return hoist(compacted, Style.empty());
+    return compacted;
+  }
+
+  /**
+   * Compacts a component under a parent style.
+   *
+   * @param component the component
+   * @param parentStyle the effective style inherited from the parent
+   * @return the compacted component, the same instance if nothing changed, or {@code null} if the component renders nothing
+   */
+  private static @Nullable Component compact(final @NonNull Component component, final @NonNull Style parentStyle) {
+    final Style style = simplify(component.style(), parentStyle);
+    final Style effectiveStyle = style.isEmpty() ? parentStyle : style.merge(parentStyle, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+
+    final List<Component> children = component.children();
+    List<Component> compactedChildren = null; // only allocated once something changes
+    Component previous = null;
+    for(int i = 0, size = children.size(); i < size; i++) {
+      final Component child = children.get(i);
+      Component compacted = compact(child, effectiveStyle);
+      if(compacted != null && isWrapper(compacted)) {
+        compacted = hoist(compacted, effectiveStyle);
+      }
+
+      final Component merged = previous == null || compacted == null ? null : mergeSiblings(previous, compacted);
+      if(compactedChildren == null && (compacted != child || merged != null)) {
+        compactedChildren = new ArrayList<>(size);
+        compactedChildren.addAll(children.subList(0, i));
+      }
+      if(compactedChildren != null) {
+        if(merged != null) {
+          compactedChildren.set(compactedChildren.size() - 1, merged);
+          previous = merged;
+        } else if(compacted != null) {
+          compactedChildren.add(compacted);
+          previous = compacted;
+        }
+      } else {
+        previous = compacted;
+      }
+    }
+
+    if(compactedChildren == null && style == component.style()) {
+      return isEmpty(component) ? null : component;
+    }
+
+    Component result = component;
+    if(style != component.style()) result = result.style(style);
+    if(compactedChildren != null) result = result.children(compactedChildren);
+    return isEmpty(result) ? null : result;
+  }
+
+  /**
+   * Removes anything from {@code style} that {@code parent} already sets to the same value.
+   *
+   * @param style the style
+   * @param parent the effective parent style
+   * @return the simplified style, or the same instance if nothing was redundant
+   */
+  private static @NonNull Style simplify(final @NonNull Style style, final @NonNull Style parent) {
+    if(style.isEmpty() || parent.isEmpty()) return style;
+    Style result = style;
+    if(style.color() != null && style.color().equals(parent.color())) result = result.color(null);
+    for(int i = 0, length = DECORATIONS.length; i < length; i++) {
+      final TextDecoration decoration = DECORATIONS[i];
+      final TextDecoration.State state = style.decoration(decoration);
+      if(state != TextDecoration.State.NOT_SET && state == parent.decoration(decoration)) result = result.decoration(decoration, TextDecoration.State.NOT_SET);
+    }
+    if(style.clickEvent() != null && style.clickEvent().equals(parent.clickEvent())) result = result.clickEvent(null);
+    if(style.hoverEvent() != null && style.hoverEvent().equals(parent.hoverEvent())) result = result.hoverEvent(null);
+    if(style.insertion() != null && style.insertion().equals(parent.insertion())) result = result.insertion(null);
+    if(style.font() != null && style.font().equals(parent.font())) result = result.font(null);
+    return result;
+  }
+
+  // a text component with no content and a single child renders exactly like that child with the wrapper's style underneath it
+  private static boolean isWrapper(final @NonNull Component component) {
+    return component instanceof TextComponent && ((TextComponent) component).content().isEmpty() && component.children().size() == 1;
+  }
+
+  private static @NonNull Component hoist(final @NonNull Component wrapper, final @NonNull Style parentStyle) {
+    final Component child = wrapper.children().get(0);
+    final Style style = simplify(child.style().merge(wrapper.style(), Style.Merge.Strategy.IF_ABSENT_ON_TARGET), parentStyle);
+    return child.style() == style ? child : child.style(style);
+  }
+
+  /**
+   * Merges two adjacent text siblings into one, if they share a style and the first has no children.
+   *
+   * @param first the first sibling
+   * @param second the second sibling
+   * @return the merged component, or {@code null} if they cannot be merged
+   */
+  private static @Nullable Component mergeSiblings(final @NonNull Component first, final @NonNull Component second) {
+    if(!(first instanceof TextComponent) || !(second instanceof TextComponent)) return null;
+    if(!first.children().isEmpty() || !first.style().equals(second.style())) return null;
+    final TextComponent text = (TextComponent) second;
+    return text.content(((TextComponent) first).content() + text.content());
+  }
+
+  private static boolean isEmpty(final @NonNull Component component) {
+    return component instanceof TextComponent && ((TextComponent) component).content().isEmpty() && component.children().isEmpty();
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.List;
+import java.util.Map;
+import net.kyori.examination.Examinable;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * A component with placeholders, compiled once and then rendered with different arguments.
+ *
+ * <p>A placeholder is a key between braces in the content of a {@link TextComponent}, such as {@code {0}} or
+ * {@code {player}}. Keys are made of letters, digits and underscores; any other braces are left as they are.
+ * Placeholders are found in the content of text components anywhere in the tree, including the arguments of
+ * {@link TranslatableComponent}s, but not in hover events.</p>
+ *
+ * <p>Rendering only creates the components on the path from the root to each placeholder. Every subtree without a
+ * placeholder is shared between the template and all of its renders.</p>
+ *
+ * <p>An argument is inserted as a child of the text component its placeholder was in, so it inherits that component's
+ * style. A placeholder without an argument is rendered as its own text.</p>
+ *
+ * @since 4.8.0
+ */
+public interface ComponentTemplate extends Examinable {
+  /**
+   * Compiles a template.
+   *
+   * @param template the template
+   * @return a compiled template
+   * @since 4.8.0
+   */
+  static @NonNull ComponentTemplate compile(final @NonNull ComponentLike template) {
+    return new ComponentTemplateImpl(template.asComponent());
+  }
+
+  /**
+   * Gets the component this template was compiled from.
+   *
+   * @return the template component
+   * @since 4.8.0
+   */
+  @NonNull Component template();
+
+  /**
+   * Gets the keys of the placeholders in this template, in order of first appearance.
+   *
+   * @return the placeholder keys
+   * @since 4.8.0
+   */
+  @NonNull List<String> placeholders();
+
+  /**
+   * Renders this template with positional arguments.
+   *
+   * <p>The argument at index {@code n} replaces the placeholder {@code {n}}.</p>
+   *
+   * @param args the arguments
+   * @return the rendered component
+   * @since 4.8.0
+   */
+  @Contract(pure = true)
+  @NonNull Component render(final @Nullable ComponentLike@NonNull... args);
+
+  /**
+   * Renders this template with named arguments.
+   *
+   * <p>The argument for a key replaces the placeholder with that key.</p>
+   *
+   * @param args the arguments
+   * @return the rendered component
+   * @since 4.8.0
+   */
+  @Contract(pure = true)
+  @NonNull Component render(final @NonNull Map<String, ? extends ComponentLike> args);
+}
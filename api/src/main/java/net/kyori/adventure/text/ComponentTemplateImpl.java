@@ -0,0 +1,296 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.string.StringExaminer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A template compiled into a flat program for a stack machine.
+ *
+ * <p>Each instruction pushes one component: a shared constant, an argument, or a component rebuilt from a prototype
+ * with the components pushed before it as its arguments and children.</p>
+ */
+final class ComponentTemplateImpl implements ComponentTemplate {
+  // push constants[operand]
+  private static final int CONSTANT = 0;
+  // push the argument for slot operand, or the placeholder text if there is none
+  private static final int SLOT = 1;
+  // pop children, then arguments, and push constants[operand] rebuilt with them
+  private static final int BUILD = 2;
+
+  private final Component template;
+  private final List<String> placeholders;
+  // per slot: the index a positional argument is given at, or -1
+  private final int[] positions;
+  private final Component[] fallbacks;
+  // per instruction: opcode, operand, argument count, child count
+  private final int[] code;
+  private final Component[] constants;
+  private final int maxStack;
+
+  ComponentTemplateImpl(final @NonNull Component template) {
+    this.template = requireNonNull(template, "template");
+    final Compiler compiler = new Compiler();
+    compiler.compile(template);
+    this.placeholders = Collections.unmodifiableList(new ArrayList<>(compiler.slots.keySet()));
+    this.positions = new int[this.placeholders.size()];
+    this.fallbacks = new Component[this.placeholders.size()];
+    for(int i = 0; i < this.positions.length; i++) {
+      final String key = this.placeholders.get(i);
+      this.positions[i] = position(key);
+      this.fallbacks[i] = Component.text('{' + key + '}');
+    }
+    this.code = Arrays.copyOf(compiler.code, compiler.length);
+    this.constants = compiler.constants.toArray(new Component[0]);
+    this.maxStack = compiler.maxStack;
+  }
+
+  private static int position(final @NonNull String key) {
+    if(key.length() > 9) return -1;
+    for(int i = 0; i < key.length(); i++) {
+      if(key.charAt(i) < '0' || key.charAt(i) > '9') return -1;
+    }
+    return Integer.parseInt(key);
+  }
+
+  @Override
+  public @NonNull Component template() {
+    return this.template;
+  }
+
+  @Override
+  public @NonNull List<String> placeholders() {
+    return this.placeholders;
+  }
+
+  @Override
+  public @NonNull Component render(final @Nullable ComponentLike@NonNull... args) {
+    requireNonNull(args, "args");
+    final Component[] slots = new Component[this.positions.length];
+    for(int i = 0; i < slots.length; i++) {
+      final int position = this.positions[i];
+      if(position >= 0 && position < args.length && args[position] != null) {
+        slots[i] = args[position].asComponent();
+      }
+    }
+    return this.execute(slots);
+  }
+
+  @Override
+  public @NonNull Component render(final @NonNull Map<String, ? extends ComponentLike> args) {
+    requireNonNull(args, "args");
+    final Component[] slots = new Component[this.positions.length];
+    for(int i = 0; i < slots.length; i++) {
+      final ComponentLike arg = args.get(this.placeholders.get(i));
+      if(arg != null) {
+        slots[i] = arg.asComponent();
+      }
+    }
+    return this.execute(slots);
+  }
+
+  private @NonNull Component execute(final @Nullable Component@NonNull[] slots) {
+    final Component[] stack = new Component[this.maxStack];
+    int top = 0;
+    for(int pc = 0; pc < this.code.length; pc += 4) {
+      final int operand = this.code[pc + 1];
+      switch(this.code[pc]) {
+        case CONSTANT:
+          stack[top++] = this.constants[operand];
+          break;
+        case SLOT:
+          final Component slot = slots[operand];
+          stack[top++] = slot == null ? this.fallbacks[operand] : slot;
+          break;
+        case BUILD:
+          final int argCount = this.code[pc + 2];
+          final int childCount = this.code[pc + 3];
+          top -= childCount;
+          final List<Component> children = Arrays.asList(Arrays.copyOfRange(stack, top, top + childCount));
+          Component built = this.constants[operand];
+          if(argCount > 0) {
+            top -= argCount;
+            built = ((TranslatableComponent) built).args(Arrays.copyOfRange(stack, top, top + argCount));
+          }
+          stack[top++] = built.children(children);
+          break;
+        default:
+          throw new IllegalStateException("Unknown instruction " + this.code[pc]);
+      }
+    }
+    return stack[0];
+  }
+
+  @Override
+  public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+    return Stream.of(
+      ExaminableProperty.of("template", this.template),
+      ExaminableProperty.of("placeholders", this.placeholders)
+    );
+  }
+
+  @Override
+  public String toString() {
+    return this.examine(StringExaminer.simpleEscaping());
+  }
+
+  static final class Compiler {
+    final Map<String, Integer> slots = new LinkedHashMap<>();
+    final List<Component> constants = new ArrayList<>();
+    int[] code = new int[64];
+    int length;
+    int stack;
+    int maxStack;
+
+    /**
+     * Compiles a component into instructions pushing it.
+     *
+     * @param component the component
+     * @return whether the component has any placeholders
+     */
+    boolean compile(final @NonNull Component component) {
+      final int mark = this.length;
+      final int stackMark = this.stack;
+      final int constantMark = this.constants.size();
+      boolean holes = false;
+      Component prototype = component;
+
+      int argCount = 0;
+      if(component instanceof TranslatableComponent) {
+        final List<Component> args = ((TranslatableComponent) component).args();
+        for(int i = 0; i < args.size(); i++) {
+          holes |= this.compile(args.get(i));
+        }
+        argCount = args.size();
+      }
+      final boolean argHoles = holes;
+
+      if(component instanceof TextComponent) {
+        final String content = ((TextComponent) component).content();
+        int from = 0;
+        int textEnd = -1;
+        for(int open = content.indexOf('{'); open >= 0; open = content.indexOf('{', open + 1)) {
+          final int close = placeholderEnd(content, open);
+          if(close < 0) continue;
+          if(textEnd < 0) {
+            // the text before the first placeholder stays the content of the component itself
+            textEnd = open;
+          } else if(from < open) {
+            this.push(CONSTANT, this.constant(Component.text(content.substring(from, open))));
+          }
+          this.push(SLOT, this.slot(content.substring(open + 1, close)));
+          from = close + 1;
+          open = close;
+        }
+        if(textEnd >= 0) {
+          holes = true;
+          if(from < content.length()) {
+            this.push(CONSTANT, this.constant(Component.text(content.substring(from))));
+          }
+          prototype = ((TextComponent) component).content(content.substring(0, textEnd));
+        }
+      }
+
+      for(final Component child : component.children()) {
+        holes |= this.compile(child);
+      }
+
+      if(!holes) {
+        // nothing below here changes between renders, so push the whole subtree at once
+        this.length = mark;
+        this.stack = stackMark;
+        this.constants.subList(constantMark, this.constants.size()).clear();
+        this.push(CONSTANT, this.constant(component));
+        return false;
+      }
+
+      final int childCount = this.stack - stackMark - argCount;
+      if(!argHoles) {
+        // the arguments are unchanged, so they are left on the prototype instead
+        this.drop(mark, argCount);
+        argCount = 0;
+      }
+      this.ensure(4);
+      this.code[this.length++] = BUILD;
+      this.code[this.length++] = this.constant(prototype);
+      this.code[this.length++] = argCount;
+      this.code[this.length++] = childCount;
+      this.stack = stackMark + 1;
+      return true;
+    }
+
+    private static int placeholderEnd(final @NonNull String content, final int open) {
+      for(int i = open + 1; i < content.length(); i++) {
+        final char c = content.charAt(i);
+        if(c == '}') return i == open + 1 ? -1 : i;
+        if(!(c == '_' || (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) return -1;
+      }
+      return -1;
+    }
+
+    // removes the first count instructions after mark, which are each a single constant push
+    private void drop(final int mark, final int count) {
+      if(count == 0) return;
+      System.arraycopy(this.code, mark + count * 4, this.code, mark, this.length - mark - count * 4);
+      this.length -= count * 4;
+      this.stack -= count;
+    }
+
+    private int constant(final @NonNull Component component) {
+      this.constants.add(component);
+      return this.constants.size() - 1;
+    }
+
+    private int slot(final @NonNull String key) {
+      return this.slots.computeIfAbsent(key, k -> this.slots.size());
+    }
+
+    private void push(final int op, final int operand) {
+      this.ensure(4);
+      this.code[this.length++] = op;
+      this.code[this.length++] = operand;
+      this.code[this.length++] = 0;
+      this.code[this.length++] = 0;
+      this.maxStack = Math.max(this.maxStack, ++this.stack);
+    }
+
+    private void ensure(final int extra) {
+      if(this.length + extra > this.code.length) {
+        this.code = Arrays.copyOf(this.code, Math.max(this.code.length * 2, this.length + extra));
+      }
+    }
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * An Aho-Corasick automaton, finding the leftmost occurrence of any of a set of literals in one scan.
+ *
+ * <p>Of the literals occurring at the leftmost index, the one added first wins, as it would in a regex alternation.</p>
+ */
+final class LiteralAutomaton {
+  static final long NO_MATCH = -1;
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+  private static final char[] NO_CHARS = new char[0];
+  private static final int[] NO_INTS = new int[0];
+
+  // per node: sorted outgoing edge characters, and the nodes they lead to
+  private final char[][] edges;
+  private final int[][] targets;
+  private final int[] fail;
+  // per node: the ids of the literals ending there, ascending
+  private final int[][] terminals;
+  // per node: the nearest node along the fail chain with terminals
+  private final int[] output;
+  private final int[] depth;
+  private final int maxLength;
+
+  LiteralAutomaton(final @NonNull List<String> literals) {
+    final List<StringBuilder> edgeChars = new ArrayList<>();
+    final List<List<Integer>> edgeTargets = new ArrayList<>();
+    final List<List<Integer>> ends = new ArrayList<>();
+    final List<Integer> depths = new ArrayList<>();
+    edgeChars.add(new StringBuilder());
+    edgeTargets.add(new ArrayList<>());
+    ends.add(new ArrayList<>());
+    depths.add(0);
+
+    int maxLength = 0;
+    for(int id = 0, size = literals.size(); id < size; id++) {
+      final String literal = literals.get(id);
+      if(literal.isEmpty()) throw new IllegalArgumentException("Literals must not be empty");
+      int node = ROOT;
+      for(int i = 0, length = literal.length(); i < length; i++) {
+        final char c = literal.charAt(i);
+        final int edge = edgeChars.get(node).indexOf(String.valueOf(c));
+        if(edge != NONE) {
+          node = edgeTargets.get(node).get(edge);
+        } else {
+          final int next = edgeChars.size();
+          edgeChars.add(new StringBuilder());
+          edgeTargets.add(new ArrayList<>());
+          ends.add(new ArrayList<>());
+          depths.add(i + 1);
+          edgeChars.get(node).append(c);
+          edgeTargets.get(node).add(next);
+          node = next;
+        }
+      }
+      ends.get(node).add(id);
+      maxLength = Math.max(maxLength, literal.length());
+    }
+
+    final int nodes = edgeChars.size();
+    this.edges = new char[nodes][];
+    this.targets = new int[nodes][];
+    this.terminals = new int[nodes][];
+    this.depth = new int[nodes];
+    for(int node = 0; node < nodes; node++) {
+      final String chars = edgeChars.get(node).toString();
+      final List<Integer> to = edgeTargets.get(node);
+      final Integer[] order = new Integer[chars.length()];
+      for(int i = 0; i < order.length; i++) order[i] = i;
+      Arrays.sort(order, (a, b) -> Character.compare(chars.charAt(a), chars.charAt(b)));
+      this.edges[node] = chars.isEmpty() ? NO_CHARS : new char[order.length];
+      this.targets[node] = chars.isEmpty() ? NO_INTS : new int[order.length];
+      for(int i = 0; i < order.length; i++) {
+        this.edges[node][i] = chars.charAt(order[i]);
+        this.targets[node][i] = to.get(order[i]);
+      }
+      this.terminals[node] = ends.get(node).isEmpty() ? NO_INTS : ends.get(node).stream().mapToInt(Integer::intValue).toArray();
+      this.depth[node] = depths.get(node);
+    }
+    this.maxLength = maxLength;
+
+    // breadth-first, so every node's fail target is finished before the node itself
+    this.fail = new int[nodes];
+    this.output = new int[nodes];
+    this.output[ROOT] = NONE;
+    final int[] queue = new int[nodes];
+    int head = 0;
+    int tail = 0;
+    for(final int child : this.targets[ROOT]) {
+      this.fail[child] = ROOT;
+      this.output[child] = NONE;
+      queue[tail++] = child;
+    }
+    while(head < tail) {
+      final int node = queue[head++];
+      for(int i = 0; i < this.edges[node].length; i++) {
+        final char c = this.edges[node][i];
+        final int child = this.targets[node][i];
+        final int failure = this.next(this.fail[node], c);
+        this.fail[child] = failure;
+        this.output[child] = this.terminals[failure].length > 0 ? failure : this.output[failure];
+        queue[tail++] = child;
+      }
+    }
+  }
+
+  private int edge(final int node, final char c) {
+    final int index = Arrays.binarySearch(this.edges[node], c);
+    return index < 0 ? NONE : this.targets[node][index];
+  }
+
+  private int next(final int from, final char c) {
+    int node = from;
+    while(true) {
+      final int target = this.edge(node, c);
+      if(target != NONE) return target;
+      if(node == ROOT) return ROOT;
+      node = this.fail[node];
+    }
+  }
+
+  /**
+   * Finds the leftmost occurrence of an active literal.
+   *
+   * @param text the text to search
+   * @param from the index to search from
+   * @param active tests if a literal, by id, may match
+   * @return the match start in the high 32 bits and the literal id in the low 32 bits, or {@link #NO_MATCH}
+   */
+  long find(final @NonNull String text, final int from, final @NonNull IntPredicate active) {
+    int bestStart = Integer.MAX_VALUE;
+    int bestId = NONE;
+    int node = ROOT;
+    for(int i = from, length = text.length(); i < length; i++) {
+      // any match ending here or later starts after the best one found so far
+      if(bestId != NONE && i - this.maxLength + 1 > bestStart) break;
+      node = this.next(node, text.charAt(i));
+      // the output chain visits ever shorter literals, so ever later starts
+      for(int match = this.terminals[node].length > 0 ? node : this.output[node]; match != NONE; match = this.output[match]) {
+        final int start = i - this.depth[match] + 1;
+        if(start > bestStart) break;
+        final int[] ids = this.terminals[match];
+        for(int j = 0; j < ids.length; j++) {
+          final int id = ids[j];
+          if(start == bestStart && id > bestId) break;
+          if(active.test(id)) {
+            bestStart = start;
+            bestId = id;
+            break;
+          }
+        }
+      }
+    }
+    if(bestId == NONE) return NO_MATCH;
+    return ((long) bestStart << 32) | bestId;
+  }
+
+  static int start(final long match) {
+    return (int) (match >>> 32);
+  }
+
+  static int id(final long match) {
+    return (int) match;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.regex.MatchResult;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * The result of matching a literal, which has no groups besides the match itself.
+ */
+final class LiteralMatchResult implements MatchResult {
+  private final String content;
+  private final int start;
+  private final int end;
+
+  LiteralMatchResult(final @NonNull String content, final int start, final int end) {
+    this.content = content;
+    this.start = start;
+    this.end = end;
+  }
+
+  @Override
+  public int start() {
+    return this.start;
+  }
+
+  @Override
+  public int start(final int group) {
+    this.checkGroup(group);
+    return this.start;
+  }
+
+  @Override
+  public int end() {
+    return this.end;
+  }
+
+  @Override
+  public int end(final int group) {
+    this.checkGroup(group);
+    return this.end;
+  }
+
+  @Override
+  public String group() {
+    return this.content.substring(this.start, this.end);
+  }
+
+  @Override
+  public String group(final int group) {
+    this.checkGroup(group);
+    return this.group();
+  }
+
+  @Override
+  public int groupCount() {
+    return 0;
+  }
+
+  private void checkGroup(final int group) {
+    if(group != 0) throw new IndexOutOfBoundsException("No group " + group);
+  }
+}
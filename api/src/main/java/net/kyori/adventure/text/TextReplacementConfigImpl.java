@@ -39,11 +39,27 @@ final class TextReplacementConfigImpl implements TextReplacementConfig {
   private final Pattern matchPattern;
   private final BiFunction<MatchResult, TextComponent.Builder, @Nullable ComponentLike> replacement;
   private final Condition continuer;
+  private final @Nullable String literal;
 
   TextReplacementConfigImpl(final Builder builder) {
     this.matchPattern = builder.matchPattern;
     this.replacement = builder.replacement;
     this.continuer = builder.continuer;
+    this.literal = literal(this.matchPattern);
+  }
+
+  /**
+   * Gets the text a pattern matches, if it only matches that text.
+   *
+   * <p>Only patterns created by {@link TextReplacementConfig.Builder#matchLiteral(String)}, or with exactly the same
+   * flags, are known to be literal. An empty literal matches between every character, so is left to the regex engine.</p>
+   *
+   * @param pattern the pattern
+   * @return the literal, or {@code null} if the pattern is not known to be literal
+   */
+  static @Nullable String literal(final @NonNull Pattern pattern) {
+    if(pattern.flags() != Pattern.LITERAL || pattern.pattern().isEmpty()) return null;
+    return pattern.pattern();
   }
 
   @Override
@@ -51,8 +67,23 @@ final class TextReplacementConfigImpl implements TextReplacementConfig {
     return this.matchPattern;
   }
 
+  BiFunction<MatchResult, TextComponent.Builder, @Nullable ComponentLike> replacement() {
+    return this.replacement;
+  }
+
+  Condition condition() {
+    return this.continuer;
+  }
+
+  @Nullable String literal() {
+    return this.literal;
+  }
+
   TextReplacementRenderer.State createState() {
-    return new TextReplacementRenderer.State(this.matchPattern, this.replacement, this.continuer);
+    if(this.literal != null) {
+      return new TextReplacementRenderer.LiteralState(this.literal, this.replacement, this.continuer);
+    }
+    return new TextReplacementRenderer.PatternState(this.matchPattern, this.replacement, this.continuer);
   }
 
   @Override
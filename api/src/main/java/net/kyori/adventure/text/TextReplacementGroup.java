@@ -0,0 +1,79 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.Arrays;
+import java.util.List;
+import net.kyori.examination.Examinable;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An ordered group of replacements, performed together in a single pass over a component.
+ *
+ * <p>Matching behaves like an alternation of every pattern in the group: at each point in the text, the leftmost match
+ * of any pattern is replaced, and of the matches starting at the same index, the one from the earliest configuration
+ * wins. Text that has been replaced is not matched again by any other configuration.</p>
+ *
+ * <p>Each configuration keeps its own condition, match count and replacement count, and a
+ * {@link PatternReplacementResult#STOP} only stops the configuration that returned it.</p>
+ *
+ * <p>Literal patterns, as created by {@link TextReplacementConfig.Builder#matchLiteral(String)}, are all matched by a
+ * single scan over the text, however many there are.</p>
+ *
+ * @see Component#replaceText(TextReplacementGroup)
+ * @since 4.8.0
+ */
+public interface TextReplacementGroup extends Examinable {
+  /**
+   * Creates a group of replacements.
+   *
+   * @param configs the replacements, in order of priority
+   * @return a group
+   * @since 4.8.0
+   */
+  static @NonNull TextReplacementGroup of(final @NonNull TextReplacementConfig@NonNull... configs) {
+    return of(Arrays.asList(requireNonNull(configs, "configs")));
+  }
+
+  /**
+   * Creates a group of replacements.
+   *
+   * @param configs the replacements, in order of priority
+   * @return a group
+   * @since 4.8.0
+   */
+  static @NonNull TextReplacementGroup of(final @NonNull Iterable<? extends TextReplacementConfig> configs) {
+    return new TextReplacementGroupImpl(configs);
+  }
+
+  /**
+   * Gets the replacements in this group, in order of priority.
+   *
+   * @return the replacements
+   * @since 4.8.0
+   */
+  @NonNull List<TextReplacementConfig> configs();
+}
@@ -0,0 +1,214 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.stream.Stream;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.string.StringExaminer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+final class TextReplacementGroupImpl implements TextReplacementGroup {
+  private final List<TextReplacementConfig> configs;
+  private final TextReplacementConfigImpl[] parts;
+  // literal parts share one automaton, whose ids are the indices into literalParts
+  private final @Nullable LiteralAutomaton automaton;
+  private final int[] literalParts;
+  private final int[] literalLengths;
+  private final int[] regexParts;
+
+  TextReplacementGroupImpl(final @NonNull Iterable<? extends TextReplacementConfig> configs) {
+    final List<TextReplacementConfig> list = new ArrayList<>();
+    for(final TextReplacementConfig config : requireNonNull(configs, "configs")) {
+      requireNonNull(config, "config");
+      if(!(config instanceof TextReplacementConfigImpl)) {
+        throw new IllegalArgumentException("Provided replacement was a custom TextReplacementConfig implementation, which is not supported.");
+      }
+      list.add(config);
+    }
+    this.configs = Collections.unmodifiableList(list);
+    this.parts = list.toArray(new TextReplacementConfigImpl[0]);
+
+    final List<String> literals = new ArrayList<>();
+    final int[] literalParts = new int[this.parts.length];
+    final int[] regexParts = new int[this.parts.length];
+    int regexCount = 0;
+    for(int i = 0; i < this.parts.length; i++) {
+      final String literal = this.parts[i].literal();
+      if(literal != null) {
+        literalParts[literals.size()] = i;
+        literals.add(literal);
+      } else {
+        regexParts[regexCount++] = i;
+      }
+    }
+    this.automaton = literals.isEmpty() ? null : new LiteralAutomaton(literals);
+    this.literalParts = Arrays.copyOf(literalParts, literals.size());
+    this.literalLengths = literals.stream().mapToInt(String::length).toArray();
+    this.regexParts = Arrays.copyOf(regexParts, regexCount);
+  }
+
+  @Override
+  public @NonNull List<TextReplacementConfig> configs() {
+    return this.configs;
+  }
+
+  TextReplacementRenderer.State createState() {
+    return new GroupState(this);
+  }
+
+  @Override
+  public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+    return Stream.of(ExaminableProperty.of("configs", this.configs));
+  }
+
+  @Override
+  public String toString() {
+    return this.examine(StringExaminer.simpleEscaping());
+  }
+
+  /**
+   * Every replacement of a group, searched for together.
+   */
+  static final class GroupState extends TextReplacementRenderer.State {
+    private static final int UNKNOWN = -1;
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private final TextReplacementGroupImpl group;
+    private final boolean[] stopped;
+    private int remaining;
+    private final int[] matchCount;
+    private final int[] replaceCount;
+    // per regex part: the reused matcher, and the start of its next match at or after the position it was found from
+    private final Matcher[] matchers;
+    private final int[] nextStart;
+    private String content = "";
+    private int position;
+    private int current;
+
+    GroupState(final @NonNull TextReplacementGroupImpl group) {
+      this.group = group;
+      final int size = group.parts.length;
+      this.stopped = new boolean[size];
+      this.remaining = size;
+      this.running = size > 0;
+      this.matchCount = new int[size];
+      this.replaceCount = new int[size];
+      this.matchers = new Matcher[group.regexParts.length];
+      this.nextStart = new int[group.regexParts.length];
+    }
+
+    @Override
+    void reset(final @NonNull String content) {
+      this.content = content;
+      this.position = 0;
+      Arrays.fill(this.nextStart, UNKNOWN);
+    }
+
+    @Override
+    @Nullable MatchResult find() {
+      final String content = this.content;
+      final int position = this.position;
+      if(position > content.length()) return null;
+
+      int bestStart = NONE;
+      int bestPart = NONE;
+      int bestEnd = 0;
+      int bestRegex = UNKNOWN;
+
+      final LiteralAutomaton automaton = this.group.automaton;
+      if(automaton != null) {
+        final long match = automaton.find(content, position, id -> !this.stopped[this.group.literalParts[id]]);
+        if(match != LiteralAutomaton.NO_MATCH) {
+          final int id = LiteralAutomaton.id(match);
+          bestStart = LiteralAutomaton.start(match);
+          bestPart = this.group.literalParts[id];
+          bestEnd = bestStart + this.group.literalLengths[id];
+        }
+      }
+
+      for(int r = 0; r < this.matchers.length; r++) {
+        final int part = this.group.regexParts[r];
+        if(this.stopped[part]) continue;
+        int start = this.nextStart[r];
+        // a match found from an earlier position is still the leftmost one if it starts at or after this position
+        if(start == UNKNOWN || start < position) {
+          Matcher matcher = this.matchers[r];
+          if(matcher == null) {
+            matcher = this.matchers[r] = this.group.parts[part].matchPattern().matcher(content);
+          } else if(start == UNKNOWN) {
+            matcher.reset(content);
+          }
+          start = this.nextStart[r] = matcher.find(position) ? matcher.start() : NONE;
+        }
+        if(start < bestStart || (start == bestStart && start != NONE && part < bestPart)) {
+          bestStart = start;
+          bestPart = part;
+          bestEnd = this.matchers[r].end();
+          bestRegex = r;
+        }
+      }
+
+      if(bestPart == NONE) {
+        this.position = content.length() + 1;
+        return null;
+      }
+      this.current = bestPart;
+      this.position = bestEnd == bestStart ? bestEnd + 1 : bestEnd;
+      return bestRegex == UNKNOWN ? new LiteralMatchResult(content, bestStart, bestEnd) : this.matchers[bestRegex];
+    }
+
+    @Override
+    @NonNull PatternReplacementResult shouldReplace(final @NonNull MatchResult result) {
+      final int part = this.current;
+      return this.group.parts[part].condition().shouldReplace(result, ++this.matchCount[part], this.replaceCount[part]);
+    }
+
+    @Override
+    @Nullable ComponentLike replacement(final @NonNull MatchResult result, final TextComponent.@NonNull Builder builder) {
+      return this.group.parts[this.current].replacement().apply(result, builder);
+    }
+
+    @Override
+    void replaced() {
+      this.replaceCount[this.current]++;
+    }
+
+    @Override
+    void stop() {
+      if(!this.stopped[this.current]) {
+        this.stopped[this.current] = true;
+        if(--this.remaining == 0) this.running = false;
+      }
+    }
+  }
+}
@@ -56,23 +56,25 @@ final class TextReplacementRenderer implements ComponentRenderer<TextReplacement
     // replace the component itself
     if(component instanceof TextComponent) {
       final String content = ((TextComponent) component).content();
-      final Matcher matcher = state.pattern.matcher(content);
+      state.reset(content);
       int replacedUntil = 0; // last index handled
-      while(matcher.find()) {
-        final PatternReplacementResult result = state.continuer.shouldReplace(matcher, ++state.matchCount, state.replaceCount);
+      MatchResult matcher;
+      while((matcher = state.find()) != null) {
+        final PatternReplacementResult result = state.shouldReplace(matcher);
         if(result == PatternReplacementResult.CONTINUE) {
           // ignore this replacement
           continue;
         } else if(result == PatternReplacementResult.STOP) {
           // end replacement
-          state.running = false;
-          break;
+          state.stop();
+          if(!state.running) break;
+          continue;
         }
 
         if(matcher.start() == 0) {
           // if we're a full match, modify the component directly
           if(matcher.end() == content.length()) {
-            final ComponentLike replacement = state.replacement.apply(matcher, Component.text().content(matcher.group())
+            final ComponentLike replacement = state.replacement(matcher, Component.text().content(matcher.group())
               .style(component.style()));
 
             modified = replacement == null ? Component.empty() : replacement.asComponent();
@@ -83,7 +85,7 @@ final class TextReplacementRenderer implements ComponentRenderer<TextReplacement
           } else {
             // otherwise, work on a child of the root node
             modified = Component.text("", component.style());
-            final ComponentLike child = state.replacement.apply(matcher, Component.text().content(matcher.group()));
+            final ComponentLike child = state.replacement(matcher, Component.text().content(matcher.group()));
             if(child != null) {
               if(children == null) {
                 children = new ArrayList<>(oldChildrenSize + 1);
@@ -101,12 +103,12 @@ final class TextReplacementRenderer implements ComponentRenderer<TextReplacement
           } else if(replacedUntil < matcher.start()) {
             children.add(Component.text(content.substring(replacedUntil, matcher.start())));
           }
-          final ComponentLike builder = state.replacement.apply(matcher, Component.text().content(matcher.group()));
+          final ComponentLike builder = state.replacement(matcher, Component.text().content(matcher.group()));
           if(builder != null) {
             children.add(builder.asComponent());
           }
         }
-        state.replaceCount++;
+        state.replaced();
         state.firstMatch = false;
         replacedUntil = matcher.end();
       }
@@ -126,7 +128,7 @@ final class TextReplacementRenderer implements ComponentRenderer<TextReplacement
       for(int i = 0, size = args.size(); i < size; i++) {
         final Component original = args.get(i);
         final Component replaced = this.render(original, state);
-        if(replaced != component) {
+        if(replaced != original) {
           if(newArgs == null) {
             newArgs = new ArrayList<>(size);
             if(i > 0) {
@@ -153,18 +155,13 @@ final class TextReplacementRenderer implements ComponentRenderer<TextReplacement
         }
       }
       // Children
-      boolean first = true;
       for(int i = 0; i < oldChildrenSize; i++) {
         final Component child = oldChildren.get(i);
         final Component replaced = this.render(child, state);
-        if(replaced != child) {
-          if(children == null) {
-            children = new ArrayList<>(oldChildrenSize);
-          }
-          if(first) {
-            children.addAll(oldChildren.subList(0, i));
-          }
-          first = false;
+        if(replaced != child && children == null) {
+          // unchanged children so far haven't been collected yet
+          children = new ArrayList<>(oldChildrenSize);
+          children.addAll(oldChildren.subList(0, i));
         }
         if(children != null) {
           children.add(replaced);
@@ -185,19 +182,150 @@ final class TextReplacementRenderer implements ComponentRenderer<TextReplacement
     return modified;
   }
 
-  static final class State {
-    final Pattern pattern;
+  /**
+   * The matches and replacements for a single pass over a component tree.
+   */
+  abstract static class State {
+    boolean running = true;
+    boolean firstMatch = true;
+
+    /**
+     * Starts matching against new content.
+     *
+     * @param content the content of a text component
+     */
+    abstract void reset(final @NonNull String content);
+
+    /**
+     * Finds the next match in the current content.
+     *
+     * @return the match, or {@code null} if there are no more
+     */
+    abstract @Nullable MatchResult find();
+
+    /**
+     * Tests if the last match found should be replaced.
+     *
+     * @param result the match
+     * @return the result
+     */
+    abstract @NonNull PatternReplacementResult shouldReplace(final @NonNull MatchResult result);
+
+    /**
+     * Creates the replacement for the last match found.
+     *
+     * @param result the match
+     * @param builder a builder holding the matched text
+     * @return the replacement
+     */
+    abstract @Nullable ComponentLike replacement(final @NonNull MatchResult result, final TextComponent.@NonNull Builder builder);
+
+    /**
+     * Records that the last match found was replaced.
+     */
+    abstract void replaced();
+
+    /**
+     * Stops replacing whatever produced the last match found.
+     *
+     * <p>Clears {@link #running} once nothing is left to replace.</p>
+     */
+    abstract void stop();
+  }
+
+  /**
+   * A single replacement, with its condition and counts.
+   */
+  abstract static class SingleState extends State {
     final BiFunction<MatchResult, TextComponent.Builder, @Nullable ComponentLike> replacement;
     final TextReplacementConfig.Condition continuer;
-    boolean running = true;
     int matchCount = 0;
     int replaceCount = 0;
-    boolean firstMatch = true;
 
-    State(final @NonNull Pattern pattern, final @NonNull BiFunction<MatchResult, TextComponent.Builder, @Nullable ComponentLike> replacement, final TextReplacementConfig.@NonNull Condition continuer) {
-      this.pattern = pattern;
+    SingleState(final @NonNull BiFunction<MatchResult, TextComponent.Builder, @Nullable ComponentLike> replacement, final TextReplacementConfig.@NonNull Condition continuer) {
       this.replacement = replacement;
       this.continuer = continuer;
     }
+
+    @Override
+    @NonNull PatternReplacementResult shouldReplace(final @NonNull MatchResult result) {
+      return this.continuer.shouldReplace(result, ++this.matchCount, this.replaceCount);
+    }
+
+    @Override
+    @Nullable ComponentLike replacement(final @NonNull MatchResult result, final TextComponent.@NonNull Builder builder) {
+      return this.replacement.apply(result, builder);
+    }
+
+    @Override
+    void replaced() {
+      this.replaceCount++;
+    }
+
+    @Override
+    void stop() {
+      this.running = false;
+    }
+  }
+
+  /**
+   * A single pattern, with a single replacement.
+   */
+  static final class PatternState extends SingleState {
+    final Pattern pattern;
+    private @Nullable Matcher matcher;
+
+    PatternState(final @NonNull Pattern pattern, final @NonNull BiFunction<MatchResult, TextComponent.Builder, @Nullable ComponentLike> replacement, final TextReplacementConfig.@NonNull Condition continuer) {
+      super(replacement, continuer);
+      this.pattern = pattern;
+    }
+
+    @Override
+    void reset(final @NonNull String content) {
+      // content is fully matched before any child is visited, so one matcher can be reused for the whole tree
+      if(this.matcher == null) {
+        this.matcher = this.pattern.matcher(content);
+      } else {
+        this.matcher.reset(content);
+      }
+    }
+
+    @Override
+    @Nullable MatchResult find() {
+      return this.matcher.find() ? this.matcher : null;
+    }
+  }
+
+  /**
+   * A single literal, with a single replacement, found without the regex engine.
+   */
+  static final class LiteralState extends SingleState {
+    final String literal;
+    private String content = "";
+    private int position;
+
+    LiteralState(final @NonNull String literal, final @NonNull BiFunction<MatchResult, TextComponent.Builder, @Nullable ComponentLike> replacement, final TextReplacementConfig.@NonNull Condition continuer) {
+      super(replacement, continuer);
+      this.literal = literal;
+    }
+
+    @Override
+    void reset(final @NonNull String content) {
+      this.content = content;
+      // content too short to hold the literal is never searched
+      this.position = content.length() < this.literal.length() ? -1 : 0;
+    }
+
+    @Override
+    @Nullable MatchResult find() {
+      if(this.position < 0) return null;
+      final int start = this.content.indexOf(this.literal, this.position);
+      if(start < 0) {
+        this.position = -1;
+        return null;
+      }
+      this.position = start + this.literal.length();
+      return new LiteralMatchResult(this.content, start, this.position);
+    }
   }
 }
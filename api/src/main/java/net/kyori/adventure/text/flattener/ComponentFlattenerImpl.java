@@ -23,8 +23,11 @@
  */
 package net.kyori.adventure.text.flattener;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -57,8 +60,6 @@ final class ComponentFlattenerImpl implements ComponentFlattener {
     .mapper(TextComponent.class, TextComponent::content)
     .build();
 
-  private static final int MAX_DEPTH = 512;
-
   private final Map<Class<?>, Function<?, String>> flatteners;
   private final Map<Class<?>, BiConsumer<?, Consumer<Component>>> complexFlatteners;
   private final ConcurrentMap<Class<?>, Handler> propagatedFlatteners = new ConcurrentHashMap<>();
@@ -72,33 +73,46 @@ final class ComponentFlattenerImpl implements ComponentFlattener {
 
   @Override
   public void flatten(final @NonNull Component input, final @NonNull FlattenerListener listener) {
-    this.flatten0(input, listener, 0);
-  }
-
-  private void flatten0(final @NonNull Component input, final @NonNull FlattenerListener listener, final int depth) {
     requireNonNull(input, "input");
     requireNonNull(listener, "listener");
     if(input == Component.empty()) return;
-    if(depth > MAX_DEPTH) {
-      throw new IllegalStateException("Exceeded maximum depth of " + MAX_DEPTH + " while attempting to flatten components!");
-    }
-
-    final @Nullable Handler flattener = this.flattener(input);
-    final Style inputStyle = input.style();
 
-    listener.pushStyle(inputStyle);
+    // an explicit stack rather than recursion, so trees of any depth can be flattened
+    final Stack stack = new Stack();
     try {
-      if(flattener != null) {
-        flattener.handle(input, listener, depth + 1);
-      }
-
-      if(!input.children().isEmpty()) {
-        for(final Component child : input.children()) {
-          this.flatten0(child, listener, depth + 1);
+      this.enter(input, listener, stack);
+      while(stack.size > 0) {
+        final Frame frame = stack.frames[stack.size - 1];
+        final Component next = frame.next();
+        if(next == null) {
+          stack.size--;
+          listener.popStyle(frame.style);
+        } else if(next != Component.empty()) {
+          this.enter(requireNonNull(next, "input"), listener, stack);
         }
       }
     } finally {
-      listener.popStyle(inputStyle);
+      // only when failing part way, so every style pushed is still popped
+      while(stack.size > 0) {
+        listener.popStyle(stack.frames[--stack.size].style);
+      }
+    }
+  }
+
+  private void enter(final @NonNull Component input, final @NonNull FlattenerListener listener, final @NonNull Stack stack) {
+    final Style inputStyle = input.style();
+    listener.pushStyle(inputStyle);
+    final Frame frame = stack.push(input, inputStyle);
+
+    final @Nullable Handler flattener = this.flattener(input);
+    if(flattener == null) return;
+    if(flattener.mapper != null) {
+      listener.component(flattener.mapper.apply(input));
+    } else if(flattener.complexMapper != null) {
+      // components provided by a complex mapper are flattened before the children
+      frame.provided = stack.collect(flattener.complexMapper, input);
+    } else {
+      this.unknownHandler.apply(input);
     }
   }
 
@@ -107,21 +121,21 @@ final class ComponentFlattenerImpl implements ComponentFlattener {
     final Handler flattener = this.propagatedFlatteners.computeIfAbsent(test.getClass(), key -> {
       // direct flatteners (just return strings)
       final @Nullable Function<Component, String> value = (Function<Component, String>) this.flatteners.get(key);
-      if(value != null) return (component, listener, depth) -> listener.component(value.apply(component));
+      if(value != null) return new Handler(value, null);
 
       for(final Map.Entry<Class<?>, Function<?, String>> entry : this.flatteners.entrySet()) {
         if(entry.getKey().isAssignableFrom(key)) {
-          return (component, listener, depth) -> listener.component(((Function<Component, String>) entry.getValue()).apply(component));
+          return new Handler((Function<Component, String>) entry.getValue(), null);
         }
       }
 
       // complex flatteners (these provide extra components)
       final @Nullable BiConsumer<Component, Consumer<Component>> complexValue = (BiConsumer<Component, Consumer<Component>>) this.complexFlatteners.get(key);
-      if(complexValue != null) return (component, listener, depth) -> complexValue.accept(component, c -> this.flatten0(c, listener, depth));
+      if(complexValue != null) return new Handler(null, complexValue);
 
       for(final Map.Entry<Class<?>, BiConsumer<?, Consumer<Component>>> entry : this.complexFlatteners.entrySet()) {
         if(entry.getKey().isAssignableFrom(key)) {
-          return (component, listener, depth) -> ((BiConsumer<Component, Consumer<Component>>) entry.getValue()).accept(component, c -> this.flatten0(c, listener, depth));
+          return new Handler(null, (BiConsumer<Component, Consumer<Component>>) entry.getValue());
         }
       }
 
@@ -129,7 +143,7 @@ final class ComponentFlattenerImpl implements ComponentFlattener {
     });
 
     if(flattener == Handler.NONE) {
-      return this.unknownHandler == null ? null : (component, listener, depth) -> this.unknownHandler.apply(component);
+      return this.unknownHandler == null ? null : Handler.UNKNOWN;
     } else {
       return flattener;
     }
@@ -140,12 +154,76 @@ final class ComponentFlattenerImpl implements ComponentFlattener {
     return new BuilderImpl(this.flatteners, this.complexFlatteners, this.unknownHandler);
   }
 
-  // A function that allows nesting other flatten operations
-  @FunctionalInterface
-  interface Handler {
-    Handler NONE = (input, listener, depth) -> {};
+  // How to flatten one type of component: by mapping it to a string, by providing other components, or neither
+  static final class Handler {
+    static final Handler NONE = new Handler(null, null);
+    static final Handler UNKNOWN = new Handler(null, null);
 
-    void handle(final Component input, final FlattenerListener listener, final int depth);
+    final @Nullable Function<Component, String> mapper;
+    final @Nullable BiConsumer<Component, Consumer<Component>> complexMapper;
+
+    Handler(final @Nullable Function<Component, String> mapper, final @Nullable BiConsumer<Component, Consumer<Component>> complexMapper) {
+      this.mapper = mapper;
+      this.complexMapper = complexMapper;
+    }
+  }
+
+  // A component being flattened, and how far through the components it provided and its children
+  static final class Frame {
+    Style style;
+    List<Component> children;
+    int childIndex;
+    @Nullable List<Component> provided;
+    int providedIndex;
+
+    @Nullable Component next() {
+      if(this.provided != null) {
+        if(this.providedIndex < this.provided.size()) return this.provided.get(this.providedIndex++);
+        this.provided = null;
+      }
+      if(this.childIndex < this.children.size()) return this.children.get(this.childIndex++);
+      return null;
+    }
+  }
+
+  // The frames of one flatten, reused as the tree is walked
+  static final class Stack implements Consumer<Component> {
+    Frame[] frames = new Frame[16];
+    int size;
+    private @Nullable List<Component> collecting;
+
+    Frame push(final Component component, final Style style) {
+      if(this.size == this.frames.length) {
+        this.frames = Arrays.copyOf(this.frames, this.size * 2);
+      }
+      Frame frame = this.frames[this.size];
+      if(frame == null) {
+        frame = this.frames[this.size] = new Frame();
+      }
+      this.size++;
+      frame.style = style;
+      frame.children = component.children();
+      frame.childIndex = 0;
+      frame.provided = null;
+      frame.providedIndex = 0;
+      return frame;
+    }
+
+    List<Component> collect(final BiConsumer<Component, Consumer<Component>> complexMapper, final Component component) {
+      final List<Component> provided = this.collecting = new ArrayList<>();
+      try {
+        complexMapper.accept(component, this);
+      } finally {
+        this.collecting = null;
+      }
+      return provided;
+    }
+
+    @Override
+    public void accept(final Component component) {
+      if(this.collecting == null) throw new IllegalStateException("Components can only be provided while a complex mapper is running");
+      this.collecting.add(component);
+    }
   }
 
   static final class BuilderImpl implements Builder {
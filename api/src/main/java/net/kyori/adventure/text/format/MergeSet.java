@@ -0,0 +1,148 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.format;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable set of {@link Style.Merge merge parts}, backed by a bit mask.
+ *
+ * <p>There are only as many possible sets as there are masks, so every one is created up front and shared.</p>
+ */
+final class MergeSet extends AbstractSet<Style.Merge> {
+  // Style.Merge creates its sets through this class while it is initialized, so nothing here may touch it before then.
+  // The masks follow the declaration order of Style.Merge.
+  static final int COLOR = 1;
+  static final int DECORATIONS = 1 << 1;
+  static final int EVENTS = 1 << 2;
+  static final int INSERTION = 1 << 3;
+  static final int FONT = 1 << 4;
+  static final int ALL = COLOR | DECORATIONS | EVENTS | INSERTION | FONT;
+  private static final MergeSet[] SETS = new MergeSet[ALL + 1];
+
+  static {
+    for(int mask = 0; mask <= ALL; mask++) {
+      SETS[mask] = new MergeSet(mask);
+    }
+  }
+
+  private final int mask;
+
+  private MergeSet(final int mask) {
+    this.mask = mask;
+  }
+
+  static @NonNull MergeSet of(final Style.Merge@NonNull... merges) {
+    int mask = 0;
+    for(int i = 0, length = merges.length; i < length; i++) {
+      mask |= bit(merges[i]);
+    }
+    return SETS[mask];
+  }
+
+  /**
+   * Gets the mask of a set of merge parts.
+   *
+   * @param merges the merge parts
+   * @return the mask
+   */
+  static int mask(final @NonNull Set<Style.Merge> merges) {
+    if(merges instanceof MergeSet) return ((MergeSet) merges).mask;
+    int mask = 0;
+    for(final Style.Merge merge : merges) {
+      mask |= bit(merge);
+    }
+    return mask;
+  }
+
+  private static int bit(final Style.@NonNull Merge merge) {
+    return 1 << merge.ordinal();
+  }
+
+  @Override
+  public boolean contains(final @Nullable Object o) {
+    return o instanceof Style.Merge && (this.mask & bit((Style.Merge) o)) != 0;
+  }
+
+  @Override
+  public boolean containsAll(final @NonNull Collection<?> c) {
+    if(c instanceof MergeSet) {
+      final int other = ((MergeSet) c).mask;
+      return (this.mask & other) == other;
+    }
+    return super.containsAll(c);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.mask == 0;
+  }
+
+  @Override
+  public int size() {
+    return Integer.bitCount(this.mask);
+  }
+
+  @Override
+  public @NonNull Iterator<Style.Merge> iterator() {
+    return new Iterator<Style.Merge>() {
+      private int remaining = MergeSet.this.mask;
+
+      @Override
+      public boolean hasNext() {
+        return this.remaining != 0;
+      }
+
+      @Override
+      public Style.Merge next() {
+        if(this.remaining == 0) throw new NoSuchElementException();
+        final int index = Integer.numberOfTrailingZeros(this.remaining);
+        this.remaining &= this.remaining - 1;
+        return Merges.VALUES[index];
+      }
+    };
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if(this == other) return true;
+    if(other instanceof MergeSet) return false; // every mask has exactly one instance
+    return super.equals(other);
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  private static final class Merges {
+    static final Style.Merge[] VALUES = Style.Merge.values();
+  }
+}
@@ -160,6 +160,13 @@ public final class NamedTextColor implements TextColor {
    * @since 4.0.0
    */
   public static final Index<String, NamedTextColor> NAMES = Index.create(constant -> constant.name, VALUES);
+  private static final int ALL_CANDIDATES = (1 << 16) - 1;
+  /*
+   * RGB space is split into 32x32x32 cells of 8x8x8 colours. For each cell, we lazily record a mask of the
+   * VALUES indices that are nearest to at least one colour in the cell (0 until computed). Most cells have a
+   * single candidate; the rest only need to compare against their few candidates to get the exact answer.
+   */
+  private static final short[] NEAREST_CANDIDATES = new short[32 * 32 * 32];
 
   /**
    * Gets the named color exactly matching the provided color.
@@ -202,13 +209,79 @@ public final class NamedTextColor implements TextColor {
 
     requireNonNull(any, "color");
 
+    if(!(any instanceof TextColorImpl)) {
+      // other implementations may have their own idea of HSV
+      final HSVLike hsv = any.asHSV();
+      return VALUES.get(nearestIndexHSV(hsv.h(), hsv.s(), hsv.v(), ALL_CANDIDATES));
+    }
+
+    final int value = any.value();
+    final int cell = ((value >> 19) & 0x1f) << 10 | ((value >> 11) & 0x1f) << 5 | ((value >> 3) & 0x1f);
+    int candidates = NEAREST_CANDIDATES[cell] & 0xffff;
+    if(candidates == 0) {
+      // racy, but every thread computes the same mask
+      candidates = candidates(cell);
+      NEAREST_CANDIDATES[cell] = (short) candidates;
+    }
+    if((candidates & (candidates - 1)) == 0) {
+      return VALUES.get(Integer.numberOfTrailingZeros(candidates));
+    }
+    return VALUES.get(nearestIndex((value >> 16) & 0xff, (value >> 8) & 0xff, value & 0xff, candidates));
+  }
+
+  private static int candidates(final int cell) {
+    final int red = (cell >> 10) << 3;
+    final int green = ((cell >> 5) & 0x1f) << 3;
+    final int blue = (cell & 0x1f) << 3;
+    int candidates = 0;
+    for(int r = red; r < red + 8; r++) {
+      for(int g = green; g < green + 8; g++) {
+        for(int b = blue; b < blue + 8; b++) {
+          candidates |= 1 << nearestIndex(r, g, b, ALL_CANDIDATES);
+        }
+      }
+    }
+    return candidates;
+  }
+
+  // the same conversion as HSVLike.fromRGB, without creating the HSVLike
+  private static int nearestIndex(final int red, final int green, final int blue, final int candidates) {
+    final float r = red / 255.0f;
+    final float g = green / 255.0f;
+    final float b = blue / 255.0f;
+
+    final float min = Math.min(r, Math.min(g, b));
+    final float max = Math.max(r, Math.max(g, b));
+    final float delta = max - min;
+
+    final float s = max != 0 ? delta / max : 0;
+    if(s == 0) {
+      return nearestIndexHSV(0, s, max, candidates);
+    }
+
+    float h;
+    if(r == max) {
+      h = (g - b) / delta;
+    } else if(g == max) {
+      h = 2 + (b - r) / delta;
+    } else {
+      h = 4 + (r - g) / delta;
+    }
+    h *= 60;
+    if(h < 0) {
+      h += 360;
+    }
+    return nearestIndexHSV(h / 360.0f, s, max, candidates);
+  }
+
+  private static int nearestIndexHSV(final float h, final float s, final float v, final int candidates) {
     float matchedDistance = Float.MAX_VALUE;
-    NamedTextColor match = VALUES.get(0);
+    int match = 0;
     for(int i = 0, length = VALUES.size(); i < length; i++) {
-      final NamedTextColor potential = VALUES.get(i);
-      final float distance = distance(any.asHSV(), potential.asHSV());
+      if((candidates & (1 << i)) == 0) continue;
+      final float distance = distance(h, s, v, VALUES.get(i).hsv);
       if(distance < matchedDistance) {
-        match = potential;
+        match = i;
         matchedDistance = distance;
       }
       if(distance == 0) {
@@ -223,14 +296,17 @@ public final class NamedTextColor implements TextColor {
    *
    * <p>This value is unitless and should only be used to compare with other text colours.</p>
    *
+   * @param h hue of this colour
+   * @param s saturation of this colour
+   * @param v value of this colour
    * @param other colour to compare to
    * @return distance metric
    */
-  private static float distance(final @NonNull HSVLike self, final @NonNull HSVLike other) {
+  private static float distance(final float h, final float s, final float v, final @NonNull HSVLike other) {
     // weight hue more heavily than saturation and brightness. kind of magic numbers, but is fine for our use case of downsampling to a set of colors
-    final float hueDistance = 3 * Math.abs(self.h() - other.h());
-    final float saturationDiff = self.s() - other.s();
-    final float valueDiff = self.v() - other.v();
+    final float hueDistance = 3 * Math.abs(h - other.h());
+    final float saturationDiff = s - other.s();
+    final float valueDiff = v - other.v();
     return hueDistance * hueDistance + saturationDiff * saturationDiff + valueDiff * valueDiff;
   }
 
@@ -34,7 +34,6 @@ import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.event.HoverEventSource;
 import net.kyori.adventure.util.Buildable;
-import net.kyori.adventure.util.MonkeyBars;
 import net.kyori.examination.Examinable;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -108,7 +107,7 @@ public interface Style extends Buildable<Style, Style.Builder>, Examinable {
    */
   static @NonNull Style style(final @Nullable TextColor color) {
     if(color == null) return empty();
-    return new StyleImpl(null, color, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, null, null, null);
+    return StyleImpl.create(null, color, 0, null, null, null);
   }
 
   /**
@@ -577,11 +576,7 @@ public interface Style extends Buildable<Style, Style.Builder>, Examinable {
      * @since 4.0.0
      */
     public static @Unmodifiable @NonNull Set<Merge> of(final Merge@NonNull... merges) {
-      return MonkeyBars.enumSet(Merge.class, merges);
-    }
-
-    static boolean hasAll(final @NonNull Set<Merge> merges) {
-      return merges.size() == ALL.size();
+      return MergeSet.of(merges);
     }
 
     /**
@@ -23,6 +23,7 @@
  */
 package net.kyori.adventure.text.format;
 
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
@@ -40,15 +41,21 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import static java.util.Objects.requireNonNull;
 
 final class StyleImpl implements Style {
-  static final StyleImpl EMPTY = new StyleImpl(null, null, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, null, null, null);
+  static final StyleImpl EMPTY = new StyleImpl(null, null, 0, null, null, null);
   private static final TextDecoration[] DECORATIONS = TextDecoration.values();
+  private static final TextDecoration.State[] STATES = TextDecoration.State.values();
+  // each decoration occupies two bits, at twice its ordinal, holding the ordinal of its state - NOT_SET is zero
+  private static final int DECORATION_SHIFT = 2;
+  private static final int DECORATION_MASK = 0b11;
+  private static final int DECORATION_LOW_BITS = 0b01_01_01_01_01;
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static final Map<TextDecoration, TextDecoration.State>[] DECORATION_MAPS = new Map[1 << (DECORATION_SHIFT * DECORATIONS.length)];
+  // a small direct-mapped pool for styles carrying nothing but a colour and decorations, by far the most common kind
+  private static final int POOL_BITS = 9;
+  private static final StyleImpl[] POOL = new StyleImpl[1 << POOL_BITS];
   private final @Nullable Key font;
   private final @Nullable TextColor color;
-  private final TextDecoration.State obfuscated;
-  private final TextDecoration.State bold;
-  private final TextDecoration.State strikethrough;
-  private final TextDecoration.State underlined;
-  private final TextDecoration.State italic;
+  private final int decorations;
   private final @Nullable ClickEvent clickEvent;
   private final @Nullable HoverEvent<?> hoverEvent;
   private final @Nullable String insertion;
@@ -60,25 +67,77 @@ final class StyleImpl implements Style {
     }
   }
 
-  StyleImpl(
+  static @NonNull StyleImpl create(
     final @Nullable Key font,
     final @Nullable TextColor color,
-    final TextDecoration.State obfuscated,
-    final TextDecoration.State bold,
-    final TextDecoration.State strikethrough,
-    final TextDecoration.State underlined,
-    final TextDecoration.State italic,
+    final int decorations,
+    final @Nullable ClickEvent clickEvent,
+    final @Nullable HoverEvent<?> hoverEvent,
+    final @Nullable String insertion
+  ) {
+    if(font == null && clickEvent == null && hoverEvent == null && insertion == null) {
+      if(color == null && decorations == 0) return EMPTY;
+      return intern(color, decorations);
+    }
+    return new StyleImpl(font, color, decorations, clickEvent, hoverEvent, insertion);
+  }
+
+  private static @NonNull StyleImpl intern(final @Nullable TextColor color, final int decorations) {
+    final int hash = (31 * Objects.hashCode(color)) + decorations;
+    final int slot = (hash * 0x9e3779b9) >>> (Integer.SIZE - POOL_BITS);
+    final StyleImpl pooled = POOL[slot];
+    if(pooled != null && pooled.decorations == decorations && Objects.equals(pooled.color, color)) {
+      return pooled;
+    }
+    // racy, but styles are immutable - at worst a slot is overwritten and some other style allocated again
+    final StyleImpl style = new StyleImpl(null, color, decorations, null, null, null);
+    POOL[slot] = style;
+    return style;
+  }
+
+  static TextDecoration.@NonNull State state(final int decorations, final @NonNull TextDecoration decoration) {
+    return STATES[(decorations >>> (decoration.ordinal() * DECORATION_SHIFT)) & DECORATION_MASK];
+  }
+
+  static int state(final int decorations, final @NonNull TextDecoration decoration, final TextDecoration.@NonNull State state) {
+    final int shift = decoration.ordinal() * DECORATION_SHIFT;
+    return (decorations & ~(DECORATION_MASK << shift)) | (state.ordinal() << shift);
+  }
+
+  static int decorations(final @NonNull Style style) {
+    if(style instanceof StyleImpl) return ((StyleImpl) style).decorations;
+    int decorations = 0;
+    for(int i = 0, length = DECORATIONS.length; i < length; i++) {
+      decorations = state(decorations, DECORATIONS[i], style.decoration(DECORATIONS[i]));
+    }
+    return decorations;
+  }
+
+  // both bits of every decoration slot that is not NOT_SET
+  private static int presentBits(final int decorations) {
+    final int low = (decorations | (decorations >>> 1)) & DECORATION_LOW_BITS;
+    return low | (low << 1);
+  }
+
+  static int mergeDecorationsAlways(final int target, final int source) {
+    return (target & ~presentBits(source)) | source;
+  }
+
+  static int mergeDecorationsIfAbsent(final int target, final int source) {
+    return target | (source & ~presentBits(target));
+  }
+
+  private StyleImpl(
+    final @Nullable Key font,
+    final @Nullable TextColor color,
+    final int decorations,
     final @Nullable ClickEvent clickEvent,
     final @Nullable HoverEvent<?> hoverEvent,
     final @Nullable String insertion
   ) {
     this.font = font;
     this.color = color;
-    this.obfuscated = obfuscated;
-    this.bold = bold;
-    this.strikethrough = strikethrough;
-    this.underlined = underlined;
-    this.italic = italic;
+    this.decorations = decorations;
     this.clickEvent = clickEvent;
     this.hoverEvent = hoverEvent;
     this.insertion = insertion;
@@ -92,7 +151,7 @@ final class StyleImpl implements Style {
   @Override
   public @NonNull Style font(final @Nullable Key font) {
     if(Objects.equals(this.font, font)) return this;
-    return new StyleImpl(font, this.color, this.obfuscated, this.bold, this.strikethrough, this.underlined, this.italic, this.clickEvent, this.hoverEvent, this.insertion);
+    return create(font, this.color, this.decorations, this.clickEvent, this.hoverEvent, this.insertion);
   }
 
   @Override
@@ -103,7 +162,7 @@ final class StyleImpl implements Style {
   @Override
   public @NonNull Style color(final @Nullable TextColor color) {
     if(Objects.equals(this.color, color)) return this;
-    return new StyleImpl(this.font, color, this.obfuscated, this.bold, this.strikethrough, this.underlined, this.italic, this.clickEvent, this.hoverEvent, this.insertion);
+    return create(this.font, color, this.decorations, this.clickEvent, this.hoverEvent, this.insertion);
   }
 
   @Override
@@ -116,56 +175,44 @@ final class StyleImpl implements Style {
 
   @Override
   public TextDecoration.@NonNull State decoration(final @NonNull TextDecoration decoration) {
-    if(decoration == TextDecoration.BOLD) {
-      return this.bold;
-    } else if(decoration == TextDecoration.ITALIC) {
-      return this.italic;
-    } else if(decoration == TextDecoration.UNDERLINED) {
-      return this.underlined;
-    } else if(decoration == TextDecoration.STRIKETHROUGH) {
-      return this.strikethrough;
-    } else if(decoration == TextDecoration.OBFUSCATED) {
-      return this.obfuscated;
-    }
-    throw new IllegalArgumentException(String.format("unknown decoration '%s'", decoration));
+    requireNonNull(decoration, "decoration");
+    return state(this.decorations, decoration);
   }
 
   @Override
   public @NonNull Style decoration(final @NonNull TextDecoration decoration, final TextDecoration.@NonNull State state) {
+    requireNonNull(decoration, "decoration");
     requireNonNull(state, "state");
-    if(decoration == TextDecoration.BOLD) {
-      return new StyleImpl(this.font, this.color, this.obfuscated, state, this.strikethrough, this.underlined, this.italic, this.clickEvent, this.hoverEvent, this.insertion);
-    } else if(decoration == TextDecoration.ITALIC) {
-      return new StyleImpl(this.font, this.color, this.obfuscated, this.bold, this.strikethrough, this.underlined, state, this.clickEvent, this.hoverEvent, this.insertion);
-    } else if(decoration == TextDecoration.UNDERLINED) {
-      return new StyleImpl(this.font, this.color, this.obfuscated, this.bold, this.strikethrough, state, this.italic, this.clickEvent, this.hoverEvent, this.insertion);
-    } else if(decoration == TextDecoration.STRIKETHROUGH) {
-      return new StyleImpl(this.font, this.color, this.obfuscated, this.bold, state, this.underlined, this.italic, this.clickEvent, this.hoverEvent, this.insertion);
-    } else if(decoration == TextDecoration.OBFUSCATED) {
-      return new StyleImpl(this.font, this.color, state, this.bold, this.strikethrough, this.underlined, this.italic, this.clickEvent, this.hoverEvent, this.insertion);
-    }
-    throw new IllegalArgumentException(String.format("unknown decoration '%s'", decoration));
+    final int decorations = state(this.decorations, decoration, state);
+    if(decorations == this.decorations) return this;
+    return create(this.font, this.color, decorations, this.clickEvent, this.hoverEvent, this.insertion);
   }
 
   @Override
   public @NonNull Map<TextDecoration, TextDecoration.State> decorations() {
-    final Map<TextDecoration, TextDecoration.State> decorations = new EnumMap<>(TextDecoration.class);
-    for(int i = 0, length = DECORATIONS.length; i < length; i++) {
-      final TextDecoration decoration = DECORATIONS[i];
-      final TextDecoration.State value = this.decoration(decoration);
-      decorations.put(decoration, value);
+    Map<TextDecoration, TextDecoration.State> decorations = DECORATION_MAPS[this.decorations];
+    if(decorations == null) {
+      final Map<TextDecoration, TextDecoration.State> map = new EnumMap<>(TextDecoration.class);
+      for(int i = 0, length = DECORATIONS.length; i < length; i++) {
+        final TextDecoration decoration = DECORATIONS[i];
+        map.put(decoration, state(this.decorations, decoration));
+      }
+      decorations = Collections.unmodifiableMap(map);
+      DECORATION_MAPS[this.decorations] = decorations;
     }
     return decorations;
   }
 
   @Override
   public @NonNull Style decorations(final @NonNull Map<TextDecoration, TextDecoration.State> decorations) {
-    final TextDecoration.State obfuscated = decorations.getOrDefault(TextDecoration.OBFUSCATED, this.obfuscated);
-    final TextDecoration.State bold = decorations.getOrDefault(TextDecoration.BOLD, this.bold);
-    final TextDecoration.State strikethrough = decorations.getOrDefault(TextDecoration.STRIKETHROUGH, this.strikethrough);
-    final TextDecoration.State underlined = decorations.getOrDefault(TextDecoration.UNDERLINED, this.underlined);
-    final TextDecoration.State italic = decorations.getOrDefault(TextDecoration.ITALIC, this.italic);
-    return new StyleImpl(this.font, this.color, obfuscated, bold, strikethrough, underlined, italic, this.clickEvent, this.hoverEvent, this.insertion);
+    int packed = this.decorations;
+    for(int i = 0, length = DECORATIONS.length; i < length; i++) {
+      final TextDecoration decoration = DECORATIONS[i];
+      final TextDecoration.State state = decorations.get(decoration);
+      if(state != null) packed = state(packed, decoration, state);
+    }
+    if(packed == this.decorations) return this;
+    return create(this.font, this.color, packed, this.clickEvent, this.hoverEvent, this.insertion);
   }
 
   @Override
@@ -175,7 +222,8 @@ final class StyleImpl implements Style {
 
   @Override
   public @NonNull Style clickEvent(final @Nullable ClickEvent event) {
-    return new StyleImpl(this.font, this.color, this.obfuscated, this.bold, this.strikethrough, this.underlined, this.italic, event, this.hoverEvent, this.insertion);
+    if(Objects.equals(this.clickEvent, event)) return this;
+    return create(this.font, this.color, this.decorations, event, this.hoverEvent, this.insertion);
   }
 
   @Override
@@ -185,7 +233,9 @@ final class StyleImpl implements Style {
 
   @Override
   public @NonNull Style hoverEvent(final @Nullable HoverEventSource<?> source) {
-    return new StyleImpl(this.font, this.color, this.obfuscated, this.bold, this.strikethrough, this.underlined, this.italic, this.clickEvent, HoverEventSource.unbox(source), this.insertion);
+    final HoverEvent<?> event = HoverEventSource.unbox(source);
+    if(Objects.equals(this.hoverEvent, event)) return this;
+    return create(this.font, this.color, this.decorations, this.clickEvent, event, this.insertion);
   }
 
   @Override
@@ -196,25 +246,68 @@ final class StyleImpl implements Style {
   @Override
   public @NonNull Style insertion(final @Nullable String insertion) {
     if(Objects.equals(this.insertion, insertion)) return this;
-    return new StyleImpl(this.font, this.color, this.obfuscated, this.bold, this.strikethrough, this.underlined, this.italic, this.clickEvent, this.hoverEvent, insertion);
+    return create(this.font, this.color, this.decorations, this.clickEvent, this.hoverEvent, insertion);
   }
 
   @Override
   public @NonNull Style merge(final @NonNull Style that, final Merge.@NonNull Strategy strategy, final @NonNull Set<Merge> merges) {
-    if(that.isEmpty() || strategy == Merge.Strategy.NEVER || merges.isEmpty()) {
+    final int mask = MergeSet.mask(merges);
+    if(that.isEmpty() || strategy == Merge.Strategy.NEVER || mask == 0) {
       // nothing to merge
       return this;
     }
 
-    if(this.isEmpty() && Merge.hasAll(merges)) {
+    if(this.isEmpty() && mask == MergeSet.ALL) {
       // if the current style is empty and all merge types have been requested
       // we can just return the other style instead of trying to merge
       return that;
     }
 
-    final Builder builder = this.toBuilder();
-    builder.merge(that, strategy, merges);
-    return builder.build();
+    // resolve every field up front, and only create a style if something actually changed
+    final boolean always = strategy == Merge.Strategy.ALWAYS;
+    TextColor color = this.color;
+    if((mask & MergeSet.COLOR) != 0) {
+      final TextColor thatColor = that.color();
+      if(thatColor != null && (always || color == null)) color = thatColor;
+    }
+
+    int decorations = this.decorations;
+    if((mask & MergeSet.DECORATIONS) != 0) {
+      final int thatDecorations = decorations(that);
+      decorations = always ? mergeDecorationsAlways(decorations, thatDecorations) : mergeDecorationsIfAbsent(decorations, thatDecorations);
+    }
+
+    ClickEvent clickEvent = this.clickEvent;
+    HoverEvent<?> hoverEvent = this.hoverEvent;
+    if((mask & MergeSet.EVENTS) != 0) {
+      final ClickEvent thatClickEvent = that.clickEvent();
+      if(thatClickEvent != null && (always || clickEvent == null)) clickEvent = thatClickEvent;
+      final HoverEvent<?> thatHoverEvent = that.hoverEvent();
+      if(thatHoverEvent != null && (always || hoverEvent == null)) hoverEvent = thatHoverEvent;
+    }
+
+    String insertion = this.insertion;
+    if((mask & MergeSet.INSERTION) != 0) {
+      final String thatInsertion = that.insertion();
+      if(thatInsertion != null && (always || insertion == null)) insertion = thatInsertion;
+    }
+
+    Key font = this.font;
+    if((mask & MergeSet.FONT) != 0) {
+      final Key thatFont = that.font();
+      if(thatFont != null && (always || font == null)) font = thatFont;
+    }
+
+    if(color == this.color && decorations == this.decorations && clickEvent == this.clickEvent && hoverEvent == this.hoverEvent && insertion == this.insertion && font == this.font) {
+      return this;
+    }
+    if(that instanceof StyleImpl) {
+      final StyleImpl other = (StyleImpl) that;
+      if(color == other.color && decorations == other.decorations && clickEvent == other.clickEvent && hoverEvent == other.hoverEvent && insertion == other.insertion && font == other.font) {
+        return other;
+      }
+    }
+    return create(font, color, decorations, clickEvent, hoverEvent, insertion);
   }
 
   @Override
@@ -236,11 +329,11 @@ final class StyleImpl implements Style {
   public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
     return Stream.of(
       ExaminableProperty.of("color", this.color),
-      ExaminableProperty.of("obfuscated", this.obfuscated),
-      ExaminableProperty.of("bold", this.bold),
-      ExaminableProperty.of("strikethrough", this.strikethrough),
-      ExaminableProperty.of("underlined", this.underlined),
-      ExaminableProperty.of("italic", this.italic),
+      ExaminableProperty.of("obfuscated", state(this.decorations, TextDecoration.OBFUSCATED)),
+      ExaminableProperty.of("bold", state(this.decorations, TextDecoration.BOLD)),
+      ExaminableProperty.of("strikethrough", state(this.decorations, TextDecoration.STRIKETHROUGH)),
+      ExaminableProperty.of("underlined", state(this.decorations, TextDecoration.UNDERLINED)),
+      ExaminableProperty.of("italic", state(this.decorations, TextDecoration.ITALIC)),
       ExaminableProperty.of("clickEvent", this.clickEvent),
       ExaminableProperty.of("hoverEvent", this.hoverEvent),
       ExaminableProperty.of("insertion", this.insertion),
@@ -258,12 +351,8 @@ final class StyleImpl implements Style {
     if(this == other) return true;
     if(!(other instanceof StyleImpl)) return false;
     final StyleImpl that = (StyleImpl) other;
-    return Objects.equals(this.color, that.color)
-      && this.obfuscated == that.obfuscated
-      && this.bold == that.bold
-      && this.strikethrough == that.strikethrough
-      && this.underlined == that.underlined
-      && this.italic == that.italic
+    return this.decorations == that.decorations
+      && Objects.equals(this.color, that.color)
       && Objects.equals(this.clickEvent, that.clickEvent)
       && Objects.equals(this.hoverEvent, that.hoverEvent)
       && Objects.equals(this.insertion, that.insertion)
@@ -273,11 +362,7 @@ final class StyleImpl implements Style {
   @Override
   public int hashCode() {
     int result = Objects.hashCode(this.color);
-    result = (31 * result) + this.obfuscated.hashCode();
-    result = (31 * result) + this.bold.hashCode();
-    result = (31 * result) + this.strikethrough.hashCode();
-    result = (31 * result) + this.underlined.hashCode();
-    result = (31 * result) + this.italic.hashCode();
+    result = (31 * result) + this.decorations;
     result = (31 * result) + Objects.hashCode(this.clickEvent);
     result = (31 * result) + Objects.hashCode(this.hoverEvent);
     result = (31 * result) + Objects.hashCode(this.insertion);
@@ -288,11 +373,7 @@ final class StyleImpl implements Style {
   static final class BuilderImpl implements Builder {
     @Nullable Key font;
     @Nullable TextColor color;
-    TextDecoration.State obfuscated = TextDecoration.State.NOT_SET;
-    TextDecoration.State bold = TextDecoration.State.NOT_SET;
-    TextDecoration.State strikethrough = TextDecoration.State.NOT_SET;
-    TextDecoration.State underlined = TextDecoration.State.NOT_SET;
-    TextDecoration.State italic = TextDecoration.State.NOT_SET;
+    int decorations;
     @Nullable ClickEvent clickEvent;
     @Nullable HoverEvent<?> hoverEvent;
     @Nullable String insertion;
@@ -302,11 +383,7 @@ final class StyleImpl implements Style {
 
     BuilderImpl(final @NonNull StyleImpl style) {
       this.color = style.color;
-      this.obfuscated = style.obfuscated;
-      this.bold = style.bold;
-      this.strikethrough = style.strikethrough;
-      this.underlined = style.underlined;
-      this.italic = style.italic;
+      this.decorations = style.decorations;
       this.clickEvent = style.clickEvent;
       this.hoverEvent = style.hoverEvent;
       this.insertion = style.insertion;
@@ -348,24 +425,10 @@ final class StyleImpl implements Style {
 
     @Override
     public @NonNull Builder decoration(final @NonNull TextDecoration decoration, final TextDecoration.@NonNull State state) {
+      requireNonNull(decoration, "decoration");
       requireNonNull(state, "state");
-      if(decoration == TextDecoration.BOLD) {
-        this.bold = state;
-        return this;
-      } else if(decoration == TextDecoration.ITALIC) {
-        this.italic = state;
-        return this;
-      } else if(decoration == TextDecoration.UNDERLINED) {
-        this.underlined = state;
-        return this;
-      } else if(decoration == TextDecoration.STRIKETHROUGH) {
-        this.strikethrough = state;
-        return this;
-      } else if(decoration == TextDecoration.OBFUSCATED) {
-        this.obfuscated = state;
-        return this;
-      }
-      throw new IllegalArgumentException(String.format("unknown decoration '%s'", decoration));
+      this.decorations = state(this.decorations, decoration, state);
+      return this;
     }
 
     @Override
@@ -401,11 +464,7 @@ final class StyleImpl implements Style {
       }
 
       if(merges.contains(Merge.DECORATIONS)) {
-        for(int i = 0, length = DECORATIONS.length; i < length; i++) {
-          final TextDecoration decoration = DECORATIONS[i];
-          final TextDecoration.State state = that.decoration(decoration);
-          if(state != TextDecoration.State.NOT_SET && logic.mergeDecoration(this, decoration)) this.decoration(decoration, state);
-        }
+        this.decorations = logic.mergeDecorations(this.decorations, decorations(that));
       }
 
       if(merges.contains(Merge.EVENTS)) {
@@ -442,30 +501,14 @@ final class StyleImpl implements Style {
 
     @Override
     public @NonNull StyleImpl build() {
-      if(this.isEmpty()) {
-        return EMPTY;
-      }
-      return new StyleImpl(this.font, this.color, this.obfuscated, this.bold, this.strikethrough, this.underlined, this.italic, this.clickEvent, this.hoverEvent, this.insertion);
-    }
-
-    private boolean isEmpty() {
-      return this.color == null
-        && this.obfuscated == TextDecoration.State.NOT_SET
-        && this.bold == TextDecoration.State.NOT_SET
-        && this.strikethrough == TextDecoration.State.NOT_SET
-        && this.underlined == TextDecoration.State.NOT_SET
-        && this.italic == TextDecoration.State.NOT_SET
-        && this.clickEvent == null
-        && this.hoverEvent == null
-        && this.insertion == null
-        && this.font == null;
+      return create(this.font, this.color, this.decorations, this.clickEvent, this.hoverEvent, this.insertion);
     }
   }
 
   static abstract class MergeLogic {
     abstract boolean mergeColor(final BuilderImpl target, final @Nullable TextColor color);
 
-    abstract boolean mergeDecoration(final BuilderImpl target, final @NonNull TextDecoration decoration);
+    abstract int mergeDecorations(final int target, final int source);
 
     abstract boolean mergeClickEvent(final BuilderImpl target, final @Nullable ClickEvent event);
 
@@ -490,8 +533,8 @@ final class StyleImpl implements Style {
       }
 
       @Override
-      boolean mergeDecoration(final BuilderImpl target, final @NonNull TextDecoration decoration) {
-        return this.value;
+      int mergeDecorations(final int target, final int source) {
+        return this.value ? mergeDecorationsAlways(target, source) : target;
       }
 
       @Override
@@ -527,19 +570,8 @@ final class StyleImpl implements Style {
       }
 
       @Override
-      boolean mergeDecoration(final BuilderImpl target, final @NonNull TextDecoration decoration) {
-        if(decoration == TextDecoration.OBFUSCATED) {
-          return target.obfuscated == TextDecoration.State.NOT_SET;
-        } else if(decoration == TextDecoration.BOLD) {
-          return target.bold == TextDecoration.State.NOT_SET;
-        } else if(decoration == TextDecoration.STRIKETHROUGH) {
-          return target.strikethrough == TextDecoration.State.NOT_SET;
-        } else if(decoration == TextDecoration.UNDERLINED) {
-          return target.underlined == TextDecoration.State.NOT_SET;
-        } else if(decoration == TextDecoration.ITALIC) {
-          return target.italic == TextDecoration.State.NOT_SET;
-        }
-        throw new IllegalArgumentException();
+      int mergeDecorations(final int target, final int source) {
+        return mergeDecorationsIfAbsent(target, source);
       }
 
       @Override
@@ -0,0 +1,79 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.renderer;
+
+import net.kyori.adventure.text.TranslatableComponent;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A renderer remembering what it rendered, per context.
+ *
+ * <p>Only {@link TranslatableComponent}s are passed to the wrapped renderer. Every subtree without one is returned as it
+ * is, and only the components on the path to a translatable component are rebuilt. The wrapped renderer must therefore
+ * leave components without translatable components unchanged, as {@link TranslatableComponentRenderer} does.</p>
+ *
+ * <p>Rendered components are remembered for each context until the component they were rendered from is no longer
+ * used, the maximum size for that context is reached, or the cache is {@link #invalidate() invalidated}. Whenever the
+ * wrapped renderer would render differently, such as when translations change, the cache must be invalidated.</p>
+ *
+ * @param <C> the context type, usually {@link java.util.Locale}
+ * @since 4.8.0
+ */
+public interface CachingComponentRenderer<C> extends ComponentRenderer<C> {
+  /**
+   * Creates a caching renderer.
+   *
+   * @param renderer the renderer to cache the results of
+   * @param maximumSize the maximum number of components to remember for each context
+   * @param <C> the context type
+   * @return a caching renderer
+   * @since 4.8.0
+   */
+  static <C> @NonNull CachingComponentRenderer<C> caching(final @NonNull ComponentRenderer<C> renderer, final int maximumSize) {
+    return new CachingComponentRendererImpl<>(renderer, maximumSize);
+  }
+
+  /**
+   * Gets the number of renders answered from the cache.
+   *
+   * @return the number of cache hits
+   * @since 4.8.0
+   */
+  long hits();
+
+  /**
+   * Gets the number of renders not answered from the cache.
+   *
+   * @return the number of cache misses
+   * @since 4.8.0
+   */
+  long misses();
+
+  /**
+   * Forgets everything rendered so far.
+   *
+   * @since 4.8.0
+   */
+  void invalidate();
+}
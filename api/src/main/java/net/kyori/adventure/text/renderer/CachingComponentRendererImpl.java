@@ -0,0 +1,202 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.renderer;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.string.StringExaminer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+final class CachingComponentRendererImpl<C> implements CachingComponentRenderer<C>, Examinable {
+  // cached in place of the component itself, which must not be strongly held by its own entry
+  private static final Object UNCHANGED = new Object();
+
+  private final ComponentRenderer<C> renderer;
+  private final int maximumSize;
+  private final ConcurrentMap<C, Cache> caches = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  CachingComponentRendererImpl(final @NonNull ComponentRenderer<C> renderer, final int maximumSize) {
+    if(maximumSize <= 0) throw new IllegalArgumentException("maximumSize must be positive, was " + maximumSize);
+    this.renderer = requireNonNull(renderer, "renderer");
+    this.maximumSize = maximumSize;
+  }
+
+  @Override
+  public @NonNull Component render(final @NonNull Component component, final @NonNull C context) {
+    requireNonNull(component, "component");
+    requireNonNull(context, "context");
+    return this.cached(component, context);
+  }
+
+  private @NonNull Component cached(final @NonNull Component component, final @NonNull C context) {
+    final Cache cache = this.caches.computeIfAbsent(context, key -> new Cache(this.maximumSize));
+    final Object cached = cache.get(component);
+    if(cached != null) {
+      this.hits.increment();
+      return cached == UNCHANGED ? component : (Component) cached;
+    }
+    this.misses.increment();
+    final Component rendered = component instanceof TranslatableComponent ? this.renderer.render(component, context) : this.walk(component, context);
+    cache.put(component, rendered == component ? UNCHANGED : rendered);
+    return rendered;
+  }
+
+  // rebuilds only the components on the path to a translatable component
+  private @NonNull Component walk(final @NonNull Component component, final @NonNull C context) {
+    final List<Component> children = component.children();
+    List<Component> rendered = null;
+    for(int i = 0, size = children.size(); i < size; i++) {
+      final Component child = children.get(i);
+      final Component renderedChild = child instanceof TranslatableComponent ? this.cached(child, context) : this.walk(child, context);
+      if(renderedChild != child && rendered == null) {
+        rendered = new ArrayList<>(size);
+        rendered.addAll(children.subList(0, i));
+      }
+      if(rendered != null) {
+        rendered.add(renderedChild);
+      }
+    }
+
+    Component result = component;
+    final HoverEvent<?> hoverEvent = component.hoverEvent();
+    if(hoverEvent != null) {
+      final HoverEvent<?> renderedHoverEvent = hoverEvent.withRenderedValue(this, context);
+      if(renderedHoverEvent != hoverEvent) {
+        result = result.style(result.style().hoverEvent(renderedHoverEvent));
+      }
+    }
+    if(rendered != null) {
+      result = result.children(rendered);
+    }
+    return result;
+  }
+
+  @Override
+  public long hits() {
+    return this.hits.sum();
+  }
+
+  @Override
+  public long misses() {
+    return this.misses.sum();
+  }
+
+  @Override
+  public void invalidate() {
+    this.caches.clear();
+  }
+
+  @Override
+  public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+    return Stream.of(
+      ExaminableProperty.of("renderer", this.renderer),
+      ExaminableProperty.of("maximumSize", this.maximumSize),
+      ExaminableProperty.of("hits", this.hits()),
+      ExaminableProperty.of("misses", this.misses())
+    );
+  }
+
+  @Override
+  public String toString() {
+    return this.examine(StringExaminer.simpleEscaping());
+  }
+
+  /**
+   * The components rendered for one context, least recently used first, weakly keyed by the component rendered.
+   */
+  static final class Cache {
+    private final ReferenceQueue<Component> queue = new ReferenceQueue<>();
+    private final Map<WeakKey, Object> entries;
+
+    @SuppressWarnings("serial") // never serialized
+    Cache(final int maximumSize) {
+      this.entries = new LinkedHashMap<WeakKey, Object>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<WeakKey, Object> eldest) {
+          return this.size() > maximumSize;
+        }
+      };
+    }
+
+    synchronized @Nullable Object get(final @NonNull Component component) {
+      this.expunge();
+      return this.entries.get(new WeakKey(component, null));
+    }
+
+    synchronized void put(final @NonNull Component component, final @NonNull Object rendered) {
+      this.expunge();
+      this.entries.put(new WeakKey(component, this.queue), rendered);
+    }
+
+    private void expunge() {
+      Reference<? extends Component> reference;
+      while((reference = this.queue.poll()) != null) {
+        this.entries.remove(reference);
+      }
+    }
+  }
+
+  static final class WeakKey extends WeakReference<Component> {
+    private final int hash;
+
+    WeakKey(final @NonNull Component component, final @Nullable ReferenceQueue<Component> queue) {
+      super(component, queue);
+      this.hash = component.hashCode();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object other) {
+      if(this == other) return true;
+      if(!(other instanceof WeakKey)) return false;
+      final WeakKey that = (WeakKey) other;
+      if(this.hash != that.hash) return false;
+      final Component component = this.get();
+      return component != null && component.equals(that.get());
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hash;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.renderer;
+
+import java.text.AttributedCharacterIterator;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import net.kyori.adventure.text.Component;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link MessageFormat} split once into the text between its arguments and the arguments themselves.
+ */
+final class CompiledMessageFormat {
+  private static final int TEXT = -1;
+
+  private final int arguments;
+  private final String withoutArguments;
+  // per segment: the argument index, or TEXT for the component at the same index
+  private final int[] segments;
+  private final @Nullable Component[] texts;
+
+  CompiledMessageFormat(final @NonNull MessageFormat format) {
+    this.arguments = format.getFormatsByArgumentIndex().length;
+    this.withoutArguments = format.format(null, new StringBuffer(), null).toString();
+
+    final Object[] nulls = new Object[this.arguments];
+    final StringBuffer sb = format.format(nulls, new StringBuffer(), null);
+    final AttributedCharacterIterator it = format.formatToCharacterIterator(nulls);
+    final List<Integer> segments = new ArrayList<>();
+    final List<Component> texts = new ArrayList<>();
+    while(it.getIndex() < it.getEndIndex()) {
+      final int end = it.getRunLimit();
+      final Integer index = (Integer) it.getAttribute(MessageFormat.Field.ARGUMENT);
+      if(index != null) {
+        segments.add(index);
+        texts.add(null);
+      } else {
+        segments.add(TEXT);
+        texts.add(Component.text(sb.substring(it.getIndex(), end)));
+      }
+      it.setIndex(end);
+    }
+    this.segments = segments.stream().mapToInt(Integer::intValue).toArray();
+    this.texts = texts.toArray(new Component[0]);
+  }
+
+  /**
+   * Gets the number of arguments this format takes, one more than the highest argument index.
+   *
+   * @return the number of arguments
+   */
+  int arguments() {
+    return this.arguments;
+  }
+
+  /**
+   * Gets this format, formatted without any arguments.
+   *
+   * @return the formatted text
+   */
+  @NonNull String withoutArguments() {
+    return this.withoutArguments;
+  }
+
+  int segments() {
+    return this.segments.length;
+  }
+
+  /**
+   * Gets the argument index of a segment.
+   *
+   * @param segment the segment
+   * @return the argument index, or {@code -1} if the segment is text
+   */
+  int argument(final int segment) {
+    return this.segments[segment];
+  }
+
+  /**
+   * Gets the text of a segment, shared between every render.
+   *
+   * @param segment the segment
+   * @return the text
+   */
+  @NonNull Component text(final int segment) {
+    return this.texts[segment];
+  }
+}
@@ -26,9 +26,12 @@ package net.kyori.adventure.text.renderer;
 import java.text.AttributedCharacterIterator;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import net.kyori.adventure.text.BlockNBTComponent;
 import net.kyori.adventure.text.BuildableComponent;
 import net.kyori.adventure.text.Component;
@@ -58,6 +61,8 @@ import static java.util.Objects.requireNonNull;
  */
 public abstract class TranslatableComponentRenderer<C> extends AbstractComponentRenderer<C> {
   private static final Set<Style.Merge> MERGES = Style.Merge.of(Style.Merge.COLOR, Style.Merge.DECORATIONS, Style.Merge.INSERTION, Style.Merge.FONT);
+  // translations do not change once registered, so each format is only split into segments once
+  private final Map<MessageFormat, CompiledMessageFormat> compiled = Collections.synchronizedMap(new WeakHashMap<>());
 
   /**
    * Creates a {@link TranslatableComponentRenderer} using the {@link Translator} to translate.
@@ -137,7 +142,9 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
   @Override
   protected @NonNull Component renderText(final @NonNull TextComponent component, final @NonNull C context) {
     final TextComponent.Builder builder = Component.text().content(component.content());
-    return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
+    final TextComponent rendered = this.mergeStyleAndOptionallyDeepRender(component, builder, context);
+    // text with nothing translated is returned as it is, so unchanged subtrees keep their identity
+    return rendered.equals(component) ? component : rendered;
   }
 
   @Override
@@ -164,25 +171,39 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
     final TextComponent.Builder builder = Component.text();
     this.mergeStyle(component, builder, context);
 
+    final CompiledMessageFormat compiled = this.compiled.computeIfAbsent(format, CompiledMessageFormat::new);
     // no arguments makes this render very simple
     if(args.isEmpty()) {
-      builder.content(format.format(null, new StringBuffer(), null).toString());
+      builder.content(compiled.withoutArguments());
       return this.optionallyRenderChildrenAppendAndBuild(component.children(), builder, context);
     }
 
-    final Object[] nulls = new Object[args.size()];
-    final StringBuffer sb = format.format(nulls, new StringBuffer(), null);
-    final AttributedCharacterIterator it = format.formatToCharacterIterator(nulls);
+    if(args.size() < compiled.arguments()) {
+      // missing arguments are formatted as text, merged with the text around them
+      final Object[] nulls = new Object[args.size()];
+      final StringBuffer sb = format.format(nulls, new StringBuffer(), null);
+      final AttributedCharacterIterator it = format.formatToCharacterIterator(nulls);
+
+      while(it.getIndex() < it.getEndIndex()) {
+        final int end = it.getRunLimit();
+        final Integer index = (Integer) it.getAttribute(MessageFormat.Field.ARGUMENT);
+        if(index != null) {
+          builder.append(this.render(args.get(index), context));
+        } else {
+          builder.append(Component.text(sb.substring(it.getIndex(), end)));
+        }
+        it.setIndex(end);
+      }
+      return this.optionallyRenderChildrenAppendAndBuild(component.children(), builder, context);
+    }
 
-    while(it.getIndex() < it.getEndIndex()) {
-      final int end = it.getRunLimit();
-      final Integer index = (Integer) it.getAttribute(MessageFormat.Field.ARGUMENT);
-      if(index != null) {
+    for(int i = 0, size = compiled.segments(); i < size; i++) {
+      final int index = compiled.argument(i);
+      if(index >= 0) {
         builder.append(this.render(args.get(index), context));
       } else {
-        builder.append(Component.text(sb.substring(it.getIndex(), end)));
+        builder.append(compiled.text(i));
       }
-      it.setIndex(end);
     }
 
     return this.optionallyRenderChildrenAppendAndBuild(component.children(), builder, context);
@@ -24,10 +24,12 @@
 package net.kyori.adventure.translation;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Locale;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
@@ -39,9 +41,16 @@ import static java.util.Objects.requireNonNull;
 
 final class GlobalTranslatorImpl implements GlobalTranslator {
   private static final Key NAME = Key.key("adventure", "global");
+  private static final Translator[] NO_SOURCES = new Translator[0];
+  private static final int[] NO_POSITIONS = new int[0];
   static final GlobalTranslatorImpl INSTANCE = new GlobalTranslatorImpl();
   final TranslatableComponentRenderer<Locale> renderer = TranslatableComponentRenderer.usingTranslationSource(this);
-  private final Set<Translator> sources = Collections.newSetFromMap(new ConcurrentHashMap<>());
+  // in the order they were added, which is the order they are asked in
+  private volatile Translator[] sources = NO_SOURCES;
+  // incremented after the sources, or the keys of an indexed source, change
+  private final AtomicLong generation = new AtomicLong();
+  private final Runnable invalidator = this.generation::incrementAndGet;
+  private volatile @Nullable Index index;
 
   private GlobalTranslatorImpl() {
   }
@@ -53,35 +62,146 @@ final class GlobalTranslatorImpl implements GlobalTranslator {
 
   @Override
   public @NonNull Iterable<? extends Translator> sources() {
-    return Collections.unmodifiableSet(this.sources);
+    return Collections.unmodifiableList(Arrays.asList(this.sources));
   }
 
   @Override
   public boolean addSource(final @NonNull Translator source) {
     requireNonNull(source, "source");
     if(source == this) throw new IllegalArgumentException("GlobalTranslationSource");
-    return this.sources.add(source);
+    synchronized(this) {
+      final Translator[] sources = this.sources;
+      for(final Translator existing : sources) {
+        if(existing.equals(source)) return false;
+      }
+      final Translator[] added = Arrays.copyOf(sources, sources.length + 1);
+      added[sources.length] = source;
+      if(source instanceof TranslationRegistryImpl) {
+        ((TranslationRegistryImpl) source).addListener(this.invalidator);
+      }
+      this.sources = added;
+      this.generation.incrementAndGet();
+      return true;
+    }
   }
 
   @Override
   public boolean removeSource(final @NonNull Translator source) {
     requireNonNull(source, "source");
-    return this.sources.remove(source);
+    synchronized(this) {
+      final Translator[] sources = this.sources;
+      for(int i = 0; i < sources.length; i++) {
+        if(sources[i].equals(source)) {
+          final Translator[] removed = new Translator[sources.length - 1];
+          System.arraycopy(sources, 0, removed, 0, i);
+          System.arraycopy(sources, i + 1, removed, i, sources.length - i - 1);
+          if(sources[i] instanceof TranslationRegistryImpl) {
+            ((TranslationRegistryImpl) sources[i]).removeListener(this.invalidator);
+          }
+          this.sources = removed;
+          this.generation.incrementAndGet();
+          return true;
+        }
+      }
+      return false;
+    }
   }
 
   @Override
   public @Nullable MessageFormat translate(final @NonNull String key, final @NonNull Locale locale) {
     requireNonNull(key, "key");
     requireNonNull(locale, "locale");
-    for(final Translator source : this.sources) {
-      final MessageFormat translation = source.translate(key, locale);
+    Index index = this.index();
+    // bundles registered lazily for this locale are loaded first, so the keys they add can be indexed
+    if(index.load(locale)) index = this.index();
+    final Translator[] sources = index.sources;
+    final int[] indexed = index.keys.getOrDefault(key, NO_POSITIONS);
+    final int[] scanned = index.unindexed;
+    // ask the sources known to have the key, and those that cannot say, in the order they were added
+    int i = 0;
+    int j = 0;
+    while(i < indexed.length || j < scanned.length) {
+      final int position = j == scanned.length || (i < indexed.length && indexed[i] < scanned[j]) ? indexed[i++] : scanned[j++];
+      final MessageFormat translation = sources[position].translate(key, locale);
       if(translation != null) return translation;
     }
     return null;
   }
 
+  private @NonNull Index index() {
+    final Index index = this.index;
+    final long generation = this.generation.get();
+    if(index != null && index.generation == generation) return index;
+    // read after the generation, so a change made while indexing leaves this index out of date
+    final Index rebuilt = new Index(generation, this.sources);
+    this.index = rebuilt;
+    return rebuilt;
+  }
+
   @Override
   public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
     return Stream.of(ExaminableProperty.of("sources", this.sources));
   }
+
+  /**
+   * The sources, with the sources that can list their keys indexed by key.
+   */
+  static final class Index {
+    final long generation;
+    final Translator[] sources;
+    // per key: the positions of the indexed sources with it, ascending
+    final Map<String, int[]> keys;
+    // the positions of the sources that cannot list their keys, ascending
+    final int[] unindexed;
+    // the registries with bundles registered lazily, that are not loaded yet
+    final TranslationRegistryImpl[] loading;
+
+    Index(final long generation, final @NonNull Translator@NonNull[] sources) {
+      this.generation = generation;
+      this.sources = sources;
+      final Map<String, int[]> keys = new HashMap<>();
+      final int[] unindexed = new int[sources.length];
+      int unindexedCount = 0;
+      final TranslationRegistryImpl[] loading = new TranslationRegistryImpl[sources.length];
+      int loadingCount = 0;
+      for(int position = 0; position < sources.length; position++) {
+        final Translator source = sources[position];
+        if(source instanceof TranslationRegistryImpl) {
+          // a registry still to load bundles lists the keys it has so far, and loads the others when asked to
+          if(((TranslationRegistryImpl) source).loading()) {
+            loading[loadingCount++] = (TranslationRegistryImpl) source;
+          }
+          for(final String key : ((TranslationRegistryImpl) source).keys()) {
+            final int[] positions = keys.get(key);
+            if(positions == null) {
+              keys.put(key, new int[]{position});
+            } else {
+              final int[] grown = Arrays.copyOf(positions, positions.length + 1);
+              grown[positions.length] = position;
+              keys.put(key, grown);
+            }
+          }
+        } else {
+          unindexed[unindexedCount++] = position;
+        }
+      }
+      this.keys = keys;
+      this.unindexed = Arrays.copyOf(unindexed, unindexedCount);
+      this.loading = Arrays.copyOf(loading, loadingCount);
+    }
+
+    /**
+     * Starts loading the bundles registered lazily that a lookup in a locale could need.
+     *
+     * @param locale the locale
+     * @return whether any bundle started loading
+     */
+    boolean load(final @NonNull Locale locale) {
+      boolean loading = false;
+      for(final TranslationRegistryImpl registry : this.loading) {
+        loading |= registry.load(locale);
+      }
+      return loading;
+    }
+  }
 }
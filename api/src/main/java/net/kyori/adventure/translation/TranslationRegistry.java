@@ -25,6 +25,7 @@ package net.kyori.adventure.translation;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -36,12 +37,16 @@ import java.util.Map;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.util.UTF8ResourceBundleControl;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.ApiStatus;
 
 import static java.util.Objects.requireNonNull;
 
@@ -51,8 +56,11 @@ import static java.util.Objects.requireNonNull;
  *
  * <p>The recommended way to register translations is through {@link #registerAll(Locale, ResourceBundle, boolean)}</p>
  *
+ * <p>This interface is not intended to be implemented by users; registries are created through {@link #create(Key)}.</p>
+ *
  * @since 4.0.0
  */
+@ApiStatus.NonExtendable
 public interface TranslationRegistry extends Translator {
   /**
    * A pattern which matches a single quote.
@@ -187,6 +195,44 @@ public interface TranslationRegistry extends Translator {
     });
   }
 
+  /**
+   * Registers a resource bundle of translations, to be loaded the first time they are needed.
+   *
+   * @param locale a locale
+   * @param path a path to the resource bundle
+   * @param escapeSingleQuotes whether to escape single quotes
+   * @see #registerAllLazily(Locale, Supplier, boolean, Executor)
+   * @since 4.8.0
+   */
+  default void registerAllLazily(final @NonNull Locale locale, final @NonNull Path path, final boolean escapeSingleQuotes) {
+    requireNonNull(path, "path");
+    this.registerAllLazily(locale, () -> {
+      try(final BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+        return new PropertyResourceBundle(reader);
+      } catch(final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }, escapeSingleQuotes, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Registers a resource bundle of translations, to be loaded the first time they are needed.
+   *
+   * <p>The bundle is loaded on {@code executor} the first time a translation is requested for {@code locale}, or for a
+   * locale that falls back to it. Until loading completes, translations fall back as if the bundle were not
+   * registered. Registries that do not support loading lazily load the bundle immediately.</p>
+   *
+   * @param locale a locale
+   * @param bundle a supplier of the resource bundle
+   * @param escapeSingleQuotes whether to escape single quotes
+   * @param executor the executor to load the bundle on
+   * @see #registerAll(Locale, ResourceBundle, boolean)
+   * @since 4.8.0
+   */
+  default void registerAllLazily(final @NonNull Locale locale, final @NonNull Supplier<? extends ResourceBundle> bundle, final boolean escapeSingleQuotes, final @NonNull Executor executor) {
+    this.registerAll(locale, bundle.get(), escapeSingleQuotes);
+  }
+
   /**
    * Registers a resource bundle of translations.
    *
@@ -218,6 +264,21 @@ public interface TranslationRegistry extends Translator {
     }
   }
 
+  /**
+   * Replaces every translation in this registry at once.
+   *
+   * <p>The new translations are prepared on the calling thread, and then replace the old ones in a single step.
+   * Translations requested meanwhile come entirely from the old translations, never from a mix of both. Bundles
+   * registered lazily and not yet loaded are discarded.</p>
+   *
+   * @param translations a map of locales to maps of translation keys to formats
+   * @throws UnsupportedOperationException if this registry was not created through {@link #create(Key)}
+   * @since 4.8.0
+   */
+  default void replaceAll(final @NonNull Map<Locale, ? extends Map<String, MessageFormat>> translations) {
+    throw new UnsupportedOperationException("This registry cannot replace its translations");
+  }
+
   /**
    * Unregisters a translation key.
    *
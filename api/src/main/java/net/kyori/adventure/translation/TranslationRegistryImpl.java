@@ -24,10 +24,24 @@
 package net.kyori.adventure.translation;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import net.kyori.adventure.key.Key;
 import net.kyori.examination.Examinable;
@@ -39,9 +53,20 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import static java.util.Objects.requireNonNull;
 
 final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
+  // locales come from clients, so only this many are remembered; any others find their table by their fallback chain
+  private static final int MAX_CACHED_LOCALES = 256;
+  // a bundle registered lazily that fails to load is tried again after this long, doubling up to the maximum
+  private static final long FIRST_RETRY_DELAY = TimeUnit.SECONDS.toNanos(1);
+  private static final long MAX_RETRY_DELAY = TimeUnit.MINUTES.toNanos(5);
   private final Key name;
-  private final Map<String, Translation> translations = new ConcurrentHashMap<>();
-  private Locale defaultLocale = Locale.US; // en_us
+  // replaced as a whole, so a lookup sees the translations, locales and tables of a single state, never a mix
+  private final AtomicReference<State> state = new AtomicReference<>(new State(new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet(), Locale.US, TranslationLocales.global()));
+  // incremented before every change, so a table built meanwhile is known to be out of date
+  private final AtomicLong changes = new AtomicLong();
+  // notified after every change, such as by the global translator to keep its key index current
+  private final Set<Runnable> listeners = new CopyOnWriteArraySet<>();
+  // bundles registered lazily, and not yet needed
+  private final Map<Locale, Pending> pending = new ConcurrentHashMap<>();
 
   TranslationRegistryImpl(final Key name) {
     this.name = name;
@@ -49,12 +74,147 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
 
   @Override
   public void register(final @NonNull String key, final @NonNull Locale locale, final @NonNull MessageFormat format) {
-    this.translations.computeIfAbsent(key, Translation::new).register(locale, format);
+    final State state = this.state.get();
+    state.translations.computeIfAbsent(key, Translation::new).register(locale, format);
+    if(state.locales.add(locale)) {
+      this.invalidate();
+    } else {
+      this.changed(key);
+    }
+  }
+
+  @Override
+  public void registerAll(final @NonNull Locale locale, final @NonNull Set<String> keys, final Function<String, MessageFormat> function) {
+    this.registerAll(this.state.get(), locale, keys, function);
+  }
+
+  private void registerAll(final @NonNull State state, final @NonNull Locale locale, final @NonNull Set<String> keys, final Function<String, MessageFormat> function) {
+    // every key is registered before invalidating, so lookups meanwhile never rebuild their tables key by key
+    List<IllegalArgumentException> errors = null;
+    try {
+      for(final String key : keys) {
+        try {
+          state.translations.computeIfAbsent(key, Translation::new).register(locale, function.apply(key));
+          state.locales.add(locale);
+        } catch(final IllegalArgumentException e) {
+          if(errors == null) {
+            errors = new LinkedList<>();
+          }
+          errors.add(e);
+        }
+      }
+    } finally {
+      this.invalidate();
+    }
+    if(errors != null) {
+      final int size = errors.size();
+      if(size == 1) {
+        throw errors.get(0);
+      } else if(size > 1) {
+        throw new IllegalArgumentException(String.format("Invalid key (and %d more)", size - 1), errors.get(0));
+      }
+    }
+  }
+
+  @Override
+  public void replaceAll(final @NonNull Map<Locale, ? extends Map<String, MessageFormat>> translations) {
+    requireNonNull(translations, "translations");
+    final Map<String, Translation> snapshot = new ConcurrentHashMap<>();
+    final Set<Locale> locales = ConcurrentHashMap.newKeySet();
+    for(final Map.Entry<Locale, ? extends Map<String, MessageFormat>> locale : translations.entrySet()) {
+      for(final Map.Entry<String, MessageFormat> format : requireNonNull(locale.getValue(), "formats").entrySet()) {
+        snapshot.computeIfAbsent(requireNonNull(format.getKey(), "key"), Translation::new).register(locale.getKey(), format.getValue());
+        locales.add(locale.getKey());
+      }
+    }
+    this.pending.clear();
+    this.changes.incrementAndGet();
+    this.state.updateAndGet(state -> new State(snapshot, locales, state.defaultLocale, TranslationLocales.global()));
+    this.notifyListeners();
+  }
+
+  @Override
+  public void registerAllLazily(final @NonNull Locale locale, final @NonNull Supplier<? extends ResourceBundle> bundle, final boolean escapeSingleQuotes, final @NonNull Executor executor) {
+    this.pending.put(requireNonNull(locale, "locale"), new Pending(locale, requireNonNull(bundle, "bundle"), escapeSingleQuotes, requireNonNull(executor, "executor")));
+    this.invalidate();
+  }
+
+  /**
+   * Tests if any bundles registered lazily have not been loaded yet, so not every key is known.
+   *
+   * @return whether there are bundles to load
+   */
+  boolean loading() {
+    return !this.pending.isEmpty();
+  }
+
+  /**
+   * Starts loading the bundles registered lazily that a lookup in a locale could need.
+   *
+   * @param locale the locale
+   * @return whether any bundle started loading
+   */
+  boolean load(final @NonNull Locale locale) {
+    if(this.pending.isEmpty()) return false;
+    boolean loading = false;
+    for(final Locale needed : candidates(this.state.get(), locale, TranslationLocales.global())) {
+      final Pending bundle = this.pending.get(needed);
+      if(bundle != null && bundle.due() && this.pending.remove(needed, bundle)) {
+        bundle.load();
+        loading = true;
+      }
+    }
+    return loading;
+  }
+
+  private static @NonNull Locale@NonNull[] candidates(final @NonNull State state, final @NonNull Locale locale, final @NonNull Locale global) {
+    // try without country, then the local default locale, then the global default locale
+    return new Locale[]{locale, new Locale(locale.getLanguage()), state.defaultLocale, global};
   }
 
   @Override
   public void unregister(final @NonNull String key) {
-    this.translations.remove(key);
+    this.state.get().translations.remove(key);
+    this.changed(key);
+  }
+
+  private void invalidate() {
+    this.changes.incrementAndGet();
+    final Locale global = TranslationLocales.global();
+    this.state.updateAndGet(state -> state.withTables(state.defaultLocale, global));
+    this.notifyListeners();
+  }
+
+  // a single key changed: the tables already built are updated in place, rather than all rebuilt by the next lookups
+  private void changed(final @NonNull String key) {
+    this.changes.incrementAndGet();
+    for(final Resolved table : this.state.get().byChain.values()) {
+      table.update(key);
+    }
+    this.notifyListeners();
+  }
+
+  private void notifyListeners() {
+    for(final Runnable listener : this.listeners) {
+      listener.run();
+    }
+  }
+
+  /**
+   * Gets the keys with at least one translation.
+   *
+   * @return a live view of the keys
+   */
+  @NonNull Set<String> keys() {
+    return this.state.get().translations.keySet();
+  }
+
+  void addListener(final @NonNull Runnable listener) {
+    this.listeners.add(listener);
+  }
+
+  void removeListener(final @NonNull Runnable listener) {
+    this.listeners.remove(listener);
   }
 
   @Override
@@ -64,24 +224,64 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
 
   @Override
   public boolean contains(final @NonNull String key) {
-    return this.translations.containsKey(key);
+    return this.state.get().translations.containsKey(key);
   }
 
   @Override
   public @Nullable MessageFormat translate(final @NonNull String key, final @NonNull Locale locale) {
-    final Translation translation = this.translations.get(key);
-    if(translation == null) return null;
-    return translation.translate(locale);
+    requireNonNull(key, "key");
+    return this.resolved(requireNonNull(locale, "locale")).formats.get(key);
+  }
+
+  private @NonNull Resolved resolved(final @NonNull Locale locale) {
+    // a bundle that failed to load is pending again, and retried by a lookup needing it once its retry delay has passed
+    this.load(locale);
+    final Locale global = TranslationLocales.global();
+    State state = this.state.get();
+    // the global default locale may follow the system locale, which can change at any time
+    if(!state.global.equals(global)) {
+      state = this.state.updateAndGet(current -> current.global.equals(global) ? current : current.withTables(current.defaultLocale, global));
+    }
+    Resolved table = state.byLocale.get(locale);
+    if(table != null) return table;
+    final Locale[] candidates = candidates(state, locale, global);
+    // locales without translations are left out, so every locale falling back the same way shares one table
+    final List<Locale> chain = new ArrayList<>(candidates.length);
+    for(final Locale candidate : candidates) {
+      if(state.locales.contains(candidate) && !chain.contains(candidate)) chain.add(candidate);
+    }
+    table = state.byChain.get(chain);
+    if(table == null) {
+      final long changes = this.changes.get();
+      final Resolved built = new Resolved(state.translations, chain.toArray(new Locale[0]));
+      table = state.byChain.putIfAbsent(chain, built);
+      if(table == null) {
+        // a change made while building may not be in it, and did not update it; it is used once, but not kept
+        if(this.changes.get() != changes) {
+          state.byChain.remove(chain, built);
+          return built;
+        }
+        table = built;
+      }
+    }
+    if(state.byLocale.size() < MAX_CACHED_LOCALES) {
+      state.byLocale.put(locale, table);
+    }
+    return table;
   }
 
   @Override
   public void defaultLocale(final @NonNull Locale defaultLocale) {
-    this.defaultLocale = requireNonNull(defaultLocale, "defaultLocale");
+    requireNonNull(defaultLocale, "defaultLocale");
+    this.changes.incrementAndGet();
+    final Locale global = TranslationLocales.global();
+    this.state.updateAndGet(state -> state.withTables(defaultLocale, global));
+    this.notifyListeners();
   }
 
   @Override
   public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
-    return Stream.of(ExaminableProperty.of("translations", this.translations));
+    return Stream.of(ExaminableProperty.of("translations", this.state.get().translations));
   }
 
   @Override
@@ -90,15 +290,18 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
     if(!(other instanceof TranslationRegistryImpl)) return false;
 
     final TranslationRegistryImpl that = (TranslationRegistryImpl) other;
+    final State state = this.state.get();
+    final State thatState = that.state.get();
 
     return this.name.equals(that.name)
-      && this.translations.equals(that.translations)
-      && this.defaultLocale.equals(that.defaultLocale);
+      && state.translations.equals(thatState.translations)
+      && state.defaultLocale.equals(thatState.defaultLocale);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(this.name, this.translations, this.defaultLocale);
+    final State state = this.state.get();
+    return Objects.hash(this.name, state.translations, state.defaultLocale);
   }
 
   @Override
@@ -106,6 +309,125 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
     return this.examine(StringExaminer.simpleEscaping());
   }
 
+  /**
+   * The translations, and the tables resolved from them for one default and global default locale.
+   *
+   * <p>Replaced by replaceAll, and with empty tables whenever the locales change, so a table built for older
+   * translations or locales is never seen again.</p>
+   */
+  final class State {
+    final Map<String, Translation> translations;
+    // the locales with at least one translation, the only ones that can change what a fallback chain resolves to
+    final Set<Locale> locales;
+    final Locale defaultLocale;
+    final Locale global;
+    // one per fallback chain, bounded by the locales with translations
+    final ConcurrentMap<List<Locale>, Resolved> byChain = new ConcurrentHashMap<>();
+    final ConcurrentMap<Locale, Resolved> byLocale = new ConcurrentHashMap<>();
+
+    State(final @NonNull Map<String, Translation> translations, final @NonNull Set<Locale> locales, final @NonNull Locale defaultLocale, final @NonNull Locale global) {
+      this.translations = translations;
+      this.locales = locales;
+      this.defaultLocale = defaultLocale;
+      this.global = global;
+    }
+
+    @NonNull State withTables(final @NonNull Locale defaultLocale, final @NonNull Locale global) {
+      return new State(this.translations, this.locales, defaultLocale, global);
+    }
+  }
+
+  /**
+   * Every translation in this registry, resolved for one fallback chain.
+   */
+  final class Resolved {
+    private final Map<String, Translation> translations;
+    private final Locale[] chain;
+    final Map<String, MessageFormat> formats;
+
+    Resolved(final @NonNull Map<String, Translation> translations, final @NonNull Locale@NonNull[] chain) {
+      this.translations = translations;
+      this.chain = chain;
+      final Map<String, MessageFormat> formats = new ConcurrentHashMap<>();
+      for(final Translation translation : translations.values()) {
+        final MessageFormat format = translation.translate(chain);
+        if(format != null) formats.put(translation.key, format);
+      }
+      this.formats = formats;
+    }
+
+    void update(final @NonNull String key) {
+      // resolved while holding the key, so of two changes racing, the later one is what remains
+      this.formats.compute(key, (k, old) -> {
+        final @Nullable Translation translation = this.translations.get(k);
+        return translation != null ? translation.translate(this.chain) : null;
+      });
+    }
+  }
+
+  /**
+   * A bundle registered lazily.
+   */
+  final class Pending {
+    private final Locale locale;
+    private final Supplier<? extends ResourceBundle> bundle;
+    private final boolean escapeSingleQuotes;
+    private final Executor executor;
+    private final int failures;
+    private final long retryAt; // in System.nanoTime(), once it has failed
+
+    Pending(final @NonNull Locale locale, final @NonNull Supplier<? extends ResourceBundle> bundle, final boolean escapeSingleQuotes, final @NonNull Executor executor) {
+      this(locale, bundle, escapeSingleQuotes, executor, 0, 0L);
+    }
+
+    private Pending(final @NonNull Locale locale, final @NonNull Supplier<? extends ResourceBundle> bundle, final boolean escapeSingleQuotes, final @NonNull Executor executor, final int failures, final long retryAt) {
+      this.locale = locale;
+      this.bundle = bundle;
+      this.escapeSingleQuotes = escapeSingleQuotes;
+      this.executor = executor;
+      this.failures = failures;
+      this.retryAt = retryAt;
+    }
+
+    boolean due() {
+      return this.failures == 0 || System.nanoTime() - this.retryAt >= 0;
+    }
+
+    // the same bundle, retried after a delay that doubles with every failure
+    private @NonNull Pending failed() {
+      final long delay = Math.min(MAX_RETRY_DELAY, FIRST_RETRY_DELAY << Math.min(this.failures, 16));
+      return new Pending(this.locale, this.bundle, this.escapeSingleQuotes, this.executor, this.failures + 1, System.nanoTime() + delay);
+    }
+
+    void load() {
+      // replaced by replaceAll, so a load still running then registers into translations no longer used
+      final State state = TranslationRegistryImpl.this.state.get();
+      this.executor.execute(() -> {
+        // formats are all created before any is registered, so the locale appears at once
+        final Map<String, MessageFormat> formats = new HashMap<>();
+        try {
+          final ResourceBundle bundle = this.bundle.get();
+          for(final String key : bundle.keySet()) {
+            final String format = bundle.getString(key);
+            formats.put(key, new MessageFormat(
+              this.escapeSingleQuotes
+                ? SINGLE_QUOTE_PATTERN.matcher(format).replaceAll("''")
+                : format,
+              this.locale
+            ));
+          }
+        } catch(final RuntimeException e) {
+          // nothing was registered, so the bundle can be loaded again later, rather than by every lookup needing it
+          if(TranslationRegistryImpl.this.state.get().translations == state.translations && TranslationRegistryImpl.this.pending.putIfAbsent(this.locale, this.failed()) == null) {
+            TranslationRegistryImpl.this.notifyListeners();
+          }
+          throw e;
+        }
+        TranslationRegistryImpl.this.registerAll(state, this.locale, formats.keySet(), formats::get);
+      });
+    }
+  }
+
   final class Translation implements Examinable {
     private final String key;
     private final Map<Locale, MessageFormat> formats;
@@ -121,18 +443,12 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
       }
     }
 
-    @Nullable MessageFormat translate(final @NonNull Locale locale) {
-      MessageFormat format = this.formats.get(requireNonNull(locale, "locale"));
-      if(format == null) {
-        format = this.formats.get(new Locale(locale.getLanguage())); // try without country
-        if(format == null) {
-          format = this.formats.get(TranslationRegistryImpl.this.defaultLocale); // try local default locale
-          if(format == null) {
-            format = this.formats.get(TranslationLocales.global()); // try global default locale
-          }
-        }
+    @Nullable MessageFormat translate(final @NonNull Locale@NonNull[] chain) {
+      for(int i = 0; i < chain.length; i++) {
+        final MessageFormat format = this.formats.get(chain[i]);
+        if(format != null) return format;
       }
-      return format;
+      return null;
     }
 
     @Override
@@ -0,0 +1,167 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.flattener.ComponentFlattener;
+import net.kyori.adventure.text.flattener.FlattenerListener;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ComponentCompactionTest {
+  @Test
+  void testAlreadyCompactReturnsSame() {
+    final Component c0 = Component.text("a", NamedTextColor.RED)
+      .append(Component.text("b", NamedTextColor.BLUE))
+      .append(Component.translatable("c"));
+    assertSame(c0, c0.compact());
+    final Component c1 = Component.text("plain");
+    assertSame(c1, c1.compact());
+  }
+
+  @Test
+  void testEmpty() {
+    assertSame(Component.empty(), Component.empty().compact());
+    assertSame(Component.empty(), Component.text("", NamedTextColor.RED).compact());
+    assertSame(Component.empty(), Component.text().append(Component.text(""), Component.empty()).build().compact());
+  }
+
+  @Test
+  void testDropsEmptyChildren() {
+    final Component c0 = Component.text("a")
+      .append(Component.empty())
+      .append(Component.text("", NamedTextColor.RED))
+      .append(Component.translatable("b"));
+    assertEquals(Component.text("a").append(Component.translatable("b")), c0.compact());
+  }
+
+  @Test
+  void testMergesAdjacentSiblings() {
+    final Component c0 = Component.text()
+      .append(Component.text("a", NamedTextColor.RED))
+      .append(Component.text("b", NamedTextColor.RED))
+      .append(Component.text("c", NamedTextColor.RED).append(Component.text("d", NamedTextColor.BLUE)))
+      .append(Component.text("e"))
+      .build();
+    final Component expected = Component.text()
+      .append(Component.text("abc", NamedTextColor.RED).append(Component.text("d", NamedTextColor.BLUE)))
+      .append(Component.text("e"))
+      .build();
+    assertEquals(expected, c0.compact());
+    assertRendersSame(c0);
+  }
+
+  @Test
+  void testHoistsWrappers() {
+    final Component c0 = Component.text()
+      .color(NamedTextColor.RED)
+      .append(Component.text()
+        .decorate(TextDecoration.BOLD)
+        .append(Component.text("a", NamedTextColor.BLUE)))
+      .build();
+    assertEquals(Component.text("a", Style.style(NamedTextColor.BLUE, TextDecoration.BOLD)), c0.compact());
+    assertRendersSame(c0);
+  }
+
+  @Test
+  void testRemovesInheritedStyle() {
+    final ClickEvent click = ClickEvent.runCommand("/help");
+    final Component c0 = Component.text("a", NamedTextColor.RED)
+      .clickEvent(click)
+      .append(Component.text("b", Style.style(NamedTextColor.RED, TextDecoration.ITALIC)).clickEvent(click))
+      .append(Component.text("c", NamedTextColor.GREEN));
+    final Component expected = Component.text("a", NamedTextColor.RED)
+      .clickEvent(click)
+      .append(Component.text("b", Style.style(TextDecoration.ITALIC)))
+      .append(Component.text("c", NamedTextColor.GREEN));
+    assertEquals(expected, c0.compact());
+    assertRendersSame(c0);
+  }
+
+  @Test
+  void testKeepsExplicitDecorationOverDefault() {
+    // false is not the same as not set - the default may differ, for example in item lore
+    final Component c0 = Component.text().append(Component.text("a").decoration(TextDecoration.ITALIC, false)).build();
+    assertEquals(Component.text("a").decoration(TextDecoration.ITALIC, false), c0.compact());
+  }
+
+  @Test
+  void testComplexTreeRendersSame() {
+    final Component c0 = Component.text()
+      .append(Component.text("[", NamedTextColor.DARK_GRAY))
+      .append(Component.text().append(Component.text("Admin", NamedTextColor.RED)))
+      .append(Component.text("] ", NamedTextColor.DARK_GRAY))
+      .append(Component.text().color(NamedTextColor.WHITE).append(
+        Component.text("kash", NamedTextColor.WHITE),
+        Component.text("ike", NamedTextColor.WHITE),
+        Component.empty(),
+        Component.translatable("chat.type.text", NamedTextColor.GRAY, Component.text("x"))
+      ))
+      .build();
+    final Component compacted = c0.compact();
+    assertRendersSame(c0);
+    assertSame(compacted, compacted.compact());
+  }
+
+  private static void assertRendersSame(final Component component) {
+    assertEquals(render(component), render(component.compact()));
+  }
+
+  // each character of plain output, paired with its effective style
+  private static List<String> render(final Component component) {
+    final List<String> rendered = new ArrayList<>();
+    ComponentFlattener.basic().flatten(component, new FlattenerListener() {
+      private final Deque<Style> styles = new ArrayDeque<>();
+
+      @Override
+      public void pushStyle(final @NonNull Style style) {
+        final Style parent = this.styles.isEmpty() ? Style.empty() : this.styles.peek();
+        this.styles.push(style.merge(parent, Style.Merge.Strategy.IF_ABSENT_ON_TARGET));
+      }
+
+      @Override
+      public void component(final @NonNull String text) {
+        for(int i = 0; i < text.length(); i++) {
+          rendered.add(text.charAt(i) + " " + this.styles.peek());
+        }
+      }
+
+      @Override
+      public void popStyle(final @NonNull Style style) {
+        this.styles.pop();
+      }
+    });
+    return rendered;
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ComponentTemplateTest {
+  @Test
+  void testPositional() {
+    final ComponentTemplate template = ComponentTemplate.compile(Component.text("{0} gave {1} a diamond", NamedTextColor.YELLOW));
+    assertEquals(Arrays.asList("0", "1"), template.placeholders());
+    final Component rendered = template.render(Component.text("kashike"), Component.text("lucko", NamedTextColor.RED));
+    assertEquals(
+      Component.text("", NamedTextColor.YELLOW).children(Arrays.asList(
+        Component.text("kashike"),
+        Component.text(" gave "),
+        Component.text("lucko", NamedTextColor.RED),
+        Component.text(" a diamond")
+      )),
+      rendered
+    );
+  }
+
+  @Test
+  void testNamed() {
+    final ComponentTemplate template = ComponentTemplate.compile(Component.text()
+      .content("Welcome, ")
+      .append(Component.text("{player}", NamedTextColor.GOLD))
+      .append(Component.text("! You are visitor #{count}."))
+      .build());
+    assertEquals(Arrays.asList("player", "count"), template.placeholders());
+    final Map<String, Component> args = new HashMap<>();
+    args.put("player", Component.text("kashike"));
+    args.put("count", Component.text(42));
+    assertEquals(
+      Component.text()
+        .content("Welcome, ")
+        .append(Component.text("", NamedTextColor.GOLD).append(Component.text("kashike")))
+        .append(Component.text("! You are visitor #").append(Component.text("42")).append(Component.text(".")))
+        .build(),
+      template.render(args)
+    );
+  }
+
+  @Test
+  void testRepeatedPlaceholder() {
+    final ComponentTemplate template = ComponentTemplate.compile(Component.text("{0} and {0}"));
+    assertEquals(Collections.singletonList("0"), template.placeholders());
+    assertEquals(
+      Component.text("").children(Arrays.asList(Component.text("a"), Component.text(" and "), Component.text("a"))),
+      template.render(Component.text("a"))
+    );
+  }
+
+  @Test
+  void testMissingArgumentsAreLeftAsText() {
+    final ComponentTemplate template = ComponentTemplate.compile(Component.text("{0}, {1} and {name}"));
+    assertEquals(
+      Component.text("").children(Arrays.asList(
+        Component.text("a"),
+        Component.text(", "),
+        Component.text("{1}"),
+        Component.text(" and "),
+        Component.text("{name}")
+      )),
+      template.render(Component.text("a"))
+    );
+  }
+
+  @Test
+  void testOtherBracesAreText() {
+    final Component component = Component.text("{} { x} {a-b} {unclosed");
+    final ComponentTemplate template = ComponentTemplate.compile(component);
+    assertEquals(Collections.emptyList(), template.placeholders());
+    assertSame(component, template.render(Component.text("a")));
+  }
+
+  @Test
+  void testStaticSubtreesAreShared() {
+    final Component header = Component.text("Header", NamedTextColor.GOLD, TextDecoration.BOLD).append(Component.text(" line"));
+    final Component footer = Component.translatable("footer", Component.text("arg"));
+    final Component body = Component.text("Hello {0}");
+    final ComponentTemplate template = ComponentTemplate.compile(Component.text().append(header, body, footer).build());
+    final Component first = template.render(Component.text("a"));
+    final Component second = template.render(Component.text("b"));
+    assertSame(header, first.children().get(0));
+    assertSame(header, second.children().get(0));
+    assertSame(footer, first.children().get(2));
+    assertSame(footer, second.children().get(2));
+    assertEquals(Component.text("Hello ").append(Component.text("b")), second.children().get(1));
+  }
+
+  @Test
+  void testTranslatableArguments() {
+    final Component child = Component.text(" (static)");
+    final ComponentTemplate template = ComponentTemplate.compile(Component.translatable("death.attack.player", NamedTextColor.RED)
+      .args(Component.text("{victim}"), Component.text("{killer}", NamedTextColor.DARK_RED))
+      .append(child));
+    final Map<String, Component> args = new HashMap<>();
+    args.put("victim", Component.text("kashike"));
+    args.put("killer", Component.text("lucko"));
+    final Component rendered = template.render(args);
+    assertEquals(
+      Component.translatable("death.attack.player", NamedTextColor.RED)
+        .args(Component.text("").append(Component.text("kashike")), Component.text("", NamedTextColor.DARK_RED).append(Component.text("lucko")))
+        .append(child),
+      rendered
+    );
+    assertSame(child, rendered.children().get(0));
+  }
+
+  @Test
+  void testTranslatableWithStaticArguments() {
+    final Component arg = Component.text("static");
+    final ComponentTemplate template = ComponentTemplate.compile(Component.translatable("key", arg).append(Component.text("{0}")));
+    final Component rendered = template.render(Component.text("a"));
+    assertSame(arg, ((TranslatableComponent) rendered).args().get(0));
+    assertEquals(Component.translatable("key", arg).append(Component.text("").append(Component.text("a"))), rendered);
+  }
+
+  @Test
+  void testMatchesReplaceText() {
+    final Component component = Component.text()
+      .content("start {0} ")
+      .append(Component.text("middle {0}", NamedTextColor.GREEN).append(Component.text("deep {0} end")))
+      .append(Component.keybind("key.jump"))
+      .build();
+    final Component arg = Component.text("ARG", NamedTextColor.RED);
+    assertEquals(
+      component.replaceText(b -> b.matchLiteral("{0}").replacement(arg)),
+      ComponentTemplate.compile(component).render(arg)
+    );
+  }
+}
@@ -35,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import static net.kyori.adventure.text.TextAssertions.assertDecorations;
 import static net.kyori.test.WeirdAssertions.assertAllEqualToEachOther;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -59,6 +60,37 @@ class TextComponentTest extends AbstractComponentTest<TextComponent, TextCompone
     ((TextComponentImpl) component).warnWhenLegacyFormattingDetected().printStackTrace();
   }
 
+  @Test
+  void testDeepTreeHashCodeIsStable() {
+    final Component a = deepTree(64, "leaf");
+    final Component b = deepTree(64, "leaf");
+    assertEquals(a.hashCode(), a.hashCode());
+    assertEquals(a.hashCode(), b.hashCode());
+    assertEquals(a, b);
+  }
+
+  @Test
+  void testDeepTreeEqualsAfterHashing() {
+    final Component a = deepTree(64, "leaf");
+    final Component b = deepTree(64, "other leaf");
+    assertNotEquals(a, b); // neither side hashed yet
+    a.hashCode();
+    b.hashCode();
+    assertNotEquals(a, b);
+    assertNotEquals(b, a);
+    final Component c = deepTree(64, "leaf");
+    c.hashCode();
+    assertEquals(a, c);
+  }
+
+  private static Component deepTree(final int depth, final String leaf) {
+    Component component = Component.text(leaf, NamedTextColor.RED);
+    for(int i = 0; i < depth; i++) {
+      component = Component.text("level " + i).append(Component.text("sibling")).append(component);
+    }
+    return component;
+  }
+
   private static String legacy(final char character) {
     return TextComponentImpl.SECTION_CHAR + String.valueOf(character);
   }
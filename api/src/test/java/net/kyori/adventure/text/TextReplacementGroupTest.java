@@ -0,0 +1,186 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import net.kyori.adventure.text.flattener.ComponentFlattener;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TextReplacementGroupTest {
+  private static TextReplacementConfig literal(final String literal, final String replacement) {
+    return TextReplacementConfig.builder().matchLiteral(literal).replacement(replacement).build();
+  }
+
+  @Test
+  void testMatchesSequentialReplacementWhenDisjoint() {
+    final Component component = Component.text()
+      .content("the cat and the dog")
+      .append(Component.text(" chase the bird", NamedTextColor.RED))
+      .build();
+    final TextReplacementConfig cat = literal("cat", "kitten");
+    final TextReplacementConfig dog = TextReplacementConfig.builder().match("d[o]g").replacement("puppy").build();
+    final TextReplacementConfig bird = literal("bird", "chick");
+    // a single pass nests replacements differently, but renders the same text
+    assertEquals(
+      plain(component.replaceText(cat).replaceText(dog).replaceText(bird)),
+      plain(component.replaceText(TextReplacementGroup.of(cat, dog, bird)))
+    );
+    assertEquals("the kitten and the puppy chase the chick", plain(component.replaceText(TextReplacementGroup.of(cat, dog, bird))));
+  }
+
+  @Test
+  void testLeftmostMatchWins() {
+    final Component component = Component.text("abcd");
+    final Component replaced = component.replaceText(TextReplacementGroup.of(literal("cd", "1"), literal("bc", "2")));
+    assertEquals("a2d", plain(replaced));
+  }
+
+  @Test
+  void testEarliestConfigWinsAtSameStart() {
+    final Component component = Component.text("abcd");
+    assertEquals("1cd", plain(component.replaceText(TextReplacementGroup.of(literal("ab", "1"), literal("abc", "2")))));
+    assertEquals("2d", plain(component.replaceText(TextReplacementGroup.of(literal("abc", "2"), literal("ab", "1")))));
+    final TextReplacementConfig regex = TextReplacementConfig.builder().match("a\\w").replacement("3").build();
+    assertEquals("3cd", plain(component.replaceText(TextReplacementGroup.of(regex, literal("abc", "2")))));
+    assertEquals("2d", plain(component.replaceText(TextReplacementGroup.of(literal("abc", "2"), regex))));
+  }
+
+  @Test
+  void testReplacedTextIsNotMatchedAgain() {
+    final Component component = Component.text("aaa");
+    final Component replaced = component.replaceText(TextReplacementGroup.of(literal("a", "b"), literal("b", "c")));
+    assertEquals("bbb", plain(replaced));
+  }
+
+  @Test
+  void testConditionsAreIndependent() {
+    final Component component = Component.text("x y x y x y");
+    final TextReplacementConfig x = TextReplacementConfig.builder().matchLiteral("x").replacement("1").once().build();
+    final TextReplacementConfig y = TextReplacementConfig.builder().match(Pattern.compile("y")).replacement("2").times(2).build();
+    final Component replaced = component.replaceText(TextReplacementGroup.of(x, y));
+    assertEquals("1 2 x 2 x y", plain(replaced));
+  }
+
+  @Test
+  void testStopOnlyStopsOneConfig() {
+    final Component component = Component.text()
+      .content("x y")
+      .append(Component.text(" x y"))
+      .build();
+    final TextReplacementConfig x = TextReplacementConfig.builder().matchLiteral("x").replacement("1").once().build();
+    final TextReplacementConfig y = literal("y", "2");
+    final Component replaced = component.replaceText(TextReplacementGroup.of(x, y));
+    assertEquals("1 2 x 2", plain(replaced));
+  }
+
+  @Test
+  void testRegexGroupsArePreserved() {
+    final Component component = Component.text("<b> and [i]");
+    final TextReplacementConfig angle = TextReplacementConfig.builder()
+      .match("<(\\w)>")
+      .replacement((result, builder) -> builder.content(result.group(1).toUpperCase()))
+      .build();
+    final TextReplacementConfig square = TextReplacementConfig.builder()
+      .match("\\[(\\w)]")
+      .replacement((result, builder) -> builder.content(result.group(1) + result.group(1)))
+      .build();
+    final Component replaced = component.replaceText(TextReplacementGroup.of(angle, square));
+    assertEquals("B and ii", plain(replaced));
+  }
+
+  @Test
+  void testUnmatchedComponentIsUnchanged() {
+    final Component component = Component.text()
+      .content("nothing")
+      .append(Component.text(" to see"))
+      .append(Component.translatable("here", Component.text("at all")))
+      .build();
+    assertSame(component, component.replaceText(TextReplacementGroup.of(literal("cat", "dog"), literal("bird", "fish"))));
+    assertSame(component, component.replaceText(TextReplacementGroup.of()));
+  }
+
+  @Test
+  void testMatchesOrderedAlternation() {
+    final Random random = new Random(42);
+    for(int round = 0; round < 200; round++) {
+      final List<String> literals = new ArrayList<>();
+      for(int i = 0, count = 1 + random.nextInt(8); i < count; i++) {
+        literals.add(randomText(random, 1 + random.nextInt(4)));
+      }
+      final String content = randomText(random, random.nextInt(40));
+
+      final List<TextReplacementConfig> configs = new ArrayList<>();
+      for(int i = 0; i < literals.size(); i++) {
+        configs.add(literal(literals.get(i), "<" + i + ">"));
+      }
+      final Pattern alternation = Pattern.compile(literals.stream().map(Pattern::quote).collect(Collectors.joining("|")));
+      final Component expected = Component.text(content).replaceText(b -> b.match(alternation).replacement((result, builder) -> {
+        for(int i = 0; i < literals.size(); i++) {
+          if(content.startsWith(literals.get(i), result.start())) return builder.content("<" + i + ">");
+        }
+        throw new AssertionError();
+      }));
+      final Component actual = Component.text(content).replaceText(TextReplacementGroup.of(configs));
+      assertEquals(plain(expected), plain(actual), () -> literals + " in " + content);
+    }
+  }
+
+  @Test
+  void testCustomConfigIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> TextReplacementGroup.of(new TextReplacementConfig() {
+      @Override
+      public Pattern matchPattern() {
+        return Pattern.compile("a");
+      }
+
+      @Override
+      public TextReplacementConfig.Builder toBuilder() {
+        throw new UnsupportedOperationException();
+      }
+    }));
+  }
+
+  private static String plain(final Component component) {
+    final StringBuilder builder = new StringBuilder();
+    ComponentFlattener.basic().flatten(component, builder::append);
+    return builder.toString();
+  }
+
+  private static String randomText(final Random random, final int length) {
+    final StringBuilder builder = new StringBuilder(length);
+    for(int i = 0; i < length; i++) {
+      builder.append((char) ('a' + random.nextInt(3)));
+    }
+    return builder.toString();
+  }
+}
@@ -23,6 +23,7 @@
  */
 package net.kyori.adventure.text;
 
+import java.util.Random;
 import java.util.regex.Pattern;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -30,6 +31,7 @@ import net.kyori.adventure.text.format.TextDecoration;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class TextReplacementRendererTest {
   @Test
@@ -214,6 +216,20 @@ class TextReplacementRendererTest {
     assertEquals(expected, original.replaceText(c -> c.match("value").replacement("1.99")));
   }
 
+  @Test
+  void testReplaceInParentKeepsChildrenBeforeReplacedChild() {
+    final Component original = Component.text("a bad")
+      .append(Component.text(" fine", NamedTextColor.GREEN))
+      .append(Component.text(" bad", NamedTextColor.RED));
+
+    final Component expected = Component.text("a ")
+      .append(Component.text("good"))
+      .append(Component.text(" fine", NamedTextColor.GREEN))
+      .append(Component.text(b -> b.content(" ").color(NamedTextColor.RED).append(Component.text("good"))));
+
+    assertEquals(expected, original.replaceText(c -> c.match("bad").replacement("good")));
+  }
+
   @Test
   void testReplaceAtStartReturnsChild() {
     final Component base = Component.text("value");
@@ -246,4 +262,52 @@ class TextReplacementRendererTest {
       .build();
     assertEquals(expected, replaced);
   }
+
+  @Test
+  void testReplaceLiteralWithRegexCharacters() {
+    final Component base = Component.text("cost: $1.50 (or $1x50)");
+    final Component replaced = base.replaceText(c -> c.matchLiteral("$1.50").replacement("free"));
+    final Component expected = Component.text().content("cost: ")
+      .append(
+        Component.text("free"),
+        Component.text(" (or $1x50)")
+      )
+      .build();
+    assertEquals(expected, replaced);
+  }
+
+  @Test
+  void testReplaceLiteralWithoutMatchIsUnchanged() {
+    final Component base = Component.text()
+      .content("a")
+      .append(Component.text("ab", NamedTextColor.RED))
+      .append(Component.translatable("abc", Component.text("abcd")))
+      .build();
+    assertSame(base, base.replaceText(c -> c.matchLiteral("abcde").replacement("x")));
+  }
+
+  @Test
+  void testReplaceLiteralMatchesRegex() {
+    final Random random = new Random(7);
+    for(int round = 0; round < 200; round++) {
+      final String literal = randomText(random, 1 + random.nextInt(3));
+      final TextComponent.Builder builder = Component.text().content(randomText(random, random.nextInt(12)));
+      for(int i = 0, count = random.nextInt(4); i < count; i++) {
+        builder.append(Component.text(randomText(random, random.nextInt(12)), NamedTextColor.GREEN));
+      }
+      final Component base = builder.build();
+      final int times = 1 + random.nextInt(5);
+      final Component viaRegex = base.replaceText(c -> c.match(Pattern.compile(Pattern.quote(literal))).replacement(b -> b.color(NamedTextColor.RED)).times(times));
+      final Component viaLiteral = base.replaceText(c -> c.matchLiteral(literal).replacement(b -> b.color(NamedTextColor.RED)).times(times));
+      assertEquals(viaRegex, viaLiteral);
+    }
+  }
+
+  private static String randomText(final Random random, final int length) {
+    final StringBuilder builder = new StringBuilder(length);
+    for(int i = 0; i < length; i++) {
+      builder.append((char) ('a' + random.nextInt(2)));
+    }
+    return builder.toString();
+  }
 }
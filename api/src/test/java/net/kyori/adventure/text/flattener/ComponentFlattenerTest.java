@@ -233,6 +233,47 @@ class ComponentFlattenerTest {
       .assertContents("my.key");
   }
 
+  @Test
+  void testComplexHandlerBeforeChildren() {
+    final ComponentFlattener flattener = ComponentFlattener.basic().toBuilder()
+      .complexMapper(TranslatableComponent.class, (component, accepter) -> {
+        accepter.accept(Component.text("a").append(Component.text("b")));
+        accepter.accept(Component.text("c"));
+      })
+      .build();
+
+    this.testFlatten(flattener, Component.translatable("my.key").append(Component.text("d")))
+      .assertBalanced()
+      .assertPushesAndPops(5)
+      .assertContents("a", "b", "c", "d");
+  }
+
+  @Test
+  void testDeepTree() {
+    Component deep = Component.text("leaf");
+    for(int i = 0; i < 100_000; i++) {
+      deep = Component.text(i % 2 == 0 ? "" : "x").append(deep);
+    }
+
+    final TrackingFlattener listener = this.testFlatten(ComponentFlattener.basic(), deep)
+      .assertBalanced()
+      .assertPushesAndPops(100_001);
+    assertEquals("leaf", listener.strings.get(listener.strings.size() - 1));
+  }
+
+  @Test
+  void testBalancedOnFailure() {
+    final ComponentFlattener flattener = ComponentFlattener.basic().toBuilder()
+      .mapper(TranslatableComponent.class, component -> {
+        throw new IllegalStateException(component.key());
+      })
+      .build();
+    final TrackingFlattener listener = new TrackingFlattener();
+
+    assertThrows(IllegalStateException.class, () -> flattener.flatten(Component.text("a").append(Component.text("b").append(Component.translatable("fail"))), listener));
+    listener.assertBalanced().assertPushesAndPops(3).assertContents("a", "b");
+  }
+
   @Test
   void testFailsWhenInSameHierarchy() {
     final ComponentFlattener.Builder builder = ComponentFlattener.builder();
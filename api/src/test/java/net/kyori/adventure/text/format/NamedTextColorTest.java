@@ -23,6 +23,9 @@
  */
 package net.kyori.adventure.text.format;
 
+import java.util.Arrays;
+import java.util.List;
+import net.kyori.adventure.util.HSVLike;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -55,6 +58,59 @@ class NamedTextColorTest {
     assertNearest(NamedTextColor.DARK_GRAY, 0x4c4c4c);
   }
 
+  @Test
+  void testNearestMatchesDistanceSearchForAllColors() {
+    // declaration order, which decides ties
+    final List<NamedTextColor> values = Arrays.asList(
+      NamedTextColor.BLACK, NamedTextColor.DARK_BLUE, NamedTextColor.DARK_GREEN, NamedTextColor.DARK_AQUA,
+      NamedTextColor.DARK_RED, NamedTextColor.DARK_PURPLE, NamedTextColor.GOLD, NamedTextColor.GRAY,
+      NamedTextColor.DARK_GRAY, NamedTextColor.BLUE, NamedTextColor.GREEN, NamedTextColor.AQUA,
+      NamedTextColor.RED, NamedTextColor.LIGHT_PURPLE, NamedTextColor.YELLOW, NamedTextColor.WHITE
+    );
+    for(int value = 0; value <= 0xffffff; value++) {
+      final TextColor color = TextColor.color(value);
+      final NamedTextColor expected = nearestBySearch(values, color.asHSV());
+      final NamedTextColor actual = NamedTextColor.nearestTo(color);
+      if(expected != actual) {
+        assertEquals(expected, actual, () -> "nearest colour to " + color.asHexString());
+      }
+    }
+  }
+
+  @Test
+  void testNearestUsesCustomHSV() {
+    final TextColor custom = new TextColor() {
+      @Override
+      public int value() {
+        return 0xff0000;
+      }
+
+      @Override
+      public HSVLike asHSV() {
+        return NamedTextColor.BLUE.asHSV();
+      }
+    };
+    assertEquals(NamedTextColor.BLUE, NamedTextColor.nearestTo(custom));
+  }
+
+  // the search nearestTo is expected to agree with
+  private static NamedTextColor nearestBySearch(final List<NamedTextColor> values, final HSVLike hsv) {
+    float matchedDistance = Float.MAX_VALUE;
+    NamedTextColor match = values.get(0);
+    for(final NamedTextColor potential : values) {
+      final HSVLike other = potential.asHSV();
+      final float hueDistance = 3 * Math.abs(hsv.h() - other.h());
+      final float saturationDiff = hsv.s() - other.s();
+      final float valueDiff = hsv.v() - other.v();
+      final float distance = hueDistance * hueDistance + saturationDiff * saturationDiff + valueDiff * valueDiff;
+      if(distance < matchedDistance) {
+        match = potential;
+        matchedDistance = distance;
+      }
+    }
+    return match;
+  }
+
   private static void assertNearest(final NamedTextColor expected, final int value) {
     final NamedTextColor nearest = NamedTextColor.nearestTo(TextColor.color(value));
     assertEquals(expected, nearest);
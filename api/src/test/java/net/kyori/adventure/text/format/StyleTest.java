@@ -27,8 +27,11 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.testing.EqualsTester;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -46,6 +49,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class StyleTest {
@@ -155,6 +159,34 @@ class StyleTest {
     assertThat(Style.style(TextDecoration.BOLD).decorations()).containsEntry(TextDecoration.BOLD, TextDecoration.State.TRUE);
   }
 
+  @Test
+  void testDecorationsUnmodifiable() {
+    final Map<TextDecoration, TextDecoration.State> decorations = Style.style(TextDecoration.BOLD).decorations();
+    assertThrows(UnsupportedOperationException.class, () -> decorations.put(TextDecoration.ITALIC, TextDecoration.State.TRUE));
+  }
+
+  @Test
+  void testDecorationStatesIndependent() {
+    Style style = Style.empty();
+    for(final TextDecoration decoration : TextDecoration.values()) {
+      for(final TextDecoration.State state : TextDecoration.State.values()) {
+        style = style.decoration(decoration, state);
+        assertEquals(state, style.decoration(decoration));
+      }
+    }
+    for(final TextDecoration decoration : TextDecoration.values()) {
+      assertEquals(TextDecoration.State.TRUE, style.decoration(decoration));
+    }
+  }
+
+  @Test
+  void testCommonStylesInterned() {
+    assertSame(Style.style(NamedTextColor.RED, TextDecoration.BOLD), Style.style(NamedTextColor.RED, TextDecoration.BOLD));
+    assertSame(Style.style(NamedTextColor.GOLD), Style.empty().color(NamedTextColor.GOLD));
+    assertSame(Style.empty(), Style.style(NamedTextColor.RED).color(null));
+    assertTrue(Style.style(TextDecoration.ITALIC).decoration(TextDecoration.ITALIC, TextDecoration.State.NOT_SET).isEmpty());
+  }
+
   @Test
   void testSetDecorations() {
     final Style s0 = Style.empty().decorations(ImmutableMap.of(
@@ -235,6 +267,17 @@ class StyleTest {
     assertEquals(s0, s1.font(null));
   }
 
+  @Test
+  void testMergeSetMasksFollowOrdinals() {
+    assertEquals(MergeSet.ALL, MergeSet.mask(EnumSet.allOf(Style.Merge.class)));
+    assertEquals(MergeSet.COLOR, MergeSet.mask(EnumSet.of(Style.Merge.COLOR)));
+    assertEquals(MergeSet.DECORATIONS, MergeSet.mask(EnumSet.of(Style.Merge.DECORATIONS)));
+    assertEquals(MergeSet.EVENTS, MergeSet.mask(EnumSet.of(Style.Merge.EVENTS)));
+    assertEquals(MergeSet.INSERTION, MergeSet.mask(EnumSet.of(Style.Merge.INSERTION)));
+    assertEquals(MergeSet.FONT, MergeSet.mask(EnumSet.of(Style.Merge.FONT)));
+    assertEquals(EnumSet.allOf(Style.Merge.class), Style.Merge.all());
+  }
+
   private static Style merge(final Style a, final Style.Merge merge) {
     final Style b = Style.style()
       .color(NamedTextColor.RED)
@@ -255,6 +298,55 @@ class StyleTest {
     assertEquals(NamedTextColor.BLACK, s2.color());
   }
 
+  @Test
+  void testMergeUnchangedReturnsSame() {
+    final Style s0 = Style.style(NamedTextColor.RED, TextDecoration.BOLD).insertion("foo");
+    assertSame(s0, s0.merge(Style.style(NamedTextColor.BLUE), Style.Merge.Strategy.IF_ABSENT_ON_TARGET));
+    assertSame(s0, s0.merge(Style.style(NamedTextColor.BLUE), Style.Merge.INSERTION));
+    final Style s1 = Style.style(NamedTextColor.BLUE, TextDecoration.ITALIC);
+    assertSame(s1, Style.style(NamedTextColor.RED).merge(s1));
+  }
+
+  @Test
+  void testMergeMatchesBuilder() {
+    final List<Style> styles = ImmutableList.of(
+      Style.empty(),
+      Style.style(NamedTextColor.RED),
+      Style.style(NamedTextColor.BLUE, TextDecoration.BOLD, TextDecoration.ITALIC),
+      Style.style().decoration(TextDecoration.BOLD, false).decoration(TextDecoration.OBFUSCATED, true).build(),
+      Style.style().clickEvent(ClickEvent.runCommand("/foo")).insertion("bar").build(),
+      Style.style().hoverEvent(HoverEvent.showText(Component.text("baz"))).font(Key.key("uniform")).build()
+    );
+    final Style.Merge[] parts = Style.Merge.values();
+    for(final Style a : styles) {
+      for(final Style b : styles) {
+        for(final Style.Merge.Strategy strategy : Style.Merge.Strategy.values()) {
+          for(int mask = 0; mask < (1 << parts.length); mask++) {
+            final Set<Style.Merge> merges = EnumSet.noneOf(Style.Merge.class);
+            for(int i = 0; i < parts.length; i++) {
+              if((mask & (1 << i)) != 0) merges.add(parts[i]);
+            }
+            final Style expected = a.toBuilder().merge(b, strategy, merges).build();
+            assertEquals(expected, a.merge(b, strategy, merges));
+            assertEquals(expected, a.merge(b, strategy, Style.Merge.of(merges.toArray(new Style.Merge[0]))));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void testMergeSets() {
+    assertEquals(EnumSet.allOf(Style.Merge.class), Style.Merge.all());
+    assertEquals(Style.Merge.all(), EnumSet.allOf(Style.Merge.class));
+    assertEquals(EnumSet.of(Style.Merge.COLOR, Style.Merge.DECORATIONS), Style.Merge.colorAndDecorations());
+    assertSame(Style.Merge.colorAndDecorations(), Style.Merge.of(Style.Merge.DECORATIONS, Style.Merge.COLOR));
+    assertTrue(Style.Merge.of().isEmpty());
+    assertFalse(Style.Merge.of(Style.Merge.FONT).contains(Style.Merge.COLOR));
+    assertThat(Style.Merge.of(Style.Merge.FONT, Style.Merge.COLOR)).containsExactly(Style.Merge.COLOR, Style.Merge.FONT).inOrder();
+    assertThrows(UnsupportedOperationException.class, () -> Style.Merge.all().remove(Style.Merge.COLOR));
+  }
+
   @Test
   void testBuilderColorIfAbsent() {
     assertEquals(NamedTextColor.GREEN, Style.style().colorIfAbsent(NamedTextColor.GREEN).build().color());
@@ -0,0 +1,133 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.renderer;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CachingComponentRendererTest {
+  private static final List<Locale> LOCALES = Arrays.asList(Locale.US, Locale.UK, Locale.GERMANY, Locale.FRANCE, Locale.JAPAN);
+
+  private final AtomicInteger translations = new AtomicInteger();
+  private final TranslatableComponentRenderer<Locale> translator = new TranslatableComponentRenderer<Locale>() {
+    @Override
+    protected @NonNull MessageFormat translate(final @NonNull String key, final @NonNull Locale context) {
+      CachingComponentRendererTest.this.translations.incrementAndGet();
+      return new MessageFormat(key + " in " + context.toLanguageTag() + ": {0}", context);
+    }
+  };
+
+  @Test
+  void testBroadcastRendersOncePerLocale() {
+    final CachingComponentRenderer<Locale> renderer = CachingComponentRenderer.caching(this.translator, 16);
+    final Component message = Component.text()
+      .content("[Server] ")
+      .append(Component.translatable("welcome", NamedTextColor.GOLD).args(Component.text("kashike")))
+      .build();
+    final Component[] expected = new Component[LOCALES.size()];
+    for(int i = 0; i < expected.length; i++) {
+      expected[i] = this.translator.render(message, LOCALES.get(i));
+    }
+    this.translations.set(0);
+    for(int player = 0; player < 500; player++) {
+      assertEquals(expected[player % LOCALES.size()], renderer.render(message, LOCALES.get(player % LOCALES.size())));
+    }
+    assertEquals(LOCALES.size(), this.translations.get());
+    assertEquals(500 - LOCALES.size(), renderer.hits());
+  }
+
+  @Test
+  void testUntranslatedSubtreesAreUnchanged() {
+    final CachingComponentRenderer<Locale> renderer = CachingComponentRenderer.caching(this.translator, 16);
+    final Component prefix = Component.text("[Server] ", NamedTextColor.GRAY).append(Component.keybind("key.jump"));
+    final Component message = Component.text().append(prefix, Component.translatable("welcome")).build();
+    final Component rendered = renderer.render(message, Locale.US);
+    assertSame(prefix, rendered.children().get(0));
+    assertEquals(Component.text("welcome in en-US: {0}"), rendered.children().get(1));
+
+    final Component plain = Component.text("nothing to translate").append(prefix);
+    assertSame(plain, renderer.render(plain, Locale.US));
+    assertEquals(1, this.translations.get());
+  }
+
+  @Test
+  void testHoverEventsAreRendered() {
+    final CachingComponentRenderer<Locale> renderer = CachingComponentRenderer.caching(this.translator, 16);
+    final Component message = Component.text("hover me").hoverEvent(HoverEvent.showText(Component.translatable("tooltip")));
+    assertEquals(this.translator.render(message, Locale.US), renderer.render(message, Locale.US));
+  }
+
+  @Test
+  void testEqualComponentsShareEntries() {
+    final CachingComponentRenderer<Locale> renderer = CachingComponentRenderer.caching(this.translator, 16);
+    renderer.render(Component.translatable("welcome", Component.text("kashike")), Locale.US);
+    renderer.render(Component.translatable("welcome", Component.text("kashike")), Locale.US);
+    assertEquals(1, renderer.misses());
+    assertEquals(1, renderer.hits());
+  }
+
+  @Test
+  void testMaximumSize() {
+    final CachingComponentRenderer<Locale> renderer = CachingComponentRenderer.caching(this.translator, 2);
+    final Component a = Component.translatable("a");
+    final Component b = Component.translatable("b");
+    final Component c = Component.translatable("c");
+    renderer.render(a, Locale.US);
+    renderer.render(b, Locale.US);
+    renderer.render(a, Locale.US);
+    renderer.render(c, Locale.US); // evicts b, the least recently used
+    renderer.render(a, Locale.US);
+    renderer.render(b, Locale.US);
+    assertEquals(4, renderer.misses());
+    assertEquals(2, renderer.hits());
+  }
+
+  @Test
+  void testInvalidate() {
+    final CachingComponentRenderer<Locale> renderer = CachingComponentRenderer.caching(this.translator, 16);
+    final Component message = Component.translatable("welcome");
+    renderer.render(message, Locale.US);
+    renderer.invalidate();
+    renderer.render(message, Locale.US);
+    assertEquals(2, renderer.misses());
+    assertEquals(2, this.translations.get());
+  }
+
+  @Test
+  void testInvalidMaximumSize() {
+    assertThrows(IllegalArgumentException.class, () -> CachingComponentRenderer.caching(this.translator, 0));
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.renderer;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentBuilder;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TranslatableComponentRendererTest {
+  private static final Map<String, MessageFormat> FORMATS = new HashMap<>();
+
+  static {
+    FORMATS.put("greeting", new MessageFormat("Hello {0}, welcome to {1}!", Locale.US));
+    FORMATS.put("plain", new MessageFormat("No arguments here", Locale.US));
+    FORMATS.put("twice", new MessageFormat("{0} and {0}", Locale.US));
+    FORMATS.put("choice", new MessageFormat("There {0,choice,0#are none|1#is one}.", Locale.US));
+  }
+
+  private final TranslatableComponentRenderer<Locale> renderer = new TranslatableComponentRenderer<Locale>() {
+    @Override
+    protected @Nullable MessageFormat translate(final @NonNull String key, final @NonNull Locale context) {
+      return FORMATS.get(key);
+    }
+  };
+
+  @Test
+  void testArguments() {
+    final Component rendered = this.renderer.render(Component.translatable("greeting", NamedTextColor.RED, Component.text("kashike"), Component.text("adventure", NamedTextColor.BLUE)), Locale.US);
+    assertEquals(
+      Component.text()
+        .color(NamedTextColor.RED)
+        .append(Component.text("Hello "))
+        .append(Component.text("kashike"))
+        .append(Component.text(", welcome to "))
+        .append(Component.text("adventure", NamedTextColor.BLUE))
+        .append(Component.text("!"))
+        .build(),
+      rendered
+    );
+  }
+
+  @Test
+  void testTextIsSharedBetweenRenders() {
+    final Component first = this.renderer.render(Component.translatable("greeting", Component.text("a"), Component.text("b")), Locale.US);
+    final Component second = this.renderer.render(Component.translatable("greeting", Component.text("c"), Component.text("d")), Locale.US);
+    assertSame(first.children().get(0), second.children().get(0));
+    assertSame(first.children().get(2), second.children().get(2));
+  }
+
+  @Test
+  void testRepeatedArgument() {
+    assertEquals(
+      Component.text().append(Component.text("x"), Component.text(" and "), Component.text("x")).build(),
+      this.renderer.render(Component.translatable("twice", Component.text("x")), Locale.US)
+    );
+  }
+
+  @Test
+  void testNoArguments() {
+    assertEquals(Component.text("No arguments here"), this.renderer.render(Component.translatable("plain"), Locale.US));
+    assertEquals(Component.text("Hello {0}, welcome to {1}!"), this.renderer.render(Component.translatable("greeting"), Locale.US));
+  }
+
+  @Test
+  void testMissingArguments() {
+    assertEquals(
+      Component.text().append(Component.text("Hello "), Component.text("kashike"), Component.text(", welcome to {1}!")).build(),
+      this.renderer.render(Component.translatable("greeting", Component.text("kashike")), Locale.US)
+    );
+  }
+
+  @Test
+  void testSubformatIsReplacedByArgument() {
+    assertEquals(
+      Component.text().append(Component.text("There "), Component.text("many"), Component.text(".")).build(),
+      this.renderer.render(Component.translatable("choice", Component.text("many")), Locale.US)
+    );
+  }
+
+  @Test
+  void testUntranslatedTextIsUnchanged() {
+    final Component text = Component.text("static", NamedTextColor.GRAY).append(Component.text("child"));
+    assertSame(text, this.renderer.render(text, Locale.US));
+  }
+
+  @Test
+  void testTranslatedHoverIsRenderedOnce() {
+    final AtomicInteger translations = new AtomicInteger();
+    final TranslatableComponentRenderer<Locale> renderer = new TranslatableComponentRenderer<Locale>() {
+      @Override
+      protected @Nullable MessageFormat translate(final @NonNull String key, final @NonNull Locale context) {
+        translations.incrementAndGet();
+        return FORMATS.get(key);
+      }
+    };
+    final Component rendered = renderer.render(Component.text("hover me").hoverEvent(HoverEvent.showText(Component.translatable("plain"))), Locale.US);
+    assertEquals(Component.text("hover me").hoverEvent(HoverEvent.showText(Component.text("No arguments here"))), rendered);
+    assertEquals(1, translations.get());
+  }
+
+  @Test
+  void testTextGoesThroughStyleHook() {
+    final TranslatableComponentRenderer<Locale> renderer = new TranslatableComponentRenderer<Locale>() {
+      @Override
+      protected @Nullable MessageFormat translate(final @NonNull String key, final @NonNull Locale context) {
+        return FORMATS.get(key);
+      }
+
+      @Override
+      protected <B extends ComponentBuilder<?, ?>> void mergeStyle(final Component component, final B builder, final Locale context) {
+        super.mergeStyle(component, builder, context);
+        builder.decoration(TextDecoration.BOLD, true);
+      }
+    };
+    assertEquals(
+      Component.text("a", Style.style(TextDecoration.BOLD)).append(Component.text("No arguments here", Style.style(TextDecoration.BOLD))),
+      renderer.render(Component.text("a").append(Component.translatable("plain")), Locale.US)
+    );
+  }
+}
@@ -78,6 +78,44 @@ class GlobalTranslatorTest {
     assertEquals(new MessageFormat("Hello {0}!"), GlobalTranslator.get().translate("testDummy", Locale.US));
   }
 
+  @Test
+  void testSourcesAreAskedInOrder() {
+    final TranslationRegistry first = TranslationRegistry.create(Key.key("adventure", "test_first"));
+    final TranslationRegistry second = TranslationRegistry.create(Key.key("adventure", "test_second"));
+    first.register("testOrder", Locale.US, new MessageFormat("first"));
+    second.register("testOrder", Locale.US, new MessageFormat("second"));
+    second.register("testDummy", Locale.US, new MessageFormat("second"));
+    try {
+      GlobalTranslator.get().addSource(first);
+      GlobalTranslator.get().addSource(DummyTranslator.INSTANCE);
+      GlobalTranslator.get().addSource(second);
+      assertEquals(new MessageFormat("first"), GlobalTranslator.get().translate("testOrder", Locale.US));
+      // not indexed, but still asked before the source added after it
+      assertEquals(new MessageFormat("Hello {0}!"), GlobalTranslator.get().translate("testDummy", Locale.US));
+
+      GlobalTranslator.get().removeSource(first);
+      assertEquals(new MessageFormat("second"), GlobalTranslator.get().translate("testOrder", Locale.US));
+    } finally {
+      GlobalTranslator.get().removeSource(first);
+      GlobalTranslator.get().removeSource(second);
+    }
+  }
+
+  @Test
+  void testKeysRegisteredAfterAdding() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_late"));
+    try {
+      GlobalTranslator.get().addSource(registry);
+      assertNull(GlobalTranslator.get().translate("testLate", Locale.US));
+      registry.register("testLate", Locale.US, new MessageFormat("late"));
+      assertEquals(new MessageFormat("late"), GlobalTranslator.get().translate("testLate", Locale.US));
+      registry.unregister("testLate");
+      assertNull(GlobalTranslator.get().translate("testLate", Locale.US));
+    } finally {
+      GlobalTranslator.get().removeSource(registry);
+    }
+  }
+
   static class DummyTranslator implements Translator {
     static final DummyTranslator INSTANCE = new DummyTranslator();
 
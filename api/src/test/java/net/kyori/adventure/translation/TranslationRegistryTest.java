@@ -26,8 +26,17 @@ package net.kyori.adventure.translation;
 import com.google.common.collect.ImmutableList;
 import com.google.common.testing.EqualsTester;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListResourceBundle;
 import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.HoverEvent;
@@ -41,6 +50,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TranslationRegistryTest {
   static final TranslationRegistry REGISTRY = TranslationRegistry.create(Key.key("adventure", "test"));
@@ -206,6 +216,215 @@ class TranslationRegistryTest {
       .testEquals();
   }
 
+  @Test
+  void testChangesAfterTranslating() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_changes"));
+    registry.register("greeting", Locale.US, new MessageFormat("Hello", Locale.US));
+    assertEquals(new MessageFormat("Hello", Locale.US), registry.translate("greeting", Locale.GERMANY));
+    assertNull(registry.translate("farewell", Locale.GERMANY));
+
+    registry.register("greeting", Locale.GERMAN, new MessageFormat("Hallo", Locale.GERMAN));
+    registry.register("farewell", Locale.US, new MessageFormat("Bye", Locale.US));
+    assertEquals(new MessageFormat("Hallo", Locale.GERMAN), registry.translate("greeting", Locale.GERMANY));
+    assertEquals(new MessageFormat("Bye", Locale.US), registry.translate("farewell", Locale.GERMANY));
+
+    registry.register("farewell", Locale.FRANCE, new MessageFormat("Au revoir", Locale.FRANCE));
+    registry.defaultLocale(Locale.FRANCE);
+    assertEquals(new MessageFormat("Au revoir", Locale.FRANCE), registry.translate("farewell", Locale.GERMANY));
+
+    registry.unregister("greeting");
+    assertNull(registry.translate("greeting", Locale.GERMANY));
+  }
+
+  @Test
+  void testManyLocales() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_many_locales"));
+    registry.register("greeting", Locale.US, new MessageFormat("Hello", Locale.US));
+    registry.register("greeting", Locale.GERMAN, new MessageFormat("Hallo", Locale.GERMAN));
+    for(int i = 0; i < 1000; i++) {
+      assertEquals(new MessageFormat("Hello", Locale.US), registry.translate("greeting", new Locale("en", "X" + i)));
+      assertEquals(new MessageFormat("Hallo", Locale.GERMAN), registry.translate("greeting", new Locale("de", "X" + i)));
+    }
+
+    // changes to known locales reach every locale falling back to them, cached or not
+    registry.register("farewell", Locale.GERMAN, new MessageFormat("Tschuess", Locale.GERMAN));
+    registry.unregister("greeting");
+    for(int i = 0; i < 1000; i++) {
+      assertNull(registry.translate("greeting", new Locale("de", "X" + i)));
+      assertEquals(new MessageFormat("Tschuess", Locale.GERMAN), registry.translate("farewell", new Locale("de", "X" + i)));
+    }
+
+    // as do translations in a locale that had none before
+    registry.register("farewell", new Locale("de", "X1"), new MessageFormat("Servus", Locale.GERMAN));
+    assertEquals(new MessageFormat("Servus", Locale.GERMAN), registry.translate("farewell", new Locale("de", "X1")));
+    assertEquals(new MessageFormat("Tschuess", Locale.GERMAN), registry.translate("farewell", new Locale("de", "X2")));
+  }
+
+  @Test
+  void testRegisterLazily() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_lazy"));
+    registry.register("test", Locale.US, new MessageFormat("This is a test.", Locale.US));
+    final AtomicInteger loads = new AtomicInteger();
+    final List<Runnable> tasks = new ArrayList<>();
+    registry.registerAllLazily(Locale.GERMAN, () -> {
+      loads.incrementAndGet();
+      return new ListResourceBundle() {
+        @Override
+        protected Object[][] getContents() {
+          return new Object[][]{{"test", "Das ist ein Test."}, {"it's", "Es ist's"}};
+        }
+      };
+    }, true, tasks::add);
+    assertEquals(0, tasks.size());
+
+    // other locales do not need the bundle
+    assertEquals(new MessageFormat("This is a test.", Locale.US), registry.translate("test", Locale.FRANCE));
+    assertEquals(0, tasks.size());
+
+    // the bundle is only needed for its language, and falls back until it has loaded
+    assertEquals(new MessageFormat("This is a test.", Locale.US), registry.translate("test", Locale.GERMANY));
+    assertEquals(1, tasks.size());
+    assertEquals(0, loads.get());
+    tasks.get(0).run();
+    assertEquals(1, loads.get());
+    assertEquals(new MessageFormat("Das ist ein Test.", Locale.GERMAN), registry.translate("test", Locale.GERMANY));
+    assertEquals(new MessageFormat("Es ist''s", Locale.GERMAN), registry.translate("it's", Locale.GERMAN));
+
+    // loaded only once
+    registry.translate("test", Locale.GERMAN);
+    assertEquals(1, tasks.size());
+  }
+
+  @Test
+  void testRegisterLazilyThroughGlobalTranslator() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_lazy_global"));
+    registry.registerAllLazily(Locale.US, () -> ResourceBundle.getBundle("adventure-test", Locale.US, UTF8ResourceBundleControl.get()), true, Runnable::run);
+    try {
+      GlobalTranslator.get().addSource(registry);
+      assertEquals(new MessageFormat("This is a test.", Locale.US), GlobalTranslator.get().translate("test", Locale.US));
+    } finally {
+      GlobalTranslator.get().removeSource(registry);
+    }
+  }
+
+  @Test
+  void testRegisterLazilyRetriesFailedLoadLater() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_lazy_retry"));
+    final AtomicInteger loads = new AtomicInteger();
+    registry.registerAllLazily(Locale.US, () -> {
+      loads.incrementAndGet();
+      throw new MissingResourceException("Missing", "adventure-test", "");
+    }, true, Runnable::run);
+    assertThrows(MissingResourceException.class, () -> registry.translate("test", Locale.US));
+    assertEquals(1, loads.get());
+
+    // still to be loaded, but not by every lookup
+    assertNull(registry.translate("test", Locale.US));
+    assertNull(registry.translate("test", Locale.US));
+    assertEquals(1, loads.get());
+    assertTrue(((TranslationRegistryImpl) registry).loading());
+  }
+
+  @Test
+  void testRegisterLazilyLoadOutlivingReplaceAll() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_lazy_replace"));
+    final List<Runnable> tasks = new ArrayList<>();
+    registry.registerAllLazily(Locale.US, () -> ResourceBundle.getBundle("adventure-test", Locale.US, UTF8ResourceBundleControl.get()), true, tasks::add);
+    assertNull(registry.translate("test", Locale.US));
+    assertEquals(1, tasks.size());
+    registry.replaceAll(Collections.singletonMap(Locale.US, Collections.singletonMap("other", new MessageFormat("Other", Locale.US))));
+    tasks.get(0).run();
+    assertNull(registry.translate("test", Locale.US));
+    assertEquals(new MessageFormat("Other", Locale.US), registry.translate("other", Locale.US));
+  }
+
+  @Test
+  void testGlobalTranslatorFindsKnownKeysWhileLoading() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_lazy_indexed"));
+    registry.register("known", Locale.US, new MessageFormat("Known", Locale.US));
+    final List<Runnable> tasks = new ArrayList<>();
+    registry.registerAllLazily(Locale.GERMAN, () -> ResourceBundle.getBundle("adventure-test", Locale.US, UTF8ResourceBundleControl.get()), true, tasks::add);
+    try {
+      GlobalTranslator.get().addSource(registry);
+      assertEquals(new MessageFormat("Known", Locale.US), GlobalTranslator.get().translate("known", Locale.US));
+      assertEquals(0, tasks.size());
+      assertEquals(new MessageFormat("Known", Locale.US), GlobalTranslator.get().translate("known", Locale.GERMANY));
+      assertEquals(1, tasks.size());
+      tasks.get(0).run();
+      assertEquals(new MessageFormat("This is a test.", Locale.GERMAN), GlobalTranslator.get().translate("test", Locale.GERMANY));
+    } finally {
+      GlobalTranslator.get().removeSource(registry);
+    }
+  }
+
+  @Test
+  void testReplaceAll() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_replace"));
+    registry.register("old", Locale.US, new MessageFormat("Old", Locale.US));
+    registry.register("kept", Locale.US, new MessageFormat("Kept", Locale.US));
+    assertEquals(new MessageFormat("Old", Locale.US), registry.translate("old", Locale.US));
+
+    final Map<Locale, Map<String, MessageFormat>> translations = new HashMap<>();
+    translations.computeIfAbsent(Locale.US, locale -> new HashMap<>()).put("kept", new MessageFormat("Kept again", Locale.US));
+    translations.computeIfAbsent(Locale.GERMAN, locale -> new HashMap<>()).put("kept", new MessageFormat("Behalten", Locale.GERMAN));
+    registry.replaceAll(translations);
+
+    assertNull(registry.translate("old", Locale.US));
+    assertEquals(new MessageFormat("Kept again", Locale.US), registry.translate("kept", Locale.US));
+    assertEquals(new MessageFormat("Behalten", Locale.GERMAN), registry.translate("kept", Locale.GERMANY));
+    // registering again afterwards works as usual
+    registry.register("old", Locale.US, new MessageFormat("New", Locale.US));
+    assertEquals(new MessageFormat("New", Locale.US), registry.translate("old", Locale.US));
+  }
+
+  @Test
+  void testReplaceAllIsAtomic() throws InterruptedException {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_replace_atomic"));
+    registry.register("a", Locale.US, new MessageFormat("0", Locale.US));
+    final AtomicBoolean done = new AtomicBoolean();
+    final AtomicInteger missing = new AtomicInteger();
+    final Thread reader = new Thread(() -> {
+      while(!done.get()) {
+        if(registry.translate("a", Locale.US) == null) missing.incrementAndGet();
+      }
+    });
+    reader.start();
+    for(int i = 1; i <= 2000; i++) {
+      registry.replaceAll(Collections.singletonMap(Locale.US, Collections.singletonMap("a", new MessageFormat(String.valueOf(i), Locale.US))));
+    }
+    done.set(true);
+    reader.join();
+    assertEquals(0, missing.get());
+    assertEquals(new MessageFormat("2000", Locale.US), registry.translate("a", Locale.US));
+  }
+
+  @Test
+  void testReplaceAllNeverMixesLocales() throws InterruptedException {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_replace_locales"));
+    final Map<Locale, Map<String, MessageFormat>> both = new HashMap<>();
+    both.put(Locale.GERMAN, Collections.singletonMap("a", new MessageFormat("de", Locale.GERMAN)));
+    both.put(Locale.US, Collections.singletonMap("a", new MessageFormat("en old", Locale.US)));
+    final Map<Locale, Map<String, MessageFormat>> english = Collections.singletonMap(Locale.US, Collections.singletonMap("a", new MessageFormat("en new", Locale.US)));
+    registry.replaceAll(both);
+    final AtomicBoolean done = new AtomicBoolean();
+    final AtomicInteger mixed = new AtomicInteger();
+    final Thread reader = new Thread(() -> {
+      while(!done.get()) {
+        registry.translate("a", Locale.US);
+        // German falls back to English only once German is gone, so never to the old English
+        final MessageFormat format = registry.translate("a", Locale.GERMANY);
+        if(format == null || format.toPattern().equals("en old")) mixed.incrementAndGet();
+      }
+    });
+    reader.start();
+    for(int i = 0; i < 2000; i++) {
+      registry.replaceAll(i % 2 == 0 ? english : both);
+    }
+    done.set(true);
+    reader.join();
+    assertEquals(0, mixed.get());
+  }
+
   @Test
   @AfterAll
   static void testUnregister() {
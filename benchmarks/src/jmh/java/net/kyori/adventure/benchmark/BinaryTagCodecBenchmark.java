@@ -0,0 +1,177 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.nbt.BinaryTagCodec;
+import net.kyori.adventure.nbt.BinaryTagIO;
+import net.kyori.adventure.nbt.BinaryTagProperty;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.kyori.adventure.nbt.ListBinaryTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class BinaryTagCodecBenchmark {
+  private BinaryTagCodec<Item> codec;
+  private BinaryTagIO.Writer writer;
+  private CompoundBinaryTag tag;
+  private Item item;
+
+  @Setup
+  public void setup() {
+    this.codec = BinaryTagCodec.codec(Item.class);
+    this.writer = BinaryTagIO.writer();
+    this.tag = Fixtures.item();
+    this.item = this.codec.decode(this.tag);
+  }
+
+  @Benchmark
+  public Item codecDecode() {
+    return this.codec.decode(this.tag);
+  }
+
+  @Benchmark
+  public Item handDecode() {
+    return Item.decode(this.tag);
+  }
+
+  @Benchmark
+  public CompoundBinaryTag codecEncode() {
+    return this.codec.encode(this.item);
+  }
+
+  @Benchmark
+  public CompoundBinaryTag handEncode() {
+    return this.item.encode();
+  }
+
+  @Benchmark
+  public byte[] codecWrite() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try(final DataOutputStream dos = new DataOutputStream(output)) {
+      this.codec.write(this.item, dos);
+    }
+    return output.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] handWrite() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    this.writer.write(this.item.encode(), output);
+    return output.toByteArray();
+  }
+
+  // the same shape as Fixtures.item(), bound both ways
+  public static class Item {
+    @BinaryTagProperty
+    String id;
+    @BinaryTagProperty("Count")
+    byte count;
+    @BinaryTagProperty
+    Tag tag;
+
+    static Item decode(final CompoundBinaryTag compound) {
+      final Item item = new Item();
+      item.id = compound.getString("id");
+      item.count = compound.getByte("Count");
+      item.tag = Tag.decode(compound.getCompound("tag"));
+      return item;
+    }
+
+    CompoundBinaryTag encode() {
+      return CompoundBinaryTag.builder()
+        .putString("id", this.id)
+        .putByte("Count", this.count)
+        .put("tag", this.tag.encode())
+        .build();
+    }
+  }
+
+  public static class Tag {
+    @BinaryTagProperty("Damage")
+    int damage;
+    @BinaryTagProperty("Unbreakable")
+    boolean unbreakable;
+    @BinaryTagProperty
+    Display display;
+    @BinaryTagProperty("Enchantments")
+    ListBinaryTag enchantments;
+
+    static Tag decode(final CompoundBinaryTag compound) {
+      final Tag tag = new Tag();
+      tag.damage = compound.getInt("Damage");
+      tag.unbreakable = compound.getBoolean("Unbreakable");
+      tag.display = Display.decode(compound.getCompound("display"));
+      tag.enchantments = compound.getList("Enchantments");
+      return tag;
+    }
+
+    CompoundBinaryTag encode() {
+      return CompoundBinaryTag.builder()
+        .putInt("Damage", this.damage)
+        .putBoolean("Unbreakable", this.unbreakable)
+        .put("display", this.display.encode())
+        .put("Enchantments", this.enchantments)
+        .build();
+    }
+  }
+
+  public static class Display {
+    @BinaryTagProperty("Name")
+    String name;
+    @BinaryTagProperty("Lore")
+    ListBinaryTag lore;
+
+    static Display decode(final CompoundBinaryTag compound) {
+      final Display display = new Display();
+      display.name = compound.getString("Name");
+      display.lore = compound.getList("Lore");
+      return display;
+    }
+
+    CompoundBinaryTag encode() {
+      return CompoundBinaryTag.builder()
+        .putString("Name", this.name)
+        .put("Lore", this.lore)
+        .build();
+    }
+  }
+}
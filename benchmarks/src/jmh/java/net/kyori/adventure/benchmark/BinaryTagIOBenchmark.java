@@ -0,0 +1,92 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.nbt.BinaryTagIO;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class BinaryTagIOBenchmark {
+  @Param({"NONE", "GZIP", "ZLIB"})
+  public String compression;
+
+  private BinaryTagIO.Compression mode;
+  private BinaryTagIO.Reader reader;
+  private BinaryTagIO.Writer writer;
+  private CompoundBinaryTag tag;
+  private byte[] encoded;
+
+  @Setup
+  public void setup() throws IOException {
+    switch(this.compression) {
+      case "GZIP":
+        this.mode = BinaryTagIO.Compression.GZIP;
+        break;
+      case "ZLIB":
+        this.mode = BinaryTagIO.Compression.ZLIB;
+        break;
+      default:
+        this.mode = BinaryTagIO.Compression.NONE;
+        break;
+    }
+    this.reader = BinaryTagIO.reader();
+    this.writer = BinaryTagIO.writer();
+    this.tag = Fixtures.playerData();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    this.writer.write(this.tag, output, this.mode);
+    this.encoded = output.toByteArray();
+  }
+
+  @Benchmark
+  public CompoundBinaryTag read() throws IOException {
+    return this.reader.read(new ByteArrayInputStream(this.encoded), this.mode);
+  }
+
+  @Benchmark
+  public byte[] write() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream(this.encoded.length);
+    this.writer.write(this.tag, output, this.mode);
+    return output.toByteArray();
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.benchmark;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class ComponentEqualityBenchmark {
+  @Param({"8", "64", "256"})
+  public int depth;
+
+  private Component tree;
+  private Component equalTree;
+  private Component differentLeaf;
+  private Set<Component> seen;
+
+  @Setup
+  public void setup() {
+    this.tree = deepTree(this.depth, "leaf");
+    this.equalTree = deepTree(this.depth, "leaf");
+    this.differentLeaf = deepTree(this.depth, "other leaf");
+    this.seen = new HashSet<>();
+    this.seen.add(this.tree);
+    this.seen.add(this.differentLeaf);
+  }
+
+  @Benchmark
+  public int hashCodeDeep() {
+    return this.tree.hashCode();
+  }
+
+  @Benchmark
+  public boolean equalsEqual() {
+    return this.tree.equals(this.equalTree);
+  }
+
+  @Benchmark
+  public boolean equalsDifferentLeaf() {
+    return this.tree.equals(this.differentLeaf);
+  }
+
+  @Benchmark
+  public boolean containsInSet() {
+    return this.seen.contains(this.equalTree);
+  }
+
+  private static Component deepTree(final int depth, final String leaf) {
+    Component component = Component.text(leaf, NamedTextColor.RED);
+    for(int i = 0; i < depth; i++) {
+      component = Component.text("level " + i).append(Component.text("sibling")).append(component);
+    }
+    return component;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentTemplate;
+import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class ComponentTemplateBenchmark {
+  private Component page;
+  private Component source;
+  private ComponentTemplate template;
+  private TextReplacementConfig player;
+  private TextReplacementConfig item;
+  private Component playerName;
+  private Component itemName;
+
+  @Setup
+  public void setup() {
+    // a broadcast: a large static prefix and suffix around two placeholders
+    this.page = Fixtures.bookPages().get(0);
+    this.source = Component.text()
+      .append(Component.text("[", NamedTextColor.DARK_GRAY), Component.text("Server", NamedTextColor.RED, TextDecoration.BOLD), Component.text("] ", NamedTextColor.DARK_GRAY))
+      .append(Component.text("{0} found {1}!", NamedTextColor.GRAY))
+      .append(this.page)
+      .build();
+    this.template = ComponentTemplate.compile(this.source);
+    this.playerName = Component.text("kashike", NamedTextColor.WHITE);
+    this.itemName = Component.text("Diamond Sword", NamedTextColor.AQUA);
+    this.player = TextReplacementConfig.builder().matchLiteral("{0}").replacement(this.playerName).build();
+    this.item = TextReplacementConfig.builder().matchLiteral("{1}").replacement(this.itemName).build();
+  }
+
+  @Benchmark
+  public Component builder() {
+    return Component.text()
+      .append(Component.text("[", NamedTextColor.DARK_GRAY), Component.text("Server", NamedTextColor.RED, TextDecoration.BOLD), Component.text("] ", NamedTextColor.DARK_GRAY))
+      .append(Component.text("", NamedTextColor.GRAY).append(this.playerName).append(Component.text(" found ")).append(this.itemName).append(Component.text("!")))
+      .append(this.page)
+      .build();
+  }
+
+  @Benchmark
+  public Component replaceText() {
+    return this.source.replaceText(this.player).replaceText(this.item);
+  }
+
+  @Benchmark
+  public Component template() {
+    return this.template.render(this.playerName, this.itemName);
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.nbt.BinaryTagTypes;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.kyori.adventure.nbt.DoubleBinaryTag;
+import net.kyori.adventure.nbt.FloatBinaryTag;
+import net.kyori.adventure.nbt.IntArrayBinaryTag;
+import net.kyori.adventure.nbt.ListBinaryTag;
+import net.kyori.adventure.nbt.StringBinaryTag;
+import net.kyori.adventure.nbt.api.BinaryTagHolder;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Shared, deterministic fixtures modelled on what a server actually sends and stores.
+ */
+final class Fixtures {
+  static final Locale LOCALE = Locale.US;
+
+  private Fixtures() {
+  }
+
+  /**
+   * Looks up a component fixture by the name used in benchmark parameters.
+   *
+   * @param name the fixture name
+   * @return the component
+   */
+  static @NonNull Component component(final @NonNull String name) {
+    switch(name) {
+      case "chatLine": return chatLine();
+      case "chatPacket": return chatPacket();
+      case "bookPage": return bookPages().get(0);
+      case "book": return Component.text().append(bookPages()).build();
+      case "deathMessage": return deathMessage();
+      default: throw new IllegalArgumentException("Unknown fixture: " + name);
+    }
+  }
+
+  /**
+   * A chat line: rank prefix, clickable name, separator, and a message with a link.
+   *
+   * @return a chat line
+   */
+  static @NonNull Component chatLine() {
+    return Component.text()
+      .append(Component.text("[", NamedTextColor.DARK_GRAY))
+      .append(Component.text("Admin", TextColor.color(0xff5555), TextDecoration.BOLD))
+      .append(Component.text("] ", NamedTextColor.DARK_GRAY))
+      .append(Component.text("kashike", NamedTextColor.WHITE)
+        .clickEvent(ClickEvent.suggestCommand("/msg kashike "))
+        .hoverEvent(HoverEvent.showText(Component.text("Click to message", NamedTextColor.GRAY))))
+      .append(Component.text(": ", NamedTextColor.DARK_GRAY))
+      .append(Component.text("has anyone seen the ", NamedTextColor.GRAY))
+      .append(Component.text("diamond sword", NamedTextColor.AQUA, TextDecoration.ITALIC))
+      .append(Component.text("? details at ", NamedTextColor.GRAY))
+      .append(Component.text("https://example.com/wiki/diamond_sword", NamedTextColor.BLUE, TextDecoration.UNDERLINED)
+        .clickEvent(ClickEvent.openUrl("https://example.com/wiki/diamond_sword")))
+      .build();
+  }
+
+  /**
+   * A vanilla-formatted chat message: the sender with an entity hover, and a message showing an item.
+   *
+   * @return a chat packet component
+   */
+  static @NonNull Component chatPacket() {
+    final UUID sender = new UUID(0x1234_5678_9abc_def0L, 0x0fed_cba9_8765_4321L);
+    return Component.translatable("chat.type.text",
+      Component.text("kashike")
+        .clickEvent(ClickEvent.suggestCommand("/tell kashike "))
+        .hoverEvent(HoverEvent.showEntity(Key.key("player"), sender, Component.text("kashike")))
+        .insertion("kashike"),
+      Component.text()
+        .append(Component.text("look at my "))
+        .append(Component.text("[Excalibur]", NamedTextColor.GOLD)
+          .hoverEvent(HoverEvent.showItem(Key.key("diamond_sword"), 1, BinaryTagHolder.of("{Damage:12,Enchantments:[{id:\"minecraft:sharpness\",lvl:5s}],display:{Name:'{\"text\":\"Excalibur\"}'}}"))))
+        .append(Component.text("!"))
+        .build());
+  }
+
+  /**
+   * A page-heavy book, as written by players.
+   *
+   * @return book pages
+   */
+  static @NonNull List<Component> bookPages() {
+    final List<Component> pages = new ArrayList<>(50);
+    for(int i = 0; i < 50; i++) {
+      pages.add(Component.text()
+        .append(Component.text("Chapter " + (i + 1), NamedTextColor.DARK_RED, TextDecoration.BOLD))
+        .append(Component.newline())
+        .append(Component.text("It was a dark and stormy night; the rain fell in torrents, except at occasional intervals, when it was checked by a violent gust of wind. ", NamedTextColor.BLACK))
+        .append(Component.translatable("item.minecraft.diamond_sword", NamedTextColor.DARK_BLUE))
+        .append(Component.text(" lay on the table beside page " + i + '.', NamedTextColor.BLACK))
+        .build());
+    }
+    return pages;
+  }
+
+  /**
+   * A translatable death message with nested arguments.
+   *
+   * @return a translatable component
+   */
+  static @NonNull Component deathMessage() {
+    return Component.translatable("death.attack.player.item", NamedTextColor.WHITE,
+      Component.text("kashike", NamedTextColor.YELLOW),
+      Component.text("lucko", NamedTextColor.YELLOW),
+      Component.translatable("item.minecraft.diamond_sword", NamedTextColor.AQUA));
+  }
+
+  /**
+   * An enchanted, renamed item stack.
+   *
+   * @return item nbt
+   */
+  static @NonNull CompoundBinaryTag item() {
+    return CompoundBinaryTag.builder()
+      .putString("id", "minecraft:diamond_sword")
+      .putByte("Count", (byte) 1)
+      .put("tag", CompoundBinaryTag.builder()
+        .putInt("Damage", 12)
+        .putBoolean("Unbreakable", false)
+        .put("display", CompoundBinaryTag.builder()
+          .putString("Name", "{\"text\":\"Excalibur\",\"color\":\"gold\",\"italic\":false}")
+          .put("Lore", ListBinaryTag.builder()
+            .add(StringBinaryTag.of("{\"text\":\"Pulled from the stone\",\"color\":\"gray\"}"))
+            .add(StringBinaryTag.of("{\"text\":\"Legendary\",\"color\":\"light_purple\"}"))
+            .build())
+          .build())
+        .put("Enchantments", ListBinaryTag.builder()
+          .add(enchantment("minecraft:sharpness", 5))
+          .add(enchantment("minecraft:unbreaking", 3))
+          .add(enchantment("minecraft:looting", 3))
+          .add(enchantment("minecraft:mending", 1))
+          .build())
+        .build())
+      .build();
+  }
+
+  /**
+   * A player data file: position, inventory, ender chest and attributes.
+   *
+   * @return player nbt
+   */
+  static @NonNull CompoundBinaryTag playerData() {
+    final ListBinaryTag.Builder<CompoundBinaryTag> inventory = ListBinaryTag.builder(BinaryTagTypes.COMPOUND);
+    for(int slot = 0; slot < 36; slot++) {
+      inventory.add(item().putByte("Slot", (byte) slot));
+    }
+    final ListBinaryTag.Builder<CompoundBinaryTag> enderItems = ListBinaryTag.builder(BinaryTagTypes.COMPOUND);
+    for(int slot = 0; slot < 27; slot++) {
+      enderItems.add(CompoundBinaryTag.builder()
+        .putString("id", "minecraft:cobblestone")
+        .putByte("Count", (byte) 64)
+        .putByte("Slot", (byte) slot)
+        .build());
+    }
+    final UUID uuid = new UUID(0x1234_5678_9abc_def0L, 0x0fed_cba9_8765_4321L);
+    return CompoundBinaryTag.builder()
+      .putIntArray("UUID", new int[]{(int) (uuid.getMostSignificantBits() >> 32), (int) uuid.getMostSignificantBits(), (int) (uuid.getLeastSignificantBits() >> 32), (int) uuid.getLeastSignificantBits()})
+      .put("Pos", ListBinaryTag.builder()
+        .add(DoubleBinaryTag.of(128.5))
+        .add(DoubleBinaryTag.of(64.0))
+        .add(DoubleBinaryTag.of(-311.25))
+        .build())
+      .put("Rotation", ListBinaryTag.builder()
+        .add(FloatBinaryTag.of(90.0f))
+        .add(FloatBinaryTag.of(12.5f))
+        .build())
+      .putFloat("Health", 20.0f)
+      .putInt("foodLevel", 20)
+      .putInt("XpLevel", 30)
+      .putString("Dimension", Key.key("overworld").asString())
+      .put("Inventory", inventory.build())
+      .put("EnderItems", enderItems.build())
+      .put("SpawnPos", IntArrayBinaryTag.of(0, 64, 0))
+      .build();
+  }
+
+  private static @NonNull CompoundBinaryTag enchantment(final @NonNull String id, final int level) {
+    return CompoundBinaryTag.builder()
+      .putString("id", id)
+      .putShort("lvl", (short) level)
+      .build();
+  }
+}
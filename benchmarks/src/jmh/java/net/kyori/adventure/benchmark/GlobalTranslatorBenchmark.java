@@ -0,0 +1,85 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.benchmark;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.translation.GlobalTranslator;
+import net.kyori.adventure.translation.TranslationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class GlobalTranslatorBenchmark {
+  // one registry per plugin
+  private static final int REGISTRIES = 40;
+  private static final int KEYS = 100;
+
+  private final List<TranslationRegistry> registries = new ArrayList<>();
+
+  @Setup
+  public void setup() {
+    for(int i = 0; i < REGISTRIES; i++) {
+      final TranslationRegistry registry = TranslationRegistry.create(Key.key("benchmark", "plugin_" + i));
+      for(int j = 0; j < KEYS; j++) {
+        registry.register("plugin" + i + ".message." + j, Fixtures.LOCALE, new MessageFormat("Message " + j + " of plugin " + i, Fixtures.LOCALE));
+      }
+      GlobalTranslator.get().addSource(registry);
+      this.registries.add(registry);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.registries.forEach(GlobalTranslator.get()::removeSource);
+    this.registries.clear();
+  }
+
+  @Benchmark
+  public MessageFormat translateFromLastSource() {
+    return GlobalTranslator.get().translate("plugin" + (REGISTRIES - 1) + ".message.50", Fixtures.LOCALE);
+  }
+
+  @Benchmark
+  public MessageFormat translateMissing() {
+    return GlobalTranslator.get().translate("block.minecraft.stone", Fixtures.LOCALE);
+  }
+}
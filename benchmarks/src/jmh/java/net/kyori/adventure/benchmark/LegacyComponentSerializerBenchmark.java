@@ -0,0 +1,92 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class LegacyComponentSerializerBenchmark {
+  @Param({"chatLine", "bookPage", "deathMessage"})
+  public String fixture;
+
+  private LegacyComponentSerializer serializer;
+  private LegacyComponentSerializer minimal;
+  private LegacyComponentSerializer hex;
+  private LegacyComponentSerializer linking;
+  private Component component;
+  private String legacy;
+
+  @Setup
+  public void setup() {
+    this.serializer = LegacyComponentSerializer.legacySection();
+    this.minimal = LegacyComponentSerializer.builder().minimalFormatCodes().build();
+    this.hex = LegacyComponentSerializer.builder().hexColors().build();
+    this.linking = LegacyComponentSerializer.builder().extractUrls().build();
+    this.component = Fixtures.component(this.fixture);
+    this.legacy = this.serializer.serialize(this.component);
+  }
+
+  @Benchmark
+  public String serialize() {
+    return this.serializer.serialize(this.component);
+  }
+
+  @Benchmark
+  public String serializeMinimal() {
+    return this.minimal.serialize(this.component);
+  }
+
+  @Benchmark
+  public String serializeHex() {
+    return this.hex.serialize(this.component);
+  }
+
+  @Benchmark
+  public Component deserialize() {
+    return this.serializer.deserialize(this.legacy);
+  }
+
+  @Benchmark
+  public Component deserializeExtractingUrls() {
+    return this.linking.deserialize(this.legacy);
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.TextReplacementGroup;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class ReplaceTextBenchmark {
+  private Component chatLine;
+  private Component book;
+  private TextReplacementConfig literal;
+  private TextReplacementConfig quotedLiteral;
+  private TextReplacementConfig url;
+  private TextReplacementConfig miss;
+  private TextReplacementConfig quotedMiss;
+  private List<TextReplacementConfig> words;
+  private TextReplacementGroup wordGroup;
+
+  @Setup
+  public void setup() {
+    this.chatLine = Fixtures.chatLine();
+    this.book = Component.empty().children(Fixtures.bookPages());
+    this.literal = TextReplacementConfig.builder()
+      .matchLiteral("diamond")
+      .replacement(Component.text("emerald", NamedTextColor.GREEN))
+      .build();
+    // the same literal, through the regex engine
+    this.quotedLiteral = this.literal.toBuilder()
+      .match(Pattern.compile(Pattern.quote("diamond")))
+      .build();
+    this.url = TextReplacementConfig.builder()
+      .match(Pattern.compile("https?://\\S+"))
+      .replacement(builder -> builder.color(NamedTextColor.BLUE))
+      .build();
+    this.miss = TextReplacementConfig.builder()
+      .matchLiteral("this text never occurs")
+      .replacement("nothing")
+      .build();
+    this.quotedMiss = this.miss.toBuilder()
+      .match(Pattern.compile(Pattern.quote("this text never occurs")))
+      .build();
+    // a typical chat filter: many literals, each replaced separately
+    this.words = new ArrayList<>();
+    for(final String word : new String[]{"diamond", "sword", "apple", "golden", "creeper", "zombie", "skeleton", "spider", "enderman", "nether", "portal", "village", "emerald", "redstone", "torch", "pickaxe"}) {
+      this.words.add(TextReplacementConfig.builder()
+        .matchLiteral(word)
+        .replacement(builder -> builder.color(NamedTextColor.GOLD))
+        .build());
+    }
+    this.wordGroup = TextReplacementGroup.of(this.words);
+  }
+
+  @Benchmark
+  public Component literalChatLine() {
+    return this.chatLine.replaceText(this.literal);
+  }
+
+  @Benchmark
+  public Component patternChatLine() {
+    return this.chatLine.replaceText(this.url);
+  }
+
+  @Benchmark
+  public Component literalBook() {
+    return this.book.replaceText(this.literal);
+  }
+
+  @Benchmark
+  public Component quotedLiteralBook() {
+    return this.book.replaceText(this.quotedLiteral);
+  }
+
+  @Benchmark
+  public Component noMatchBook() {
+    return this.book.replaceText(this.miss);
+  }
+
+  @Benchmark
+  public Component quotedNoMatchBook() {
+    return this.book.replaceText(this.quotedMiss);
+  }
+
+  @Benchmark
+  public Component manyLiteralsSequentialBook() {
+    Component result = this.book;
+    for(int i = 0, size = this.words.size(); i < size; i++) {
+      result = result.replaceText(this.words.get(i));
+    }
+    return result;
+  }
+
+  @Benchmark
+  public Component manyLiteralsGroupBook() {
+    return this.book.replaceText(this.wordGroup);
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class StyleBenchmark {
+  private Style parent;
+  private Style child;
+
+  @Setup
+  public void setup() {
+    this.parent = Style.style(NamedTextColor.GRAY, TextDecoration.ITALIC);
+    this.child = Style.style(NamedTextColor.AQUA, TextDecoration.BOLD);
+  }
+
+  @Benchmark
+  public Style colorAndDecoration() {
+    return Style.style(NamedTextColor.RED, TextDecoration.BOLD, TextDecoration.UNDERLINED);
+  }
+
+  @Benchmark
+  public Style withDecoration() {
+    return this.parent.decoration(TextDecoration.BOLD, true);
+  }
+
+  @Benchmark
+  public Map<TextDecoration, TextDecoration.State> decorations() {
+    return this.child.decorations();
+  }
+
+  @Benchmark
+  public Style merge() {
+    return this.parent.merge(this.child);
+  }
+
+  @Benchmark
+  public Style mergeViaBuilder() {
+    return this.parent.toBuilder().merge(this.child, Style.Merge.Strategy.ALWAYS, Style.Merge.all()).build();
+  }
+
+  @Benchmark
+  public Style mergeUnchanged() {
+    return this.child.merge(this.parent, Style.Merge.Strategy.IF_ABSENT_ON_TARGET, Style.Merge.colorAndDecorations());
+  }
+
+  @Benchmark
+  public Style mergeIfAbsent() {
+    return this.child.merge(this.parent, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.benchmark;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.renderer.CachingComponentRenderer;
+import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
+import net.kyori.adventure.translation.TranslationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class TranslatableComponentRendererBenchmark {
+  private static final List<Locale> LOCALES = Arrays.asList(Locale.US, Locale.UK, Locale.GERMANY, Locale.FRANCE, Locale.JAPAN);
+  private static final int PLAYERS = 500;
+
+  private TranslationRegistry registry;
+  private TranslatableComponentRenderer<Locale> renderer;
+  private CachingComponentRenderer<Locale> caching;
+  private Component deathMessage;
+  private Component filler;
+  private Component book;
+
+  @Setup
+  public void setup() {
+    final TranslationRegistry registry = this.registry = TranslationRegistry.create(Key.key("adventure", "benchmark"));
+    registry.register("death.attack.player.item", Fixtures.LOCALE, new MessageFormat("{0} was slain by {1} using {2}", Fixtures.LOCALE));
+    registry.register("item.minecraft.diamond_sword", Fixtures.LOCALE, new MessageFormat("Diamond Sword", Fixtures.LOCALE));
+    for(int i = 0; i < 500; i++) {
+      registry.register("benchmark.filler." + i, Fixtures.LOCALE, new MessageFormat("Filler {0} number " + i, Fixtures.LOCALE));
+    }
+    for(final Locale locale : LOCALES) {
+      if(!locale.equals(Fixtures.LOCALE)) {
+        registry.register("death.attack.player.item", locale, new MessageFormat("{0} ~ {1} ~ {2}", locale));
+      }
+    }
+    this.renderer = TranslatableComponentRenderer.usingTranslationSource(registry);
+    this.caching = CachingComponentRenderer.caching(this.renderer, 256);
+    this.deathMessage = Fixtures.deathMessage();
+    this.filler = Component.translatable("benchmark.filler.250", Component.text("argument"));
+    this.book = Component.empty().children(Fixtures.bookPages());
+  }
+
+  @Benchmark
+  public MessageFormat translateExact() {
+    return this.registry.translate("benchmark.filler.250", Fixtures.LOCALE);
+  }
+
+  // falls back through the language and default locales
+  @Benchmark
+  public MessageFormat translateFallback() {
+    return this.registry.translate("benchmark.filler.250", Locale.CANADA_FRENCH);
+  }
+
+  @Benchmark
+  public Component deathMessage() {
+    return this.renderer.render(this.deathMessage, Fixtures.LOCALE);
+  }
+
+  // a single small format, where splitting the format dominates; see the gc profiler for the allocation rate
+  @Benchmark
+  public Component formatWithArgument() {
+    return this.renderer.render(this.filler, Fixtures.LOCALE);
+  }
+
+  @Benchmark
+  public Component book() {
+    return this.renderer.render(this.book, Fixtures.LOCALE);
+  }
+
+  // one message sent to every player, each with one of a few locales
+  @Benchmark
+  public Component broadcast() {
+    Component last = null;
+    for(int i = 0; i < PLAYERS; i++) {
+      last = this.renderer.render(this.deathMessage, LOCALES.get(i % LOCALES.size()));
+    }
+    return last;
+  }
+
+  @Benchmark
+  public Component broadcastCached() {
+    // a new message every time, so each locale is rendered once
+    this.caching.invalidate();
+    Component last = null;
+    for(int i = 0; i < PLAYERS; i++) {
+      last = this.caching.render(this.deathMessage, LOCALES.get(i % LOCALES.size()));
+    }
+    return last;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A codec binding instances of a class to compound tags.
+ *
+ * <p>Codecs are created from the fields of a class annotated with {@link BinaryTagProperty}. The following field
+ * types are supported:</p>
+ * <ul>
+ *   <li>{@code boolean}, {@code byte}, {@code short}, {@code int}, {@code long}, {@code float} and {@code double}</li>
+ *   <li>{@link String}, {@code byte[]}, {@code int[]} and {@code long[]}</li>
+ *   <li>any {@link BinaryTag}</li>
+ *   <li>any class that can itself be bound by a codec, stored as a nested compound</li>
+ * </ul>
+ *
+ * <p>The class must have a no-argument constructor. Field access is resolved once, when the codec is created,
+ * so encoding and decoding do not use reflection.</p>
+ *
+ * @param <T> the bound type
+ * @since 4.8.0
+ */
+public interface BinaryTagCodec<T> {
+  /**
+   * Gets a codec for {@code type}.
+   *
+   * <p>Codecs are cached, repeated calls for the same type return the same codec.</p>
+   *
+   * @param type the type
+   * @param <T> the type
+   * @return a codec
+   * @throws IllegalArgumentException if {@code type} cannot be bound
+   * @since 4.8.0
+   */
+  static <T> @NonNull BinaryTagCodec<T> codec(final @NonNull Class<T> type) {
+    return BinaryTagCodecImpl.codec(type);
+  }
+
+  /**
+   * Gets the bound type.
+   *
+   * @return the type
+   * @since 4.8.0
+   */
+  @NonNull Class<T> type();
+
+  /**
+   * Creates a new instance from {@code tag}.
+   *
+   * <p>Fields whose tag is missing, or has a different type, keep the value assigned by the constructor.</p>
+   *
+   * @param tag the tag
+   * @return a new instance
+   * @since 4.8.0
+   */
+  @NonNull T decode(final @NonNull CompoundBinaryTag tag);
+
+  /**
+   * Creates a compound tag from {@code value}.
+   *
+   * <p>Fields holding {@code null} are omitted.</p>
+   *
+   * @param value the value
+   * @return a compound tag
+   * @since 4.8.0
+   */
+  @NonNull CompoundBinaryTag encode(final @NonNull T value);
+
+  /**
+   * Writes {@code value} to {@code output} as an unnamed root compound tag, without creating any intermediate tags.
+   *
+   * <p>The output is the same as writing the result of {@link #encode(Object)} with {@link BinaryTagIO.Writer#write(CompoundBinaryTag, DataOutput)}.</p>
+   *
+   * @param value the value
+   * @param output the output
+   * @throws IOException if an exception was encountered while writing
+   * @since 4.8.0
+   */
+  void write(final @NonNull T value, final @NonNull DataOutput output) throws IOException;
+}
@@ -0,0 +1,588 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.lang.invoke.MethodType.methodType;
+
+final class BinaryTagCodecImpl<T> implements BinaryTagCodec<T> {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final Map<Class<?>, BinaryTagCodecImpl<?>> CODECS = new ConcurrentHashMap<>();
+  private final Class<T> type;
+  private final MethodHandle constructor;
+  private final Property[] properties;
+
+  @SuppressWarnings("unchecked")
+  static <T> @NonNull BinaryTagCodec<T> codec(final @NonNull Class<T> type) {
+    BinaryTagCodecImpl<?> codec = CODECS.get(type);
+    if(codec == null) {
+      codec = new BinaryTagCodecImpl<>(type);
+      final @Nullable BinaryTagCodecImpl<?> existing = CODECS.putIfAbsent(type, codec);
+      if(existing != null) codec = existing;
+    }
+    return (BinaryTagCodec<T>) codec;
+  }
+
+  private BinaryTagCodecImpl(final Class<T> type) {
+    if(type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+      throw new IllegalArgumentException("Cannot bind abstract type " + type.getName());
+    }
+    this.type = type;
+    try {
+      final Constructor<T> constructor = type.getDeclaredConstructor();
+      constructor.setAccessible(true);
+      this.constructor = LOOKUP.unreflectConstructor(constructor).asType(methodType(Object.class));
+    } catch(final NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+      // such as InaccessibleObjectException, for a constructor in a module not open to this one
+      throw new IllegalArgumentException("Cannot bind type " + type.getName() + " without an accessible no-argument constructor", e);
+    }
+    final List<Property> properties = new ArrayList<>();
+    collect(type, properties);
+    this.properties = properties.toArray(new Property[0]);
+  }
+
+  private static void collect(final Class<?> type, final List<Property> properties) {
+    final @Nullable Class<?> superclass = type.getSuperclass();
+    if(superclass != null && superclass != Object.class) {
+      collect(superclass, properties);
+    }
+    for(final Field field : type.getDeclaredFields()) {
+      final @Nullable BinaryTagProperty annotation = field.getAnnotation(BinaryTagProperty.class);
+      if(annotation != null) {
+        properties.add(property(field, annotation.value().isEmpty() ? field.getName() : annotation.value()));
+      }
+    }
+  }
+
+  private static boolean bindable(final Class<?> type) {
+    for(Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+      for(final Field field : current.getDeclaredFields()) {
+        if(field.isAnnotationPresent(BinaryTagProperty.class)) return true;
+      }
+    }
+    return false;
+  }
+
+  private static Property property(final Field field, final String name) {
+    if(Modifier.isStatic(field.getModifiers())) {
+      throw new IllegalArgumentException("Cannot bind static field " + field);
+    }
+    final MethodHandle getter;
+    final MethodHandle setter;
+    try {
+      field.setAccessible(true);
+      getter = LOOKUP.unreflectGetter(field);
+      setter = LOOKUP.unreflectSetter(field);
+    } catch(final IllegalAccessException | RuntimeException e) {
+      throw new IllegalArgumentException("Cannot access field " + field, e);
+    }
+    final Class<?> type = field.getType();
+    if(type.isPrimitive()) {
+      final MethodHandle get = getter.asType(methodType(type, Object.class));
+      final MethodHandle set = setter.asType(methodType(void.class, Object.class, type));
+      if(type == boolean.class) return new BooleanProperty(name, get, set);
+      if(type == byte.class) return new ByteProperty(name, get, set);
+      if(type == short.class) return new ShortProperty(name, get, set);
+      if(type == int.class) return new IntProperty(name, get, set);
+      if(type == long.class) return new LongProperty(name, get, set);
+      if(type == float.class) return new FloatProperty(name, get, set);
+      if(type == double.class) return new DoubleProperty(name, get, set);
+      throw new IllegalArgumentException("Cannot bind field " + field + " of unsupported type " + type.getName());
+    }
+    final @Nullable Mapper<?> mapper = mapper(type);
+    if(mapper == null) {
+      throw new IllegalArgumentException("Cannot bind field " + field + " of unsupported type " + type.getName());
+    }
+    return new ObjectProperty(name, getter.asType(methodType(Object.class, Object.class)), setter.asType(methodType(void.class, Object.class, Object.class)), mapper);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static @Nullable Mapper<?> mapper(final Class<?> type) {
+    if(type == String.class) return Mapper.STRING;
+    if(type == byte[].class) return Mapper.BYTE_ARRAY;
+    if(type == int[].class) return Mapper.INT_ARRAY;
+    if(type == long[].class) return Mapper.LONG_ARRAY;
+    if(BinaryTag.class.isAssignableFrom(type)) return new TagMapper((Class<? extends BinaryTag>) type);
+    if(bindable(type)) return new CodecMapper<>(type);
+    return null;
+  }
+
+  @Override
+  public @NonNull Class<T> type() {
+    return this.type;
+  }
+
+  @Override
+  public @NonNull T decode(final @NonNull CompoundBinaryTag tag) {
+    try {
+      final Object instance = (Object) this.constructor.invokeExact();
+      for(final Property property : this.properties) {
+        final @Nullable BinaryTag value = tag.get(property.name);
+        if(value != null) {
+          property.decode(instance, value);
+        }
+      }
+      return this.type.cast(instance);
+    } catch(final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  @Override
+  public @NonNull CompoundBinaryTag encode(final @NonNull T value) {
+    final Map<String, BinaryTag> tags = new HashMap<>();
+    try {
+      for(final Property property : this.properties) {
+        final @Nullable BinaryTag tag = property.encode(value);
+        if(tag != null) {
+          tags.put(property.name, tag);
+        }
+      }
+    } catch(final Throwable t) {
+      throw rethrow(t);
+    }
+    if(tags.isEmpty()) return CompoundBinaryTag.empty();
+    return new CompoundBinaryTagImpl(tags);
+  }
+
+  @Override
+  public void write(final @NonNull T value, final @NonNull DataOutput output) throws IOException {
+    output.writeByte(BinaryTagTypes.COMPOUND.id());
+    output.writeUTF(""); // write empty name
+    this.writeBody(value, output);
+  }
+
+  // writes the same bytes as BinaryTagTypes.COMPOUND would for encode(value)
+  void writeBody(final @NonNull Object value, final @NonNull DataOutput output) throws IOException {
+    try {
+      for(final Property property : this.properties) {
+        property.write(value, output);
+      }
+    } catch(final IOException e) {
+      throw e;
+    } catch(final Throwable t) {
+      throw rethrow(t);
+    }
+    output.writeByte(BinaryTagTypes.END.id());
+  }
+
+  private static RuntimeException rethrow(final Throwable t) {
+    if(t instanceof RuntimeException) throw (RuntimeException) t;
+    if(t instanceof Error) throw (Error) t;
+    return new IllegalStateException(t);
+  }
+
+  private static void writeHeader(final BinaryTagType<?> type, final String name, final DataOutput output) throws IOException {
+    output.writeByte(type.id());
+    output.writeUTF(name);
+  }
+
+  abstract static class Property {
+    final String name;
+    final MethodHandle getter;
+    final MethodHandle setter;
+
+    Property(final String name, final MethodHandle getter, final MethodHandle setter) {
+      this.name = name;
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    abstract void decode(final Object instance, final BinaryTag tag) throws Throwable;
+
+    abstract @Nullable BinaryTag encode(final Object instance) throws Throwable;
+
+    abstract void write(final Object instance, final DataOutput output) throws Throwable;
+  }
+
+  static final class BooleanProperty extends Property {
+    BooleanProperty(final String name, final MethodHandle getter, final MethodHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void decode(final Object instance, final BinaryTag tag) throws Throwable {
+      if(BinaryTagTypes.BYTE.test(tag.type())) this.setter.invokeExact(instance, ((NumberBinaryTag) tag).byteValue() != 0);
+    }
+
+    @Override
+    @NonNull BinaryTag encode(final Object instance) throws Throwable {
+      return (boolean) this.getter.invokeExact(instance) ? ByteBinaryTag.ONE : ByteBinaryTag.ZERO;
+    }
+
+    @Override
+    void write(final Object instance, final DataOutput output) throws Throwable {
+      writeHeader(BinaryTagTypes.BYTE, this.name, output);
+      output.writeByte((boolean) this.getter.invokeExact(instance) ? 1 : 0);
+    }
+  }
+
+  static final class ByteProperty extends Property {
+    ByteProperty(final String name, final MethodHandle getter, final MethodHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void decode(final Object instance, final BinaryTag tag) throws Throwable {
+      if(BinaryTagTypes.BYTE.test(tag.type())) this.setter.invokeExact(instance, ((NumberBinaryTag) tag).byteValue());
+    }
+
+    @Override
+    @NonNull BinaryTag encode(final Object instance) throws Throwable {
+      return ByteBinaryTag.of((byte) this.getter.invokeExact(instance));
+    }
+
+    @Override
+    void write(final Object instance, final DataOutput output) throws Throwable {
+      writeHeader(BinaryTagTypes.BYTE, this.name, output);
+      output.writeByte((byte) this.getter.invokeExact(instance));
+    }
+  }
+
+  static final class ShortProperty extends Property {
+    ShortProperty(final String name, final MethodHandle getter, final MethodHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void decode(final Object instance, final BinaryTag tag) throws Throwable {
+      if(BinaryTagTypes.SHORT.test(tag.type())) this.setter.invokeExact(instance, ((NumberBinaryTag) tag).shortValue());
+    }
+
+    @Override
+    @NonNull BinaryTag encode(final Object instance) throws Throwable {
+      return ShortBinaryTag.of((short) this.getter.invokeExact(instance));
+    }
+
+    @Override
+    void write(final Object instance, final DataOutput output) throws Throwable {
+      writeHeader(BinaryTagTypes.SHORT, this.name, output);
+      output.writeShort((short) this.getter.invokeExact(instance));
+    }
+  }
+
+  static final class IntProperty extends Property {
+    IntProperty(final String name, final MethodHandle getter, final MethodHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void decode(final Object instance, final BinaryTag tag) throws Throwable {
+      if(BinaryTagTypes.INT.test(tag.type())) this.setter.invokeExact(instance, ((NumberBinaryTag) tag).intValue());
+    }
+
+    @Override
+    @NonNull BinaryTag encode(final Object instance) throws Throwable {
+      return IntBinaryTag.of((int) this.getter.invokeExact(instance));
+    }
+
+    @Override
+    void write(final Object instance, final DataOutput output) throws Throwable {
+      writeHeader(BinaryTagTypes.INT, this.name, output);
+      output.writeInt((int) this.getter.invokeExact(instance));
+    }
+  }
+
+  static final class LongProperty extends Property {
+    LongProperty(final String name, final MethodHandle getter, final MethodHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void decode(final Object instance, final BinaryTag tag) throws Throwable {
+      if(BinaryTagTypes.LONG.test(tag.type())) this.setter.invokeExact(instance, ((NumberBinaryTag) tag).longValue());
+    }
+
+    @Override
+    @NonNull BinaryTag encode(final Object instance) throws Throwable {
+      return LongBinaryTag.of((long) this.getter.invokeExact(instance));
+    }
+
+    @Override
+    void write(final Object instance, final DataOutput output) throws Throwable {
+      writeHeader(BinaryTagTypes.LONG, this.name, output);
+      output.writeLong((long) this.getter.invokeExact(instance));
+    }
+  }
+
+  static final class FloatProperty extends Property {
+    FloatProperty(final String name, final MethodHandle getter, final MethodHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void decode(final Object instance, final BinaryTag tag) throws Throwable {
+      if(BinaryTagTypes.FLOAT.test(tag.type())) this.setter.invokeExact(instance, ((NumberBinaryTag) tag).floatValue());
+    }
+
+    @Override
+    @NonNull BinaryTag encode(final Object instance) throws Throwable {
+      return FloatBinaryTag.of((float) this.getter.invokeExact(instance));
+    }
+
+    @Override
+    void write(final Object instance, final DataOutput output) throws Throwable {
+      writeHeader(BinaryTagTypes.FLOAT, this.name, output);
+      output.writeFloat((float) this.getter.invokeExact(instance));
+    }
+  }
+
+  static final class DoubleProperty extends Property {
+    DoubleProperty(final String name, final MethodHandle getter, final MethodHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void decode(final Object instance, final BinaryTag tag) throws Throwable {
+      if(BinaryTagTypes.DOUBLE.test(tag.type())) this.setter.invokeExact(instance, ((NumberBinaryTag) tag).doubleValue());
+    }
+
+    @Override
+    @NonNull BinaryTag encode(final Object instance) throws Throwable {
+      return DoubleBinaryTag.of((double) this.getter.invokeExact(instance));
+    }
+
+    @Override
+    void write(final Object instance, final DataOutput output) throws Throwable {
+      writeHeader(BinaryTagTypes.DOUBLE, this.name, output);
+      output.writeDouble((double) this.getter.invokeExact(instance));
+    }
+  }
+
+  static final class ObjectProperty extends Property {
+    private final Mapper<Object> mapper;
+
+    @SuppressWarnings("unchecked")
+    ObjectProperty(final String name, final MethodHandle getter, final MethodHandle setter, final Mapper<?> mapper) {
+      super(name, getter, setter);
+      this.mapper = (Mapper<Object>) mapper;
+    }
+
+    @Override
+    void decode(final Object instance, final BinaryTag tag) throws Throwable {
+      final @Nullable Object value = this.mapper.decode(tag);
+      if(value != null) this.setter.invokeExact(instance, value);
+    }
+
+    @Override
+    @Nullable BinaryTag encode(final Object instance) throws Throwable {
+      final @Nullable Object value = (Object) this.getter.invokeExact(instance);
+      return value == null ? null : this.mapper.encode(value);
+    }
+
+    @Override
+    void write(final Object instance, final DataOutput output) throws Throwable {
+      final @Nullable Object value = (Object) this.getter.invokeExact(instance);
+      if(value != null) {
+        writeHeader(this.mapper.type(value), this.name, output);
+        this.mapper.write(value, output);
+      }
+    }
+  }
+
+  abstract static class Mapper<V> {
+    static final Mapper<String> STRING = new Mapper<String>() {
+      @Override
+      @NonNull BinaryTagType<?> type(final @NonNull String value) {
+        return BinaryTagTypes.STRING;
+      }
+
+      @Override
+      @Nullable String decode(final @NonNull BinaryTag tag) {
+        return tag instanceof StringBinaryTag ? ((StringBinaryTag) tag).value() : null;
+      }
+
+      @Override
+      @NonNull BinaryTag encode(final @NonNull String value) {
+        return StringBinaryTag.of(value);
+      }
+
+      @Override
+      void write(final @NonNull String value, final @NonNull DataOutput output) throws IOException {
+        output.writeUTF(value);
+      }
+    };
+    static final Mapper<byte[]> BYTE_ARRAY = new Mapper<byte[]>() {
+      @Override
+      @NonNull BinaryTagType<?> type(final byte@NonNull[] value) {
+        return BinaryTagTypes.BYTE_ARRAY;
+      }
+
+      @Override
+      byte@Nullable[] decode(final @NonNull BinaryTag tag) {
+        return tag instanceof ByteArrayBinaryTag ? ((ByteArrayBinaryTag) tag).value() : null;
+      }
+
+      @Override
+      @NonNull BinaryTag encode(final byte@NonNull[] value) {
+        return ByteArrayBinaryTag.of(value);
+      }
+
+      @Override
+      void write(final byte@NonNull[] value, final @NonNull DataOutput output) throws IOException {
+        DialectDataOutput.writeLength(output, value.length);
+        output.write(value);
+      }
+    };
+    static final Mapper<int[]> INT_ARRAY = new Mapper<int[]>() {
+      @Override
+      @NonNull BinaryTagType<?> type(final int@NonNull[] value) {
+        return BinaryTagTypes.INT_ARRAY;
+      }
+
+      @Override
+      int@Nullable[] decode(final @NonNull BinaryTag tag) {
+        return tag instanceof IntArrayBinaryTag ? ((IntArrayBinaryTag) tag).value() : null;
+      }
+
+      @Override
+      @NonNull BinaryTag encode(final int@NonNull[] value) {
+        return IntArrayBinaryTag.of(value);
+      }
+
+      @Override
+      void write(final int@NonNull[] value, final @NonNull DataOutput output) throws IOException {
+        DialectDataOutput.writeLength(output, value.length);
+        for(int i = 0; i < value.length; i++) {
+          output.writeInt(value[i]);
+        }
+      }
+    };
+    static final Mapper<long[]> LONG_ARRAY = new Mapper<long[]>() {
+      @Override
+      @NonNull BinaryTagType<?> type(final long@NonNull[] value) {
+        return BinaryTagTypes.LONG_ARRAY;
+      }
+
+      @Override
+      long@Nullable[] decode(final @NonNull BinaryTag tag) {
+        return tag instanceof LongArrayBinaryTag ? ((LongArrayBinaryTag) tag).value() : null;
+      }
+
+      @Override
+      @NonNull BinaryTag encode(final long@NonNull[] value) {
+        return LongArrayBinaryTag.of(value);
+      }
+
+      @Override
+      void write(final long@NonNull[] value, final @NonNull DataOutput output) throws IOException {
+        DialectDataOutput.writeLength(output, value.length);
+        for(int i = 0; i < value.length; i++) {
+          output.writeLong(value[i]);
+        }
+      }
+    };
+
+    abstract @NonNull BinaryTagType<?> type(final @NonNull V value);
+
+    // returns null if the tag cannot be converted
+    abstract @Nullable V decode(final @NonNull BinaryTag tag);
+
+    abstract @NonNull BinaryTag encode(final @NonNull V value);
+
+    abstract void write(final @NonNull V value, final @NonNull DataOutput output) throws IOException;
+  }
+
+  static final class TagMapper extends Mapper<BinaryTag> {
+    private final Class<? extends BinaryTag> type;
+
+    TagMapper(final Class<? extends BinaryTag> type) {
+      this.type = type;
+    }
+
+    @Override
+    @NonNull BinaryTagType<?> type(final @NonNull BinaryTag value) {
+      return value.type();
+    }
+
+    @Override
+    @Nullable BinaryTag decode(final @NonNull BinaryTag tag) {
+      return this.type.isInstance(tag) ? tag : null;
+    }
+
+    @Override
+    @NonNull BinaryTag encode(final @NonNull BinaryTag value) {
+      return value;
+    }
+
+    @Override
+    void write(final @NonNull BinaryTag value, final @NonNull DataOutput output) throws IOException {
+      BinaryTagType.write(value.type(), value, output);
+    }
+  }
+
+  // resolved lazily, so types may refer to themselves
+  static final class CodecMapper<V> extends Mapper<V> {
+    private final Class<V> type;
+    private volatile @MonotonicNonNull BinaryTagCodecImpl<V> codec;
+
+    CodecMapper(final Class<V> type) {
+      this.type = type;
+    }
+
+    @SuppressWarnings("unchecked")
+    private BinaryTagCodecImpl<V> codec() {
+      BinaryTagCodecImpl<V> codec = this.codec;
+      if(codec == null) {
+        codec = this.codec = (BinaryTagCodecImpl<V>) BinaryTagCodecImpl.codec(this.type);
+      }
+      return codec;
+    }
+
+    @Override
+    @NonNull BinaryTagType<?> type(final @NonNull V value) {
+      return BinaryTagTypes.COMPOUND;
+    }
+
+    @Override
+    @Nullable V decode(final @NonNull BinaryTag tag) {
+      return tag instanceof CompoundBinaryTag ? this.codec().decode((CompoundBinaryTag) tag) : null;
+    }
+
+    @Override
+    @NonNull BinaryTag encode(final @NonNull V value) {
+      return this.codec().encode(value);
+    }
+
+    @Override
+    void write(final @NonNull V value, final @NonNull DataOutput output) throws IOException {
+      this.codec().writeBody(value, output);
+    }
+  }
+}
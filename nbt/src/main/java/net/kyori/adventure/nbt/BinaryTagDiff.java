@@ -0,0 +1,86 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import net.kyori.examination.Examinable;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A structural difference between two compound tags.
+ *
+ * <p>A diff is made up of operations keyed by tag name: setting a tag, removing a tag,
+ * recursively patching a nested compound, or splicing a range of a list. Unchanged tags
+ * are never included, so the size of a diff scales with the size of the change rather than
+ * the size of the compared trees.</p>
+ *
+ * <p>Diffs can be written and read using {@link BinaryTagIO.Writer#writeDiff(BinaryTagDiff, java.io.DataOutput)}
+ * and {@link BinaryTagIO.Reader#readDiff(java.io.DataInput)}.</p>
+ *
+ * @since 4.8.0
+ */
+public interface BinaryTagDiff extends Examinable {
+  /**
+   * Gets an empty diff.
+   *
+   * @return an empty diff
+   * @since 4.8.0
+   */
+  static @NonNull BinaryTagDiff empty() {
+    return BinaryTagDiffImpl.EMPTY;
+  }
+
+  /**
+   * Computes the difference between two compound tags.
+   *
+   * <p>Tags that are the same instance, or that have the same hash code and are equal, are not descended into.</p>
+   *
+   * @param oldTag the old tag
+   * @param newTag the new tag
+   * @return a diff that, when {@link #apply(CompoundBinaryTag) applied} to {@code oldTag}, produces a tag equal to {@code newTag}
+   * @since 4.8.0
+   */
+  static @NonNull BinaryTagDiff diff(final @NonNull CompoundBinaryTag oldTag, final @NonNull CompoundBinaryTag newTag) {
+    return BinaryTagDiffImpl.diff(oldTag, newTag);
+  }
+
+  /**
+   * Checks if this diff contains no operations.
+   *
+   * @return {@code true} if this diff is empty
+   * @since 4.8.0
+   */
+  boolean isEmpty();
+
+  /**
+   * Applies this diff to a compound tag.
+   *
+   * <p>Only the compounds and lists touched by this diff are copied, all other tags are shared with {@code tag}.</p>
+   *
+   * @param tag the tag to apply to
+   * @return the patched tag, or {@code tag} if this diff is empty
+   * @throws IllegalArgumentException if a list operation in this diff does not fit the list in {@code tag}
+   * @since 4.8.0
+   */
+  @NonNull CompoundBinaryTag apply(final @NonNull CompoundBinaryTag tag);
+}
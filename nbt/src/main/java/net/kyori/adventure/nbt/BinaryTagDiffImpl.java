@@ -0,0 +1,431 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.string.StringExaminer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+final class BinaryTagDiffImpl implements BinaryTagDiff {
+  static final BinaryTagDiffImpl EMPTY = new BinaryTagDiffImpl(Collections.emptyMap());
+  private static final byte END = 0;
+  private static final byte PUT = 1;
+  private static final byte REMOVE = 2;
+  private static final byte PATCH = 3;
+  private static final byte SPLICE = 4;
+  private final Map<String, Op> ops;
+
+  BinaryTagDiffImpl(final Map<String, Op> ops) {
+    this.ops = Collections.unmodifiableMap(ops);
+  }
+
+  static @NonNull BinaryTagDiff diff(final @NonNull CompoundBinaryTag oldTag, final @NonNull CompoundBinaryTag newTag) {
+    final @Nullable Map<String, Op> ops = diffCompound(oldTag, newTag);
+    return ops == null ? EMPTY : new BinaryTagDiffImpl(ops);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.ops.isEmpty();
+  }
+
+  @Override
+  public @NonNull CompoundBinaryTag apply(final @NonNull CompoundBinaryTag tag) {
+    if(this.ops.isEmpty()) return tag;
+    return patch(tag, this.ops);
+  }
+
+  // returns null when there is no difference
+  private static @Nullable Map<String, Op> diffCompound(final CompoundBinaryTag oldTag, final CompoundBinaryTag newTag) {
+    if(same(oldTag, newTag)) return null;
+    Map<String, Op> ops = null;
+    for(final String key : oldTag.keySet()) {
+      if(newTag.get(key) == null) {
+        ops = put(ops, key, Remove.INSTANCE);
+      }
+    }
+    for(final Map.Entry<String, ? extends BinaryTag> entry : newTag) {
+      final @Nullable Op op = diffTag(oldTag.get(entry.getKey()), entry.getValue());
+      if(op != null) {
+        ops = put(ops, entry.getKey(), op);
+      }
+    }
+    return ops;
+  }
+
+  private static @Nullable Op diffTag(final @Nullable BinaryTag oldTag, final @NonNull BinaryTag newTag) {
+    if(oldTag == null) return new Put(newTag);
+    if(same(oldTag, newTag)) return null;
+    final BinaryTagType<? extends BinaryTag> type = newTag.type();
+    if(oldTag.type() != type) return new Put(newTag);
+    if(type == BinaryTagTypes.COMPOUND) {
+      final @Nullable Map<String, Op> ops = diffCompound((CompoundBinaryTag) oldTag, (CompoundBinaryTag) newTag);
+      return ops == null ? null : new Patch(ops);
+    } else if(type == BinaryTagTypes.LIST) {
+      return diffList((ListBinaryTag) oldTag, (ListBinaryTag) newTag);
+    }
+    return new Put(newTag);
+  }
+
+  private static @NonNull Op diffList(final ListBinaryTag oldTag, final ListBinaryTag newTag) {
+    if(oldTag.elementType() != newTag.elementType()) return new Put(newTag);
+    final int oldSize = oldTag.size();
+    final int newSize = newTag.size();
+    final int min = Math.min(oldSize, newSize);
+    int prefix = 0;
+    while(prefix < min && same(oldTag.get(prefix), newTag.get(prefix))) {
+      prefix++;
+    }
+    int suffix = 0;
+    while(suffix < min - prefix && same(oldTag.get(oldSize - 1 - suffix), newTag.get(newSize - 1 - suffix))) {
+      suffix++;
+    }
+    if(prefix == 0 && suffix == 0) return new Put(newTag); // nothing to share
+    final List<BinaryTag> inserted = new ArrayList<>(newSize - prefix - suffix);
+    for(int i = prefix; i < newSize - suffix; i++) {
+      inserted.add(newTag.get(i));
+    }
+    return new Splice(prefix, oldSize - prefix - suffix, newTag.elementType(), inserted);
+  }
+
+  // identity first, then the (cached, for compounds and lists) hash code before a full comparison
+  private static boolean same(final BinaryTag a, final BinaryTag b) {
+    return a == b || (a.hashCode() == b.hashCode() && a.equals(b));
+  }
+
+  private static Map<String, Op> put(@Nullable Map<String, Op> ops, final String key, final Op op) {
+    if(ops == null) ops = new LinkedHashMap<>();
+    ops.put(key, op);
+    return ops;
+  }
+
+  private static CompoundBinaryTag patch(final CompoundBinaryTag tag, final Map<String, Op> ops) {
+    final Map<String, BinaryTag> tags = new HashMap<>();
+    for(final Map.Entry<String, ? extends BinaryTag> entry : tag) {
+      tags.put(entry.getKey(), entry.getValue());
+    }
+    for(final Map.Entry<String, Op> entry : ops.entrySet()) {
+      entry.getValue().apply(tags, entry.getKey());
+    }
+    if(tags.isEmpty()) return CompoundBinaryTag.empty();
+    return new CompoundBinaryTagImpl(tags);
+  }
+
+  static @NonNull BinaryTagDiff read(final @NonNull DataInput input) throws IOException {
+    final Map<String, Op> ops = readOps(input);
+    return ops.isEmpty() ? EMPTY : new BinaryTagDiffImpl(ops);
+  }
+
+  static void write(final @NonNull BinaryTagDiff diff, final @NonNull DataOutput output) throws IOException {
+    writeOps(((BinaryTagDiffImpl) diff).ops, output);
+  }
+
+  @SuppressWarnings("try")
+  private static Map<String, Op> readOps(final DataInput input) throws IOException {
+    try(final BinaryTagScope ignored = TrackingDataInput.enter(input)) {
+      final Map<String, Op> ops = new LinkedHashMap<>();
+      byte id;
+      while((id = input.readByte()) != END) {
+        final String key = input.readUTF();
+        switch(id) {
+          case PUT:
+            final BinaryTagType<? extends BinaryTag> type = BinaryTagType.of(input.readByte());
+            ops.put(key, new Put(type.read(input)));
+            break;
+          case REMOVE:
+            ops.put(key, Remove.INSTANCE);
+            break;
+          case PATCH:
+            ops.put(key, new Patch(readOps(input)));
+            break;
+          case SPLICE:
+            ops.put(key, Splice.read(input));
+            break;
+          default:
+            throw new IOException("Unknown diff operation " + id);
+        }
+      }
+      return ops;
+    }
+  }
+
+  private static void writeOps(final Map<String, Op> ops, final DataOutput output) throws IOException {
+    for(final Map.Entry<String, Op> entry : ops.entrySet()) {
+      final Op op = entry.getValue();
+      output.writeByte(op.id());
+      output.writeUTF(entry.getKey());
+      op.write(output);
+    }
+    output.writeByte(END);
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    return this == other || (other instanceof BinaryTagDiffImpl && this.ops.equals(((BinaryTagDiffImpl) other).ops));
+  }
+
+  @Override
+  public int hashCode() {
+    return this.ops.hashCode();
+  }
+
+  @Override
+  public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+    return Stream.of(ExaminableProperty.of("operations", this.ops));
+  }
+
+  @Override
+  public String toString() {
+    return this.examine(StringExaminer.simpleEscaping());
+  }
+
+  abstract static class Op implements Examinable {
+    abstract byte id();
+
+    abstract void apply(final Map<String, BinaryTag> tags, final String key);
+
+    abstract void write(final DataOutput output) throws IOException;
+
+    @Override
+    public final String toString() {
+      return this.examine(StringExaminer.simpleEscaping());
+    }
+  }
+
+  static final class Put extends Op {
+    private final BinaryTag tag;
+
+    Put(final BinaryTag tag) {
+      this.tag = tag;
+    }
+
+    @Override
+    byte id() {
+      return PUT;
+    }
+
+    @Override
+    void apply(final Map<String, BinaryTag> tags, final String key) {
+      tags.put(key, this.tag);
+    }
+
+    @Override
+    void write(final DataOutput output) throws IOException {
+      final BinaryTagType<? extends BinaryTag> type = this.tag.type();
+      output.writeByte(type.id());
+      BinaryTagType.write(type, this.tag, output);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object other) {
+      return this == other || (other instanceof Put && this.tag.equals(((Put) other).tag));
+    }
+
+    @Override
+    public int hashCode() {
+      return this.tag.hashCode();
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(ExaminableProperty.of("tag", this.tag));
+    }
+  }
+
+  static final class Remove extends Op {
+    static final Remove INSTANCE = new Remove();
+
+    private Remove() {
+    }
+
+    @Override
+    byte id() {
+      return REMOVE;
+    }
+
+    @Override
+    void apply(final Map<String, BinaryTag> tags, final String key) {
+      tags.remove(key);
+    }
+
+    @Override
+    void write(final DataOutput output) {
+      // nothing to write
+    }
+  }
+
+  static final class Patch extends Op {
+    private final Map<String, Op> ops;
+
+    Patch(final Map<String, Op> ops) {
+      this.ops = ops;
+    }
+
+    @Override
+    byte id() {
+      return PATCH;
+    }
+
+    @Override
+    void apply(final Map<String, BinaryTag> tags, final String key) {
+      final @Nullable BinaryTag tag = tags.get(key);
+      if(!(tag instanceof CompoundBinaryTag)) {
+        throw new IllegalArgumentException(String.format("Cannot patch %s at '%s', expected a compound", tag == null ? "a missing tag" : tag.type(), key));
+      }
+      tags.put(key, patch((CompoundBinaryTag) tag, this.ops));
+    }
+
+    @Override
+    void write(final DataOutput output) throws IOException {
+      writeOps(this.ops, output);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object other) {
+      return this == other || (other instanceof Patch && this.ops.equals(((Patch) other).ops));
+    }
+
+    @Override
+    public int hashCode() {
+      return this.ops.hashCode();
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(ExaminableProperty.of("operations", this.ops));
+    }
+  }
+
+  static final class Splice extends Op {
+    private final int index;
+    private final int removed;
+    private final BinaryTagType<? extends BinaryTag> elementType;
+    private final List<BinaryTag> inserted;
+
+    Splice(final int index, final int removed, final BinaryTagType<? extends BinaryTag> elementType, final List<BinaryTag> inserted) {
+      this.index = index;
+      this.removed = removed;
+      this.elementType = elementType;
+      this.inserted = inserted;
+    }
+
+    @SuppressWarnings("try")
+    static Splice read(final DataInput input) throws IOException {
+      final int index = input.readInt();
+      final int removed = input.readInt();
+      final BinaryTagType<? extends BinaryTag> type = BinaryTagType.of(input.readByte());
+      final int length = input.readInt();
+      if(index < 0 || removed < 0 || length < 0) {
+        throw new IOException(String.format("Invalid splice of %d elements replacing [%d, %d)", length, index, (long) index + removed));
+      }
+      try(final BinaryTagScope ignored = TrackingDataInput.enter(input, length * 8L)) {
+        final List<BinaryTag> inserted = new ArrayList<>(length);
+        for(int i = 0; i < length; i++) {
+          inserted.add(type.read(input));
+        }
+        return new Splice(index, removed, type, inserted);
+      }
+    }
+
+    @Override
+    byte id() {
+      return SPLICE;
+    }
+
+    @Override
+    void apply(final Map<String, BinaryTag> tags, final String key) {
+      final @Nullable BinaryTag tag = tags.get(key);
+      if(!(tag instanceof ListBinaryTag)) {
+        throw new IllegalArgumentException(String.format("Cannot splice %s at '%s', expected a list", tag == null ? "a missing tag" : tag.type(), key));
+      }
+      final ListBinaryTag base = (ListBinaryTag) tag;
+      final int size = base.size();
+      if(this.index < 0 || this.removed < 0 || this.index + this.removed > size) {
+        throw new IllegalArgumentException(String.format("Cannot splice [%d, %d) of a list of size %d at '%s'", this.index, this.index + this.removed, size, key));
+      }
+      final List<BinaryTag> result = new ArrayList<>(size - this.removed + this.inserted.size());
+      for(int i = 0; i < this.index; i++) {
+        result.add(base.get(i));
+      }
+      result.addAll(this.inserted);
+      for(int i = this.index + this.removed; i < size; i++) {
+        result.add(base.get(i));
+      }
+      tags.put(key, ListBinaryTag.of(this.elementType, result));
+    }
+
+    @Override
+    void write(final DataOutput output) throws IOException {
+      output.writeInt(this.index);
+      output.writeInt(this.removed);
+      output.writeByte(this.elementType.id());
+      output.writeInt(this.inserted.size());
+      for(final BinaryTag tag : this.inserted) {
+        BinaryTagType.write(this.elementType, tag, output);
+      }
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object other) {
+      if(this == other) return true;
+      if(!(other instanceof Splice)) return false;
+      final Splice that = (Splice) other;
+      return this.index == that.index
+        && this.removed == that.removed
+        && this.elementType == that.elementType
+        && this.inserted.equals(that.inserted);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = this.index;
+      result = (31 * result) + this.removed;
+      result = (31 * result) + this.elementType.hashCode();
+      result = (31 * result) + this.inserted.hashCode();
+      return result;
+    }
+
+    @Override
+    public @NonNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("index", this.index),
+        ExaminableProperty.of("removed", this.removed),
+        ExaminableProperty.of("type", this.elementType),
+        ExaminableProperty.of("inserted", this.inserted)
+      );
+    }
+  }
+}
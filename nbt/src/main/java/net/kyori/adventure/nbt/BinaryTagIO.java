@@ -23,11 +23,16 @@
  */
 package net.kyori.adventure.nbt;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.DataInput;
+import java.io.DataInputStream;
 import java.io.DataOutput;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteOrder;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.zip.DeflaterOutputStream;
@@ -36,6 +41,8 @@ import java.util.zip.GZIPOutputStream;
 import java.util.zip.InflaterInputStream;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * Serialization operations for binary tags.
  *
@@ -88,6 +95,37 @@ public final class BinaryTagIO {
     return new BinaryTagReaderImpl(sizeLimitBytes);
   }
 
+  /**
+   * Returns {@link Reader}, used to read binary tags encoded with {@code dialect}.
+   *
+   * <p>This reader has a size limit for the estimated number of data bytes for a tag.</p>
+   *
+   * @param dialect the dialect
+   * @return binary tag reader
+   * @since 4.8.0
+   */
+  public static @NonNull Reader reader(final @NonNull Dialect dialect) {
+    if(dialect == Dialect.DEFAULT) return BinaryTagReaderImpl.DEFAULT_LIMIT;
+    return new BinaryTagReaderImpl(BinaryTagReaderImpl.DEFAULT_MAX_BYTES, requireNonNull(dialect, "dialect"));
+  }
+
+  /**
+   * Returns {@link Reader}, used to read binary tags encoded with {@code dialect}.
+   *
+   * <p>This reader will limit the number of bytes read to the approximate size limit indicated.</p>
+   *
+   * @param sizeLimitBytes the size limit
+   * @param dialect the dialect
+   * @return binary tag reader
+   * @since 4.8.0
+   */
+  public static @NonNull Reader reader(final long sizeLimitBytes, final @NonNull Dialect dialect) {
+    if(sizeLimitBytes <= 0) {
+      throw new IllegalArgumentException("The size limit must be greater than zero");
+    }
+    return new BinaryTagReaderImpl(sizeLimitBytes, requireNonNull(dialect, "dialect"));
+  }
+
   /**
    * Returns {@link Writer}, used to write binary tags.
    *
@@ -98,6 +136,58 @@ public final class BinaryTagIO {
     return BinaryTagWriterImpl.INSTANCE;
   }
 
+  /**
+   * Returns {@link Writer}, used to write binary tags encoded with {@code dialect}.
+   *
+   * @param dialect the dialect
+   * @return binary tag writer
+   * @since 4.8.0
+   */
+  public static @NonNull Writer writer(final @NonNull Dialect dialect) {
+    if(dialect == Dialect.DEFAULT) return BinaryTagWriterImpl.INSTANCE;
+    return new BinaryTagWriterImpl(requireNonNull(dialect, "dialect"));
+  }
+
+  /**
+   * Converts a root compound tag from one dialect to another.
+   *
+   * <p>The tag is copied as it is read, without creating any intermediate tags.
+   * If {@code from} has an unnamed root and {@code to} does not, an empty name is written.</p>
+   *
+   * <p>The input has the same size limit as {@link #reader()}.</p>
+   *
+   * @param input the input
+   * @param from the dialect of {@code input}
+   * @param output the output
+   * @param to the dialect to write to {@code output}
+   * @throws IOException if an exception was encountered while reading or writing
+   * @since 4.8.0
+   */
+  public static void transcode(final @NonNull DataInput input, final @NonNull Dialect from, final @NonNull DataOutput output, final @NonNull Dialect to) throws IOException {
+    transcode(input, from, output, to, BinaryTagReaderImpl.DEFAULT_MAX_BYTES);
+  }
+
+  /**
+   * Converts a root compound tag from one dialect to another, reading at most approximately {@code sizeLimitBytes} from {@code input}.
+   *
+   * <p>The tag is copied as it is read, without creating any intermediate tags.
+   * If {@code from} has an unnamed root and {@code to} does not, an empty name is written.</p>
+   *
+   * @param input the input
+   * @param from the dialect of {@code input}
+   * @param output the output
+   * @param to the dialect to write to {@code output}
+   * @param sizeLimitBytes the size limit
+   * @throws IOException if an exception was encountered while reading or writing, or the input exceeds the size limit
+   * @since 4.8.0
+   */
+  public static void transcode(final @NonNull DataInput input, final @NonNull Dialect from, final @NonNull DataOutput output, final @NonNull Dialect to, final long sizeLimitBytes) throws IOException {
+    if(sizeLimitBytes <= 0) {
+      throw new IllegalArgumentException("The size limit must be greater than zero");
+    }
+    BinaryTagTranscoder.transcode(new TrackingDataInput(from.input(input), sizeLimitBytes), from, to.output(output), to);
+  }
+
   /**
    * Reads a compound tag from {@code path}.
    *
@@ -363,6 +453,49 @@ public final class BinaryTagIO {
      * @since 4.4.0
      */
     Map.@NonNull Entry<String, CompoundBinaryTag> readNamed(final @NonNull DataInput input) throws IOException;
+
+    /**
+     * Reads a {@link BinaryTagDiff} from {@code input}.
+     *
+     * <p>This is the equivalent of passing {@code Compression#NONE} as the second parameter to {@link #readDiff(InputStream, Compression)}.</p>
+     *
+     * @param input the input stream
+     * @return a diff
+     * @throws IOException if an exception was encountered while reading the diff
+     * @since 4.8.0
+     */
+    default @NonNull BinaryTagDiff readDiff(final @NonNull InputStream input) throws IOException {
+      return this.readDiff(input, Compression.NONE);
+    }
+
+    /**
+     * Reads a {@link BinaryTagDiff} from {@code input} with a {@code compression} type.
+     *
+     * @param input the input stream
+     * @param compression the compression type
+     * @return a diff
+     * @throws IOException if an exception was encountered while reading the diff
+     * @since 4.8.0
+     */
+    default @NonNull BinaryTagDiff readDiff(final @NonNull InputStream input, final @NonNull Compression compression) throws IOException {
+      try(final DataInputStream dis = new DataInputStream(new BufferedInputStream(compression.decompress(IOStreamUtil.closeShield(input))))) {
+        return this.readDiff((DataInput) dis);
+      }
+    }
+
+    /**
+     * Reads a {@link BinaryTagDiff} from {@code input}.
+     *
+     * <p>By default, the diff is read in the {@link Dialect#DEFAULT default dialect}.</p>
+     *
+     * @param input the input
+     * @return a diff
+     * @throws IOException if an exception was encountered while reading the diff
+     * @since 4.8.0
+     */
+    default @NonNull BinaryTagDiff readDiff(final @NonNull DataInput input) throws IOException {
+      return BinaryTagDiffImpl.read(input);
+    }
   }
 
   /**
@@ -480,6 +613,173 @@ public final class BinaryTagIO {
      * @since 4.4.0
      */
     void writeNamed(final Map.@NonNull Entry<String, CompoundBinaryTag> tag, final @NonNull DataOutput output) throws IOException;
+
+    /**
+     * Writes a {@link BinaryTagDiff} to {@code output}.
+     *
+     * <p>This is the equivalent of passing {@link Compression#NONE} as the third parameter to {@link #writeDiff(BinaryTagDiff, OutputStream, Compression)}.</p>
+     *
+     * @param diff the diff
+     * @param output the output stream
+     * @throws IOException if an exception was encountered while writing the diff
+     * @since 4.8.0
+     */
+    default void writeDiff(final @NonNull BinaryTagDiff diff, final @NonNull OutputStream output) throws IOException {
+      this.writeDiff(diff, output, Compression.NONE);
+    }
+
+    /**
+     * Writes a {@link BinaryTagDiff} to {@code output} with a {@code compression} type.
+     *
+     * @param diff the diff
+     * @param output the output stream
+     * @param compression the compression type
+     * @throws IOException if an exception was encountered while writing the diff
+     * @since 4.8.0
+     */
+    default void writeDiff(final @NonNull BinaryTagDiff diff, final @NonNull OutputStream output, final @NonNull Compression compression) throws IOException {
+      try(final DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(compression.compress(IOStreamUtil.closeShield(output))))) {
+        this.writeDiff(diff, (DataOutput) dos);
+      }
+    }
+
+    /**
+     * Writes a {@link BinaryTagDiff} to {@code output}.
+     *
+     * <p>By default, the diff is written in the {@link Dialect#DEFAULT default dialect}.</p>
+     *
+     * @param diff the diff
+     * @param output the output
+     * @throws IOException if an exception was encountered while writing the diff
+     * @since 4.8.0
+     */
+    default void writeDiff(final @NonNull BinaryTagDiff diff, final @NonNull DataOutput output) throws IOException {
+      BinaryTagDiffImpl.write(diff, output);
+    }
+  }
+
+  /**
+   * Wire encodings of binary tags.
+   *
+   * <p>A dialect describes the byte order of numbers, how the lengths of strings, arrays and lists are
+   * encoded, and whether the root tag carries a name. The {@link #DEFAULT default dialect} is the one used by
+   * <em>Minecraft: Java Edition</em>.</p>
+   *
+   * <p>Strings are encoded as modified UTF-8 in dialects with big-endian numbers and fixed-size lengths, as
+   * {@link DataInput} and {@link DataOutput} do, and as standard UTF-8 in all others.</p>
+   *
+   * @since 4.8.0
+   */
+  public static final class Dialect {
+    /**
+     * Big-endian numbers, fixed-size lengths, and a named root tag.
+     *
+     * @since 4.8.0
+     */
+    public static final Dialect DEFAULT = new Dialect(ByteOrder.BIG_ENDIAN, false, true);
+    /**
+     * Little-endian numbers, fixed-size lengths, and a named root tag.
+     *
+     * @since 4.8.0
+     */
+    public static final Dialect LITTLE_ENDIAN = new Dialect(ByteOrder.LITTLE_ENDIAN, false, true);
+    /**
+     * Little-endian numbers, VarInt lengths, and a named root tag.
+     *
+     * @since 4.8.0
+     */
+    public static final Dialect LITTLE_ENDIAN_VAR_INT = new Dialect(ByteOrder.LITTLE_ENDIAN, true, true);
+    private final ByteOrder byteOrder;
+    private final boolean varIntLengths;
+    private final boolean namedRoot;
+
+    private Dialect(final ByteOrder byteOrder, final boolean varIntLengths, final boolean namedRoot) {
+      this.byteOrder = byteOrder;
+      this.varIntLengths = varIntLengths;
+      this.namedRoot = namedRoot;
+    }
+
+    /**
+     * Gets a dialect.
+     *
+     * @param byteOrder the byte order of numbers and fixed-size lengths
+     * @param varIntLengths if lengths are encoded as unsigned VarInts, instead of a {@code short} for strings and an {@code int} otherwise
+     * @param namedRoot if the root tag is followed by a name
+     * @return a dialect
+     * @since 4.8.0
+     */
+    public static @NonNull Dialect of(final @NonNull ByteOrder byteOrder, final boolean varIntLengths, final boolean namedRoot) {
+      requireNonNull(byteOrder, "byteOrder");
+      if(byteOrder == ByteOrder.BIG_ENDIAN && !varIntLengths && namedRoot) return DEFAULT;
+      if(byteOrder == ByteOrder.LITTLE_ENDIAN && namedRoot) return varIntLengths ? LITTLE_ENDIAN_VAR_INT : LITTLE_ENDIAN;
+      return new Dialect(byteOrder, varIntLengths, namedRoot);
+    }
+
+    /**
+     * Gets the byte order of numbers and fixed-size lengths.
+     *
+     * @return the byte order
+     * @since 4.8.0
+     */
+    public @NonNull ByteOrder byteOrder() {
+      return this.byteOrder;
+    }
+
+    /**
+     * Gets if lengths are encoded as unsigned VarInts.
+     *
+     * @return if lengths are encoded as VarInts
+     * @since 4.8.0
+     */
+    public boolean varIntLengths() {
+      return this.varIntLengths;
+    }
+
+    /**
+     * Gets if the root tag is followed by a name.
+     *
+     * @return if the root tag is named
+     * @since 4.8.0
+     */
+    public boolean namedRoot() {
+      return this.namedRoot;
+    }
+
+    // if numbers or lengths differ from what DataInput and DataOutput do
+    private boolean custom() {
+      return this.byteOrder == ByteOrder.LITTLE_ENDIAN || this.varIntLengths;
+    }
+
+    @NonNull DataInput input(final @NonNull DataInput input) {
+      if(!this.custom() || input instanceof DialectDataInput) return input;
+      return new DialectDataInput(input, this.byteOrder == ByteOrder.LITTLE_ENDIAN, this.varIntLengths);
+    }
+
+    @NonNull DataOutput output(final @NonNull DataOutput output) {
+      if(!this.custom() || output instanceof DialectDataOutput) return output;
+      return new DialectDataOutput(output, this.byteOrder == ByteOrder.LITTLE_ENDIAN, this.varIntLengths);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if(this == other) return true;
+      if(!(other instanceof Dialect)) return false;
+      final Dialect that = (Dialect) other;
+      return this.byteOrder == that.byteOrder && this.varIntLengths == that.varIntLengths && this.namedRoot == that.namedRoot;
+    }
+
+    @Override
+    public int hashCode() {
+      int result = this.byteOrder.hashCode();
+      result = (31 * result) + Boolean.hashCode(this.varIntLengths);
+      result = (31 * result) + Boolean.hashCode(this.namedRoot);
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      return "Dialect[byteOrder=" + this.byteOrder + ", varIntLengths=" + this.varIntLengths + ", namedRoot=" + this.namedRoot + "]";
+    }
   }
 
   /**
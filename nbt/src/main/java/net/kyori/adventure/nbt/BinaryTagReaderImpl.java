@@ -38,12 +38,19 @@ import static net.kyori.adventure.nbt.IOStreamUtil.closeShield;
 
 @SuppressWarnings("DuplicatedCode")
 final class BinaryTagReaderImpl implements BinaryTagIO.Reader {
+  static final long DEFAULT_MAX_BYTES = 0x20_00a;
   private final long maxBytes;
+  private final BinaryTagIO.Dialect dialect;
   static final BinaryTagIO.Reader UNLIMITED = new BinaryTagReaderImpl(-1L);
-  static final BinaryTagIO.Reader DEFAULT_LIMIT = new BinaryTagReaderImpl(0x20_00a);
+  static final BinaryTagIO.Reader DEFAULT_LIMIT = new BinaryTagReaderImpl(DEFAULT_MAX_BYTES);
 
   BinaryTagReaderImpl(final long maxBytes) {
+    this(maxBytes, BinaryTagIO.Dialect.DEFAULT);
+  }
+
+  BinaryTagReaderImpl(final long maxBytes, final BinaryTagIO.Dialect dialect) {
     this.maxBytes = maxBytes;
+    this.dialect = dialect;
   }
 
   @Override
@@ -63,12 +70,14 @@ final class BinaryTagReaderImpl implements BinaryTagIO.Reader {
   @Override
   public @NonNull CompoundBinaryTag read(@NonNull DataInput input) throws IOException {
     if(!(input instanceof TrackingDataInput)) {
-      input = new TrackingDataInput(input, this.maxBytes);
+      input = new TrackingDataInput(this.dialect.input(input), this.maxBytes);
     }
 
     final BinaryTagType<? extends BinaryTag> type = BinaryTagType.of(input.readByte());
     requireCompound(type);
-    input.skipBytes(input.readUnsignedShort()); // read empty name
+    if(this.dialect.namedRoot()) {
+      input.skipBytes(this.dialect.varIntLengths() ? DialectDataInput.readLength(input) : input.readUnsignedShort()); // read empty name
+    }
     return BinaryTagTypes.COMPOUND.read(input);
   }
 
@@ -87,13 +96,24 @@ final class BinaryTagReaderImpl implements BinaryTagIO.Reader {
   }
 
   @Override
-  public Map.@NonNull Entry<String, CompoundBinaryTag> readNamed(final @NonNull DataInput input) throws IOException {
+  public Map.@NonNull Entry<String, CompoundBinaryTag> readNamed(@NonNull DataInput input) throws IOException {
+    if(!(input instanceof TrackingDataInput)) {
+      input = new TrackingDataInput(this.dialect.input(input), this.maxBytes);
+    }
     final BinaryTagType<? extends BinaryTag> type = BinaryTagType.of(input.readByte());
     requireCompound(type);
-    final String name = input.readUTF();
+    final String name = this.dialect.namedRoot() ? input.readUTF() : "";
     return new AbstractMap.SimpleImmutableEntry<>(name, BinaryTagTypes.COMPOUND.read(input));
   }
 
+  @Override
+  public @NonNull BinaryTagDiff readDiff(@NonNull DataInput input) throws IOException {
+    if(!(input instanceof TrackingDataInput)) {
+      input = new TrackingDataInput(this.dialect.input(input), this.maxBytes);
+    }
+    return BinaryTagDiffImpl.read(input);
+  }
+
   private static void requireCompound(final BinaryTagType<? extends BinaryTag> type) throws IOException {
     if(type != BinaryTagTypes.COMPOUND) {
       throw new IOException(String.format("Expected root tag to be a %s, was %s", BinaryTagTypes.COMPOUND, type));
@@ -0,0 +1,141 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+// copies tags between dialects as they are read
+final class BinaryTagTranscoder {
+  private static final int BUFFER_SIZE = 4096;
+
+  private BinaryTagTranscoder() {
+  }
+
+  static void transcode(final DataInput input, final BinaryTagIO.Dialect from, final DataOutput output, final BinaryTagIO.Dialect to) throws IOException {
+    final byte id = input.readByte();
+    final BinaryTagType<? extends BinaryTag> type = BinaryTagType.of(id);
+    if(type != BinaryTagTypes.COMPOUND) {
+      throw new IOException(String.format("Expected root tag to be a %s, was %s", BinaryTagTypes.COMPOUND, type));
+    }
+    output.writeByte(id);
+    final String name = from.namedRoot() ? input.readUTF() : "";
+    if(to.namedRoot()) {
+      output.writeUTF(name);
+    }
+    copy(id, input, output);
+  }
+
+  @SuppressWarnings("try")
+  private static void copy(final byte id, final DataInput input, final DataOutput output) throws IOException {
+    switch(id) {
+      case 0: // end
+        break;
+      case 1: // byte
+        output.writeByte(input.readByte());
+        break;
+      case 2: // short
+        output.writeShort(input.readShort());
+        break;
+      case 3: // int
+        output.writeInt(input.readInt());
+        break;
+      case 4: // long
+        output.writeLong(input.readLong());
+        break;
+      case 5: // float
+        output.writeFloat(input.readFloat());
+        break;
+      case 6: // double
+        output.writeDouble(input.readDouble());
+        break;
+      case 7: { // byte array
+        final int length = DialectDataInput.readLength(input);
+        DialectDataOutput.writeLength(output, length);
+        try(final BinaryTagScope ignored = TrackingDataInput.enter(input, length)) {
+          final byte[] buffer = new byte[Math.min(length, BUFFER_SIZE)];
+          int remaining = length;
+          while(remaining > 0) {
+            final int chunk = Math.min(remaining, buffer.length);
+            input.readFully(buffer, 0, chunk);
+            output.write(buffer, 0, chunk);
+            remaining -= chunk;
+          }
+        }
+        break;
+      }
+      case 8: // string
+        output.writeUTF(input.readUTF());
+        break;
+      case 9: { // list
+        final byte elementId = input.readByte();
+        BinaryTagType.of(elementId); // validate
+        final int length = DialectDataInput.readLength(input);
+        output.writeByte(elementId);
+        DialectDataOutput.writeLength(output, length);
+        try(final BinaryTagScope ignored = TrackingDataInput.enter(input, length * 8L)) {
+          for(int i = 0; i < length; i++) {
+            copy(elementId, input, output);
+          }
+        }
+        break;
+      }
+      case 10: // compound
+        try(final BinaryTagScope ignored = TrackingDataInput.enter(input)) {
+          byte entryId;
+          while((entryId = input.readByte()) != 0) {
+            BinaryTagType.of(entryId); // validate
+            output.writeByte(entryId);
+            output.writeUTF(input.readUTF());
+            copy(entryId, input, output);
+          }
+          output.writeByte(0);
+        }
+        break;
+      case 11: { // int array
+        final int length = DialectDataInput.readLength(input);
+        DialectDataOutput.writeLength(output, length);
+        try(final BinaryTagScope ignored = TrackingDataInput.enter(input, length * 4L)) {
+          for(int i = 0; i < length; i++) {
+            output.writeInt(input.readInt());
+          }
+        }
+        break;
+      }
+      case 12: { // long array
+        final int length = DialectDataInput.readLength(input);
+        DialectDataOutput.writeLength(output, length);
+        try(final BinaryTagScope ignored = TrackingDataInput.enter(input, length * 8L)) {
+          for(int i = 0; i < length; i++) {
+            output.writeLong(input.readLong());
+          }
+        }
+        break;
+      }
+      default:
+        throw new IOException("Unknown tag type " + id);
+    }
+  }
+}
@@ -83,7 +83,7 @@ public final class BinaryTagTypes {
    */
   @SuppressWarnings("try")
   public static final BinaryTagType<ByteArrayBinaryTag> BYTE_ARRAY = BinaryTagType.register(ByteArrayBinaryTag.class, (byte) 7, input -> {
-    final int length = input.readInt();
+    final int length = DialectDataInput.readLength(input);
     try(final BinaryTagScope ignored = TrackingDataInput.enter(input, length)) {
       final byte[] value = new byte[length];
       input.readFully(value);
@@ -91,7 +91,7 @@ public final class BinaryTagTypes {
     }
   }, (tag, output) -> {
     final byte[] value = ByteArrayBinaryTagImpl.value(tag);
-    output.writeInt(value.length);
+    DialectDataOutput.writeLength(output, value.length);
     output.write(value);
   });
   /**
@@ -108,7 +108,7 @@ public final class BinaryTagTypes {
   @SuppressWarnings("try")
   public static final BinaryTagType<ListBinaryTag> LIST = BinaryTagType.register(ListBinaryTag.class, (byte) 9, input -> {
     final BinaryTagType<? extends BinaryTag> type = BinaryTagType.of(input.readByte());
-    final int length = input.readInt();
+    final int length = DialectDataInput.readLength(input);
     try(final BinaryTagScope ignored = TrackingDataInput.enter(input, length * 8L)) {
       final List<BinaryTag> tags = new ArrayList<>(length);
       for(int i = 0; i < length; i++) {
@@ -119,7 +119,7 @@ public final class BinaryTagTypes {
   }, (tag, output) -> {
     output.writeByte(tag.elementType().id());
     final int size = tag.size();
-    output.writeInt(size);
+    DialectDataOutput.writeLength(output, size);
     for(final BinaryTag item : tag) {
       BinaryTagType.write(item.type(), item, output);
     }
@@ -162,7 +162,7 @@ public final class BinaryTagTypes {
    */
   @SuppressWarnings("try")
   public static final BinaryTagType<IntArrayBinaryTag> INT_ARRAY = BinaryTagType.register(IntArrayBinaryTag.class, (byte) 11, input -> {
-    final int length = input.readInt();
+    final int length = DialectDataInput.readLength(input);
     try(final BinaryTagScope ignored = TrackingDataInput.enter(input, length * 4L)) {
       final int[] value = new int[length];
       for(int i = 0; i < length; i++) {
@@ -173,7 +173,7 @@ public final class BinaryTagTypes {
   }, (tag, output) -> {
     final int[] value = IntArrayBinaryTagImpl.value(tag);
     final int length = value.length;
-    output.writeInt(length);
+    DialectDataOutput.writeLength(output, length);
     for(int i = 0; i < length; i++) {
       output.writeInt(value[i]);
     }
@@ -185,7 +185,7 @@ public final class BinaryTagTypes {
    */
   @SuppressWarnings("try")
   public static final BinaryTagType<LongArrayBinaryTag> LONG_ARRAY = BinaryTagType.register(LongArrayBinaryTag.class, (byte) 12, input -> {
-    final int length = input.readInt();
+    final int length = DialectDataInput.readLength(input);
     try(final BinaryTagScope ignored = TrackingDataInput.enter(input, length * 8L)) {
       final long[] value = new long[length];
       for(int i = 0; i < length; i++) {
@@ -196,7 +196,7 @@ public final class BinaryTagTypes {
   }, (tag, output) -> {
     final long[] value = LongArrayBinaryTagImpl.value(tag);
     final int length = value.length;
-    output.writeInt(length);
+    DialectDataOutput.writeLength(output, length);
     for(int i = 0; i < length; i++) {
       output.writeLong(value[i]);
     }
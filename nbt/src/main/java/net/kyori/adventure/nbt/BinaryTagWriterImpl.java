@@ -36,7 +36,12 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import static net.kyori.adventure.nbt.IOStreamUtil.closeShield;
 
 final class BinaryTagWriterImpl implements BinaryTagIO.Writer {
-  static final BinaryTagIO.Writer INSTANCE = new BinaryTagWriterImpl();
+  static final BinaryTagIO.Writer INSTANCE = new BinaryTagWriterImpl(BinaryTagIO.Dialect.DEFAULT);
+  private final BinaryTagIO.Dialect dialect;
+
+  BinaryTagWriterImpl(final BinaryTagIO.Dialect dialect) {
+    this.dialect = dialect;
+  }
 
   @Override
   public void write(final @NonNull CompoundBinaryTag tag, final @NonNull Path path, final BinaryTagIO.@NonNull Compression compression) throws IOException {
@@ -53,9 +58,12 @@ final class BinaryTagWriterImpl implements BinaryTagIO.Writer {
   }
 
   @Override
-  public void write(final @NonNull CompoundBinaryTag tag, final @NonNull DataOutput output) throws IOException {
+  public void write(final @NonNull CompoundBinaryTag tag, @NonNull DataOutput output) throws IOException {
+    output = this.dialect.output(output);
     output.writeByte(BinaryTagTypes.COMPOUND.id());
-    output.writeUTF(""); // write empty name
+    if(this.dialect.namedRoot()) {
+      output.writeUTF(""); // write empty name
+    }
     BinaryTagTypes.COMPOUND.write(tag, output);
   }
 
@@ -74,9 +82,17 @@ final class BinaryTagWriterImpl implements BinaryTagIO.Writer {
   }
 
   @Override
-  public void writeNamed(final Map.@NonNull Entry<String, CompoundBinaryTag> tag, final @NonNull DataOutput output) throws IOException {
+  public void writeNamed(final Map.@NonNull Entry<String, CompoundBinaryTag> tag, @NonNull DataOutput output) throws IOException {
+    output = this.dialect.output(output);
     output.writeByte(BinaryTagTypes.COMPOUND.id());
-    output.writeUTF(tag.getKey());
+    if(this.dialect.namedRoot()) {
+      output.writeUTF(tag.getKey());
+    }
     BinaryTagTypes.COMPOUND.write(tag.getValue(), output);
   }
+
+  @Override
+  public void writeDiff(final @NonNull BinaryTagDiff diff, final @NonNull DataOutput output) throws IOException {
+    BinaryTagDiffImpl.write(diff, this.dialect.output(output));
+  }
 }
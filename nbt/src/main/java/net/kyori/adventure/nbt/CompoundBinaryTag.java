@@ -26,9 +26,12 @@ package net.kyori.adventure.nbt;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * Binary tag holding a mapping of string keys to {@link BinaryTag} values.
  *
@@ -414,6 +417,43 @@ public interface CompoundBinaryTag extends BinaryTag, CompoundTagSetter<Compound
    */
   long@NonNull[] getLongArray(final @NonNull String key, final long@NonNull[] defaultValue);
 
+  /**
+   * Recursively merges {@code tag} into this compound.
+   *
+   * <p>Compounds present in both tags are merged, any other tag in {@code tag} replaces the one in this compound.
+   * Each modified compound is copied only once.</p>
+   *
+   * @param tag the tag to merge
+   * @return a compound tag
+   * @since 4.8.0
+   */
+  default @NonNull CompoundBinaryTag deepMerge(final @NonNull CompoundBinaryTag tag) {
+    if(tag.keySet().isEmpty()) return this;
+    if(this.keySet().isEmpty()) return tag;
+    return this.edit(view -> CompoundMutableViewImpl.merge(view, tag));
+  }
+
+  /**
+   * Applies a batch of changes to this compound.
+   *
+   * <p>Changes made to the view, including to nested compounds through {@link MutableView#compound(String)},
+   * are applied when {@code consumer} returns. Each modified compound is copied only once, and unmodified tags are
+   * shared with this compound. The view must not be used after {@code consumer} returns.</p>
+   *
+   * @param consumer the consumer
+   * @return a compound tag, or {@code this} if nothing was changed
+   * @since 4.8.0
+   */
+  default @NonNull CompoundBinaryTag edit(final @NonNull Consumer<? super MutableView> consumer) {
+    final CompoundMutableViewImpl view = new CompoundMutableViewImpl(this);
+    try {
+      requireNonNull(consumer, "consumer").accept(view);
+      return view.build();
+    } finally {
+      view.close();
+    }
+  }
+
   /**
    * A compound tag builder.
    *
@@ -428,4 +468,32 @@ public interface CompoundBinaryTag extends BinaryTag, CompoundTagSetter<Compound
      */
     @NonNull CompoundBinaryTag build();
   }
+
+  /**
+   * A mutable view of a compound tag, used to {@link #edit(Consumer) edit} it.
+   *
+   * @since 4.8.0
+   */
+  interface MutableView extends CompoundTagSetter<MutableView> {
+    /**
+     * Gets a tag.
+     *
+     * @param key the key
+     * @return a tag
+     * @since 4.8.0
+     */
+    @Nullable BinaryTag get(final @NonNull String key);
+
+    /**
+     * Gets a mutable view of the compound tag with the key {@code key}.
+     *
+     * <p>If there is no compound tag with that key, changes to the returned view are applied to an empty compound
+     * that replaces any existing tag.</p>
+     *
+     * @param key the key
+     * @return a mutable view
+     * @since 4.8.0
+     */
+    @NonNull MutableView compound(final @NonNull String key);
+  }
 }
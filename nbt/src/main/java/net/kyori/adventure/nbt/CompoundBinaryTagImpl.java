@@ -63,14 +63,19 @@ final class CompoundBinaryTagImpl extends AbstractBinaryTag implements CompoundB
     return this.tags.get(key);
   }
 
+  private @Nullable BinaryTag get(final String key, final BinaryTagType<?> type) {
+    final @Nullable BinaryTag tag = this.tags.get(key);
+    return tag != null && type.test(tag.type()) ? tag : null;
+  }
+
   @Override
   public @NonNull CompoundBinaryTag put(final @NonNull String key, final @NonNull BinaryTag tag) {
-    return this.edit(map -> map.put(key, tag));
+    return this.editMap(map -> map.put(key, tag));
   }
 
   @Override
   public @NonNull CompoundBinaryTag put(final @NonNull CompoundBinaryTag tag) {
-    return this.edit(map -> {
+    return this.editMap(map -> {
       for(final String key : tag.keySet()) {
         map.put(key, tag.get(key));
       }
@@ -79,7 +84,7 @@ final class CompoundBinaryTagImpl extends AbstractBinaryTag implements CompoundB
 
   @Override
   public @NonNull CompoundBinaryTag put(final @NonNull Map<String, ? extends BinaryTag> tags) {
-    return this.edit(map -> map.putAll(tags));
+    return this.editMap(map -> map.putAll(tags));
   }
 
   @Override
@@ -87,7 +92,7 @@ final class CompoundBinaryTagImpl extends AbstractBinaryTag implements CompoundB
     if(!this.tags.containsKey(key)) {
       return this;
     }
-    return this.edit(map -> {
+    return this.editMap(map -> {
       final BinaryTag tag = map.remove(key);
       if(removed != null) {
         removed.accept(tag);
@@ -97,90 +102,101 @@ final class CompoundBinaryTagImpl extends AbstractBinaryTag implements CompoundB
 
   @Override
   public byte getByte(final @NonNull String key, final byte defaultValue) {
-    if(this.contains(key, BinaryTagTypes.BYTE)) {
-      return ((NumberBinaryTag) this.tags.get(key)).byteValue();
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.BYTE);
+    if(tag != null) {
+      return ((NumberBinaryTag) tag).byteValue();
     }
     return defaultValue;
   }
 
   @Override
   public short getShort(final @NonNull String key, final short defaultValue) {
-    if(this.contains(key, BinaryTagTypes.SHORT)) {
-      return ((NumberBinaryTag) this.tags.get(key)).shortValue();
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.SHORT);
+    if(tag != null) {
+      return ((NumberBinaryTag) tag).shortValue();
     }
     return defaultValue;
   }
 
   @Override
   public int getInt(final @NonNull String key, final int defaultValue) {
-    if(this.contains(key, BinaryTagTypes.INT)) {
-      return ((NumberBinaryTag) this.tags.get(key)).intValue();
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.INT);
+    if(tag != null) {
+      return ((NumberBinaryTag) tag).intValue();
     }
     return defaultValue;
   }
 
   @Override
   public long getLong(final @NonNull String key, final long defaultValue) {
-    if(this.contains(key, BinaryTagTypes.LONG)) {
-      return ((NumberBinaryTag) this.tags.get(key)).longValue();
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.LONG);
+    if(tag != null) {
+      return ((NumberBinaryTag) tag).longValue();
     }
     return defaultValue;
   }
 
   @Override
   public float getFloat(final @NonNull String key, final float defaultValue) {
-    if(this.contains(key, BinaryTagTypes.FLOAT)) {
-      return ((NumberBinaryTag) this.tags.get(key)).floatValue();
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.FLOAT);
+    if(tag != null) {
+      return ((NumberBinaryTag) tag).floatValue();
     }
     return defaultValue;
   }
 
   @Override
   public double getDouble(final @NonNull String key, final double defaultValue) {
-    if(this.contains(key, BinaryTagTypes.DOUBLE)) {
-      return ((NumberBinaryTag) this.tags.get(key)).doubleValue();
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.DOUBLE);
+    if(tag != null) {
+      return ((NumberBinaryTag) tag).doubleValue();
     }
     return defaultValue;
   }
 
   @Override
   public byte@NonNull[] getByteArray(final @NonNull String key) {
-    if(this.contains(key, BinaryTagTypes.BYTE_ARRAY)) {
-      return ((ByteArrayBinaryTag) this.tags.get(key)).value();
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.BYTE_ARRAY);
+    if(tag != null) {
+      return ((ByteArrayBinaryTag) tag).value();
     }
     return new byte[0];
   }
 
   @Override
   public byte@NonNull[] getByteArray(final @NonNull String key, final byte@NonNull[] defaultValue) {
-    if(this.contains(key, BinaryTagTypes.BYTE_ARRAY)) {
-      return ((ByteArrayBinaryTag) this.tags.get(key)).value();
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.BYTE_ARRAY);
+    if(tag != null) {
+      return ((ByteArrayBinaryTag) tag).value();
     }
     return defaultValue;
   }
 
   @Override
   public @NonNull String getString(final @NonNull String key, final @NonNull String defaultValue) {
-    if(this.contains(key, BinaryTagTypes.STRING)) {
-      return ((StringBinaryTag) this.tags.get(key)).value();
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.STRING);
+    if(tag != null) {
+      return ((StringBinaryTag) tag).value();
     }
     return defaultValue;
   }
 
   @Override
   public @NonNull ListBinaryTag getList(final @NonNull String key, final @NonNull ListBinaryTag defaultValue) {
-    if(this.contains(key, BinaryTagTypes.LIST)) {
-      return (ListBinaryTag) this.tags.get(key);
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.LIST);
+    if(tag != null) {
+      return (ListBinaryTag) tag;
     }
     return defaultValue;
   }
 
   @Override
   public @NonNull ListBinaryTag getList(final @NonNull String key, final @NonNull BinaryTagType<? extends BinaryTag> expectedType, final @NonNull ListBinaryTag defaultValue) {
-    if(this.contains(key, BinaryTagTypes.LIST)) {
-      final ListBinaryTag tag = (ListBinaryTag) this.tags.get(key);
-      if(expectedType.test(tag.elementType())) {
-        return tag;
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.LIST);
+    if(tag != null) {
+      final ListBinaryTag list = (ListBinaryTag) tag;
+      if(expectedType.test(list.elementType())) {
+        return list;
       }
     }
     return defaultValue;
@@ -188,45 +204,50 @@ final class CompoundBinaryTagImpl extends AbstractBinaryTag implements CompoundB
 
   @Override
   public @NonNull CompoundBinaryTag getCompound(final @NonNull String key, final @NonNull CompoundBinaryTag defaultValue) {
-    if(this.contains(key, BinaryTagTypes.COMPOUND)) {
-      return (CompoundBinaryTag) this.tags.get(key);
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.COMPOUND);
+    if(tag != null) {
+      return (CompoundBinaryTag) tag;
     }
     return defaultValue;
   }
 
   @Override
   public int@NonNull[] getIntArray(final @NonNull String key) {
-    if(this.contains(key, BinaryTagTypes.INT_ARRAY)) {
-      return ((IntArrayBinaryTag) this.tags.get(key)).value();
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.INT_ARRAY);
+    if(tag != null) {
+      return ((IntArrayBinaryTag) tag).value();
     }
     return new int[0];
   }
 
   @Override
   public int@NonNull[] getIntArray(final @NonNull String key, final int@NonNull[] defaultValue) {
-    if(this.contains(key, BinaryTagTypes.INT_ARRAY)) {
-      return ((IntArrayBinaryTag) this.tags.get(key)).value();
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.INT_ARRAY);
+    if(tag != null) {
+      return ((IntArrayBinaryTag) tag).value();
     }
     return defaultValue;
   }
 
   @Override
   public long@NonNull[] getLongArray(final @NonNull String key) {
-    if(this.contains(key, BinaryTagTypes.LONG_ARRAY)) {
-      return ((LongArrayBinaryTag) this.tags.get(key)).value();
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.LONG_ARRAY);
+    if(tag != null) {
+      return ((LongArrayBinaryTag) tag).value();
     }
     return new long[0];
   }
 
   @Override
   public long@NonNull[] getLongArray(final @NonNull String key, final long@NonNull[] defaultValue) {
-    if(this.contains(key, BinaryTagTypes.LONG_ARRAY)) {
-      return ((LongArrayBinaryTag) this.tags.get(key)).value();
+    final @Nullable BinaryTag tag = this.get(key, BinaryTagTypes.LONG_ARRAY);
+    if(tag != null) {
+      return ((LongArrayBinaryTag) tag).value();
     }
     return defaultValue;
   }
 
-  private CompoundBinaryTag edit(final Consumer<Map<String, BinaryTag>> consumer) {
+  private CompoundBinaryTag editMap(final Consumer<Map<String, BinaryTag>> consumer) {
     final Map<String, BinaryTag> tags = new HashMap<>(this.tags);
     consumer.accept(tags);
     return new CompoundBinaryTagImpl(tags);
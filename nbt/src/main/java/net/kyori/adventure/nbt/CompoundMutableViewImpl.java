@@ -0,0 +1,204 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+final class CompoundMutableViewImpl implements CompoundBinaryTag.MutableView {
+  private CompoundBinaryTag base;
+  private @Nullable Map<String, BinaryTag> tags; // copied from base on first write
+  private @Nullable Map<String, CompoundMutableViewImpl> children;
+  private boolean closed;
+
+  CompoundMutableViewImpl(final CompoundBinaryTag base) {
+    this.base = base;
+  }
+
+  static void merge(final CompoundBinaryTag.MutableView view, final CompoundBinaryTag tag) {
+    for(final Map.Entry<String, ? extends BinaryTag> entry : tag) {
+      final String key = entry.getKey();
+      final BinaryTag value = entry.getValue();
+      if(value instanceof CompoundBinaryTag) {
+        final @Nullable BinaryTag existing = view.get(key);
+        if(existing instanceof CompoundBinaryTag && existing != value && !((CompoundBinaryTag) existing).keySet().isEmpty()) {
+          merge(view.compound(key), (CompoundBinaryTag) value);
+          continue;
+        }
+      }
+      view.put(key, value);
+    }
+  }
+
+  private void checkOpen() {
+    if(this.closed) {
+      throw new IllegalStateException("This view can no longer be used");
+    }
+  }
+
+  private Map<String, BinaryTag> tags() {
+    if(this.tags == null) {
+      this.tags = this.copy();
+    }
+    return this.tags;
+  }
+
+  private Map<String, BinaryTag> copy() {
+    if(this.tags != null) {
+      return new HashMap<>(this.tags);
+    }
+    final Map<String, BinaryTag> tags = new HashMap<>();
+    for(final Map.Entry<String, ? extends BinaryTag> entry : this.base) {
+      tags.put(entry.getKey(), entry.getValue());
+    }
+    return tags;
+  }
+
+  private @Nullable BinaryTag current(final String key) {
+    return this.tags != null ? this.tags.get(key) : this.base.get(key);
+  }
+
+  @Override
+  public @Nullable BinaryTag get(final @NonNull String key) {
+    this.checkOpen();
+    final @Nullable CompoundMutableViewImpl child = this.children != null ? this.children.get(key) : null;
+    if(child != null) {
+      return child.snapshot();
+    }
+    return this.current(key);
+  }
+
+  @Override
+  public CompoundBinaryTag.@NonNull MutableView compound(final @NonNull String key) {
+    this.checkOpen();
+    if(this.children == null) {
+      this.children = new HashMap<>();
+    }
+    CompoundMutableViewImpl child = this.children.get(key);
+    if(child == null) {
+      final @Nullable BinaryTag tag = this.current(key);
+      child = new CompoundMutableViewImpl(tag instanceof CompoundBinaryTag ? (CompoundBinaryTag) tag : CompoundBinaryTag.empty());
+      this.children.put(key, child);
+    }
+    return child;
+  }
+
+  @Override
+  public CompoundBinaryTag.@NonNull MutableView put(final @NonNull String key, final @NonNull BinaryTag tag) {
+    this.checkOpen();
+    requireNonNull(tag, "tag");
+    if(this.children != null) {
+      this.children.remove(key);
+    }
+    if(this.current(key) != tag) {
+      this.tags().put(key, tag);
+    }
+    return this;
+  }
+
+  @Override
+  public CompoundBinaryTag.@NonNull MutableView put(final @NonNull CompoundBinaryTag tag) {
+    for(final Map.Entry<String, ? extends BinaryTag> entry : tag) {
+      this.put(entry.getKey(), entry.getValue());
+    }
+    return this;
+  }
+
+  @Override
+  public CompoundBinaryTag.@NonNull MutableView put(final @NonNull Map<String, ? extends BinaryTag> tags) {
+    for(final Map.Entry<String, ? extends BinaryTag> entry : tags.entrySet()) {
+      this.put(entry.getKey(), entry.getValue());
+    }
+    return this;
+  }
+
+  @Override
+  public CompoundBinaryTag.@NonNull MutableView remove(final @NonNull String key, final @Nullable Consumer<? super BinaryTag> removed) {
+    this.checkOpen();
+    final @Nullable CompoundMutableViewImpl child = this.children != null ? this.children.remove(key) : null;
+    final @Nullable BinaryTag current = this.current(key);
+    if(current != null) {
+      this.tags().remove(key);
+    }
+    if(removed != null) {
+      final @Nullable BinaryTag tag = child != null ? child.snapshot() : current;
+      if(tag != null) {
+        removed.accept(tag);
+      }
+    }
+    return this;
+  }
+
+  // the compound as it is now, leaving pending changes in place so later writes do not copy this level again
+  private CompoundBinaryTag snapshot() {
+    @Nullable Map<String, BinaryTag> tags = null;
+    if(this.children != null) {
+      for(final Map.Entry<String, CompoundMutableViewImpl> entry : this.children.entrySet()) {
+        final String key = entry.getKey();
+        final CompoundBinaryTag child = entry.getValue().snapshot();
+        if(this.current(key) != child) {
+          if(tags == null) tags = this.copy();
+          tags.put(key, child);
+        }
+      }
+    }
+    if(tags == null) {
+      if(this.tags == null) return this.base;
+      tags = this.copy();
+    }
+    return tags.isEmpty() ? CompoundBinaryTag.empty() : new CompoundBinaryTagImpl(tags);
+  }
+
+  // applies pending changes, and returns the resulting compound
+  CompoundBinaryTag build() {
+    if(this.children != null) {
+      for(final Map.Entry<String, CompoundMutableViewImpl> entry : this.children.entrySet()) {
+        final String key = entry.getKey();
+        final CompoundBinaryTag child = entry.getValue().build();
+        if(this.current(key) != child) {
+          this.tags().put(key, child);
+        }
+      }
+    }
+    if(this.tags != null) {
+      this.base = this.tags.isEmpty() ? CompoundBinaryTag.empty() : new CompoundBinaryTagImpl(this.tags);
+      this.tags = null;
+    }
+    return this.base;
+  }
+
+  void close() {
+    this.closed = true;
+    if(this.children != null) {
+      for(final CompoundMutableViewImpl child : this.children.values()) {
+        child.close();
+      }
+    }
+  }
+}
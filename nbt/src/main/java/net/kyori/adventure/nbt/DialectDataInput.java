@@ -0,0 +1,164 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+// reads numbers and lengths as described by a non-default dialect
+final class DialectDataInput implements DataInput {
+  private final DataInput input;
+  private final boolean littleEndian;
+  private final boolean varIntLengths;
+
+  DialectDataInput(final DataInput input, final boolean littleEndian, final boolean varIntLengths) {
+    this.input = input;
+    this.littleEndian = littleEndian;
+    this.varIntLengths = varIntLengths;
+  }
+
+  // reads the length of an array or list
+  static int readLength(final DataInput input) throws IOException {
+    if(input instanceof TrackingDataInput) {
+      return ((TrackingDataInput) input).readLength();
+    } else if(input instanceof DialectDataInput) {
+      return ((DialectDataInput) input).readLength();
+    }
+    return input.readInt();
+  }
+
+  int readLength() throws IOException {
+    return this.varIntLengths ? this.readVarInt() : this.readInt();
+  }
+
+  private int readVarInt() throws IOException {
+    int value = 0;
+    for(int shift = 0; shift < 35; shift += 7) {
+      final byte b = this.input.readByte();
+      value |= (b & 0x7f) << shift;
+      if((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("VarInt is longer than 5 bytes");
+  }
+
+  @Override
+  public void readFully(final byte@NonNull[] array) throws IOException {
+    this.input.readFully(array);
+  }
+
+  @Override
+  public void readFully(final byte@NonNull[] array, final int off, final int len) throws IOException {
+    this.input.readFully(array, off, len);
+  }
+
+  @Override
+  public int skipBytes(final int n) throws IOException {
+    return this.input.skipBytes(n);
+  }
+
+  @Override
+  public boolean readBoolean() throws IOException {
+    return this.input.readBoolean();
+  }
+
+  @Override
+  public byte readByte() throws IOException {
+    return this.input.readByte();
+  }
+
+  @Override
+  public int readUnsignedByte() throws IOException {
+    return this.input.readUnsignedByte();
+  }
+
+  @Override
+  public short readShort() throws IOException {
+    final short value = this.input.readShort();
+    return this.littleEndian ? Short.reverseBytes(value) : value;
+  }
+
+  @Override
+  public int readUnsignedShort() throws IOException {
+    return this.readShort() & 0xffff;
+  }
+
+  @Override
+  public char readChar() throws IOException {
+    final char value = this.input.readChar();
+    return this.littleEndian ? Character.reverseBytes(value) : value;
+  }
+
+  @Override
+  public int readInt() throws IOException {
+    final int value = this.input.readInt();
+    return this.littleEndian ? Integer.reverseBytes(value) : value;
+  }
+
+  @Override
+  public long readLong() throws IOException {
+    final long value = this.input.readLong();
+    return this.littleEndian ? Long.reverseBytes(value) : value;
+  }
+
+  @Override
+  public float readFloat() throws IOException {
+    return Float.intBitsToFloat(this.readInt());
+  }
+
+  @Override
+  public double readDouble() throws IOException {
+    return Double.longBitsToDouble(this.readLong());
+  }
+
+  @Override
+  @SuppressWarnings("deprecation")
+  public @Nullable String readLine() throws IOException {
+    return this.input.readLine();
+  }
+
+  @Override
+  public @NonNull String readUTF() throws IOException {
+    return this.readUTF(this.readUTFLength());
+  }
+
+  // reads the encoded length of a string, so it can be checked before the string is read
+  int readUTFLength() throws IOException {
+    final int length = this.varIntLengths ? this.readVarInt() : this.readUnsignedShort();
+    if(length < 0) {
+      throw new IOException("Invalid string length " + length);
+    }
+    return length;
+  }
+
+  String readUTF(final int length) throws IOException {
+    final byte[] bytes = new byte[length];
+    this.input.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
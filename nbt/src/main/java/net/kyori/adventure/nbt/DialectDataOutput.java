@@ -0,0 +1,148 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+// writes numbers and lengths as described by a non-default dialect
+final class DialectDataOutput implements DataOutput {
+  private final DataOutput output;
+  private final boolean littleEndian;
+  private final boolean varIntLengths;
+
+  DialectDataOutput(final DataOutput output, final boolean littleEndian, final boolean varIntLengths) {
+    this.output = output;
+    this.littleEndian = littleEndian;
+    this.varIntLengths = varIntLengths;
+  }
+
+  // writes the length of an array or list
+  static void writeLength(final DataOutput output, final int length) throws IOException {
+    if(output instanceof DialectDataOutput) {
+      ((DialectDataOutput) output).writeLength(length);
+    } else {
+      output.writeInt(length);
+    }
+  }
+
+  void writeLength(final int length) throws IOException {
+    if(this.varIntLengths) {
+      this.writeVarInt(length);
+    } else {
+      this.writeInt(length);
+    }
+  }
+
+  private void writeVarInt(int value) throws IOException {
+    while((value & ~0x7f) != 0) {
+      this.output.writeByte((value & 0x7f) | 0x80);
+      value >>>= 7;
+    }
+    this.output.writeByte(value);
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    this.output.write(b);
+  }
+
+  @Override
+  public void write(final byte@NonNull[] b) throws IOException {
+    this.output.write(b);
+  }
+
+  @Override
+  public void write(final byte@NonNull[] b, final int off, final int len) throws IOException {
+    this.output.write(b, off, len);
+  }
+
+  @Override
+  public void writeBoolean(final boolean v) throws IOException {
+    this.output.writeBoolean(v);
+  }
+
+  @Override
+  public void writeByte(final int v) throws IOException {
+    this.output.writeByte(v);
+  }
+
+  @Override
+  public void writeShort(final int v) throws IOException {
+    this.output.writeShort(this.littleEndian ? Short.reverseBytes((short) v) : v);
+  }
+
+  @Override
+  public void writeChar(final int v) throws IOException {
+    this.output.writeChar(this.littleEndian ? Character.reverseBytes((char) v) : v);
+  }
+
+  @Override
+  public void writeInt(final int v) throws IOException {
+    this.output.writeInt(this.littleEndian ? Integer.reverseBytes(v) : v);
+  }
+
+  @Override
+  public void writeLong(final long v) throws IOException {
+    this.output.writeLong(this.littleEndian ? Long.reverseBytes(v) : v);
+  }
+
+  @Override
+  public void writeFloat(final float v) throws IOException {
+    this.writeInt(Float.floatToIntBits(v));
+  }
+
+  @Override
+  public void writeDouble(final double v) throws IOException {
+    this.writeLong(Double.doubleToLongBits(v));
+  }
+
+  @Override
+  public void writeBytes(final @NonNull String s) throws IOException {
+    this.output.writeBytes(s);
+  }
+
+  @Override
+  public void writeChars(final @NonNull String s) throws IOException {
+    for(int i = 0; i < s.length(); i++) {
+      this.writeChar(s.charAt(i));
+    }
+  }
+
+  @Override
+  public void writeUTF(final @NonNull String s) throws IOException {
+    final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    if(this.varIntLengths) {
+      this.writeVarInt(bytes.length);
+    } else {
+      if(bytes.length > 0xffff) {
+        throw new IOException("Encoded string is too long: " + bytes.length + " bytes");
+      }
+      this.writeShort(bytes.length);
+    }
+    this.output.write(bytes);
+  }
+}
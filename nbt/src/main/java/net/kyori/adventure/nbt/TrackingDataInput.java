@@ -166,6 +166,11 @@ final class TrackingDataInput implements DataInput, BinaryTagScope {
     return this.input.readDouble();
   }
 
+  int readLength() throws IOException {
+    this.counter += 4;
+    return DialectDataInput.readLength(this.input);
+  }
+
   @Override
   public @Nullable String readLine() throws IOException {
     final @Nullable String result = this.input.readLine();
@@ -177,6 +182,15 @@ final class TrackingDataInput implements DataInput, BinaryTagScope {
 
   @Override
   public @NonNull String readUTF() throws IOException {
+    if(this.input instanceof DialectDataInput) {
+      // dialect lengths can be far larger than a short, so check them before allocating
+      final DialectDataInput dialect = (DialectDataInput) this.input;
+      final int length = dialect.readUTFLength();
+      this.counter += 2;
+      this.ensureMaxLength(length);
+      this.counter += length;
+      return dialect.readUTF(length);
+    }
     final String result = this.input.readUTF();
     this.counter += (result.length() * 2L) + 2; // not entirely accurate, but the closest we can get without doing implementation details
     return result;
@@ -0,0 +1,152 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryTagCodecTest {
+  @Test
+  void testCached() {
+    assertSame(BinaryTagCodec.codec(Entity.class), BinaryTagCodec.codec(Entity.class));
+  }
+
+  @Test
+  void testEncode() {
+    final Entity entity = entity();
+    final CompoundBinaryTag tag = BinaryTagCodec.codec(Entity.class).encode(entity);
+    assertEquals("minecraft:pig", tag.getString("id"));
+    assertEquals(20, tag.getInt("Health"));
+    assertTrue(tag.getBoolean("Invulnerable"));
+    assertEquals(1.5d, tag.getDouble("y"));
+    assertArrayEquals(new int[]{1, 2, 3, 4}, tag.getIntArray("UUID"));
+    assertEquals(CompoundBinaryTag.empty().putString("Text", "Wilbur"), tag.getCompound("data"));
+    assertEquals("Wilbur", tag.getCompound("Name").getString("value"));
+    assertEquals(7, tag.getCompound("Passenger").getInt("Health"));
+    assertNull(tag.get("ignored"));
+    assertNull(tag.getCompound("Passenger").get("id")); // null fields are omitted
+  }
+
+  @Test
+  void testRoundTrip() {
+    final BinaryTagCodec<Entity> codec = BinaryTagCodec.codec(Entity.class);
+    final Entity entity = entity();
+    entity.passenger.id = "minecraft:cow"; // null would decode to the default value
+    final CompoundBinaryTag tag = codec.encode(entity);
+    assertEquals(tag, codec.encode(codec.decode(tag)));
+  }
+
+  @Test
+  void testDecodeKeepsDefaults() {
+    final Entity entity = BinaryTagCodec.codec(Entity.class).decode(CompoundBinaryTag.empty().putString("Health", "many").putByte("y", (byte) 2));
+    assertEquals(10, entity.health);
+    assertEquals(2d, entity.y);
+  }
+
+  @Test
+  void testWriteMatchesEncode() throws IOException {
+    final BinaryTagCodec<Entity> codec = BinaryTagCodec.codec(Entity.class);
+    final Entity entity = entity();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try(final DataOutputStream dos = new DataOutputStream(output)) {
+      codec.write(entity, dos);
+    }
+    assertEquals(codec.encode(entity), BinaryTagIO.reader().read(new ByteArrayInputStream(output.toByteArray())));
+  }
+
+  @Test
+  void testUnsupported() {
+    assertThrows(IllegalArgumentException.class, () -> BinaryTagCodec.codec(Unsupported.class));
+    assertThrows(IllegalArgumentException.class, () -> BinaryTagCodec.codec(NoConstructor.class));
+  }
+
+  private static Entity entity() {
+    final Entity entity = new Entity();
+    entity.id = "minecraft:pig";
+    entity.health = 20;
+    entity.invulnerable = true;
+    entity.y = 1.5d;
+    entity.uuid = new int[]{1, 2, 3, 4};
+    entity.data = CompoundBinaryTag.empty().putString("Text", "Wilbur");
+    entity.name = new Name();
+    entity.name.value = "Wilbur";
+    entity.passenger = new Entity();
+    entity.passenger.id = null;
+    entity.passenger.health = 7;
+    entity.ignored = "ignored";
+    return entity;
+  }
+
+  static class Living {
+    @BinaryTagProperty("Health")
+    int health = 10;
+  }
+
+  static class Entity extends Living {
+    @BinaryTagProperty
+    String id = "minecraft:pig";
+    @BinaryTagProperty("Invulnerable")
+    boolean invulnerable;
+    @BinaryTagProperty
+    double y;
+    @BinaryTagProperty("UUID")
+    int[] uuid;
+    @BinaryTagProperty
+    CompoundBinaryTag data;
+    @BinaryTagProperty("Name")
+    Name name;
+    @BinaryTagProperty("Passenger")
+    Entity passenger;
+    String ignored;
+  }
+
+  static class Name {
+    @BinaryTagProperty
+    private String value;
+  }
+
+  static class Unsupported {
+    @BinaryTagProperty
+    Object value;
+  }
+
+  static class NoConstructor {
+    @BinaryTagProperty
+    int value;
+
+    NoConstructor(final int value) {
+      this.value = value;
+    }
+  }
+}
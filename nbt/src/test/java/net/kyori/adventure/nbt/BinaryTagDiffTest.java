@@ -0,0 +1,147 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryTagDiffTest {
+  private static final CompoundBinaryTag ITEM = CompoundBinaryTag.builder()
+    .putString("id", "minecraft:diamond_sword")
+    .putByte("Count", (byte) 1)
+    .put("tag", CompoundBinaryTag.builder()
+      .putInt("Damage", 3)
+      .put("Enchantments", ListBinaryTag.builder()
+        .add(CompoundBinaryTag.builder().putString("id", "minecraft:sharpness").putShort("lvl", (short) 5).build())
+        .add(CompoundBinaryTag.builder().putString("id", "minecraft:unbreaking").putShort("lvl", (short) 3).build())
+        .build())
+      .build())
+    .build();
+
+  @Test
+  void testIdenticalIsEmpty() {
+    assertSame(BinaryTagDiff.empty(), BinaryTagDiff.diff(ITEM, ITEM));
+    assertSame(BinaryTagDiff.empty(), BinaryTagDiff.diff(ITEM, CompoundBinaryTag.empty().put(ITEM)));
+    assertSame(ITEM, BinaryTagDiff.empty().apply(ITEM));
+  }
+
+  @Test
+  void testPutAndRemove() {
+    final CompoundBinaryTag changed = ITEM.putByte("Count", (byte) 2).remove("id").putString("name", "sword");
+    final BinaryTagDiff diff = BinaryTagDiff.diff(ITEM, changed);
+    assertEquals(changed, diff.apply(ITEM));
+  }
+
+  @Test
+  void testNestedSharesUnchangedTags() {
+    final CompoundBinaryTag tag = ITEM.getCompound("tag");
+    final CompoundBinaryTag changed = ITEM.put("tag", tag.putInt("Damage", 4));
+    final BinaryTagDiff diff = BinaryTagDiff.diff(ITEM, changed);
+    final CompoundBinaryTag applied = diff.apply(ITEM);
+    assertEquals(changed, applied);
+    assertSame(ITEM.get("id"), applied.get("id"));
+    assertSame(tag.get("Enchantments"), applied.getCompound("tag").get("Enchantments"));
+  }
+
+  @Test
+  void testListSplice() {
+    final ListBinaryTag enchantments = ITEM.getCompound("tag").getList("Enchantments");
+    final CompoundBinaryTag mending = CompoundBinaryTag.builder().putString("id", "minecraft:mending").putShort("lvl", (short) 1).build();
+    final CompoundBinaryTag changed = ITEM.put("tag", ITEM.getCompound("tag").put("Enchantments", enchantments.add(mending)));
+    final CompoundBinaryTag applied = BinaryTagDiff.diff(ITEM, changed).apply(ITEM);
+    assertEquals(changed, applied);
+    assertSame(enchantments.get(0), applied.getCompound("tag").getList("Enchantments").get(0));
+
+    final CompoundBinaryTag removed = ITEM.put("tag", ITEM.getCompound("tag").put("Enchantments", enchantments.remove(0, null)));
+    assertEquals(removed, BinaryTagDiff.diff(ITEM, removed).apply(ITEM));
+  }
+
+  @Test
+  void testListTypeChange() {
+    final CompoundBinaryTag a = CompoundBinaryTag.empty().put("list", ListBinaryTag.builder().add(IntBinaryTag.of(1)).build());
+    final CompoundBinaryTag b = CompoundBinaryTag.empty().put("list", ListBinaryTag.builder().add(StringBinaryTag.of("1")).build());
+    assertEquals(b, BinaryTagDiff.diff(a, b).apply(a));
+    assertEquals(a, BinaryTagDiff.diff(b, a).apply(b));
+  }
+
+  @Test
+  void testInvalidSplice() {
+    final ListBinaryTag enchantments = ITEM.getCompound("tag").getList("Enchantments");
+    final CompoundBinaryTag changed = ITEM.put("tag", ITEM.getCompound("tag").put("Enchantments", enchantments.remove(1, null)));
+    final BinaryTagDiff diff = BinaryTagDiff.diff(ITEM, changed);
+    assertThrows(IllegalArgumentException.class, () -> diff.apply(CompoundBinaryTag.empty()));
+    assertThrows(IllegalArgumentException.class, () -> diff.apply(ITEM.put("tag", ITEM.getCompound("tag").putInt("Enchantments", 1))));
+    assertThrows(IllegalArgumentException.class, () -> diff.apply(ITEM.put("tag", ListBinaryTag.empty())));
+  }
+
+  @Test
+  void testWriteAndRead() throws IOException {
+    final CompoundBinaryTag changed = ITEM
+      .putByte("Count", (byte) 64)
+      .remove("id")
+      .put("tag", ITEM.getCompound("tag").put("Enchantments", ITEM.getCompound("tag").getList("Enchantments").add(CompoundBinaryTag.empty())));
+    final BinaryTagDiff diff = BinaryTagDiff.diff(ITEM, changed);
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().writeDiff(diff, output, BinaryTagIO.Compression.GZIP);
+    final BinaryTagDiff read = BinaryTagIO.reader().readDiff(new ByteArrayInputStream(output.toByteArray()), BinaryTagIO.Compression.GZIP);
+    assertEquals(diff, read);
+    assertEquals(changed, read.apply(ITEM));
+  }
+
+  @Test
+  void testReadInvalidSplice() {
+    assertThrows(IOException.class, () -> BinaryTagIO.reader().readDiff(new ByteArrayInputStream(splice(0, 0, -1))));
+    assertThrows(IOException.class, () -> BinaryTagIO.reader().readDiff(new ByteArrayInputStream(splice(-1, 0, 0))));
+    assertThrows(IOException.class, () -> BinaryTagIO.reader().readDiff(new ByteArrayInputStream(splice(0, -1, 0))));
+  }
+
+  private static byte[] splice(final int index, final int removed, final int length) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final DataOutputStream output = new DataOutputStream(bytes);
+    output.writeByte(4); // splice
+    output.writeUTF("Enchantments");
+    output.writeInt(index);
+    output.writeInt(removed);
+    output.writeByte(BinaryTagTypes.COMPOUND.id());
+    output.writeInt(length);
+    output.writeByte(0); // end
+    return bytes.toByteArray();
+  }
+
+  @Test
+  void testEmptyWriteAndRead() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().writeDiff(BinaryTagDiff.empty(), output);
+    assertEquals(1, output.size());
+    assertTrue(BinaryTagIO.reader().readDiff(new ByteArrayInputStream(output.toByteArray())).isEmpty());
+  }
+}
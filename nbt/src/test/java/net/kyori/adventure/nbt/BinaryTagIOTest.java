@@ -25,10 +25,15 @@ package net.kyori.adventure.nbt;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteOrder;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class BinaryTagIOTest {
   @Test
@@ -60,4 +65,88 @@ class BinaryTagIOTest {
     BinaryTagIO.writer().write(tag, output, BinaryTagIO.Compression.ZLIB);
     assertEquals(tag, BinaryTagIO.reader().read(new ByteArrayInputStream(output.toByteArray()), BinaryTagIO.Compression.ZLIB));
   }
+
+  @Test
+  void testWriteLittleEndian() throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putInt("i", 1)
+      .build();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer(BinaryTagIO.Dialect.LITTLE_ENDIAN).write(tag, output);
+    assertArrayEquals(new byte[]{10, 0, 0, 3, 1, 0, 'i', 1, 0, 0, 0, 0}, output.toByteArray());
+  }
+
+  @Test
+  void testWriteVarIntUnnamed() throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putIntArray("a", new int[]{1})
+      .build();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer(BinaryTagIO.Dialect.of(ByteOrder.BIG_ENDIAN, true, false)).write(tag, output);
+    assertArrayEquals(new byte[]{10, 11, 1, 'a', 1, 0, 0, 0, 1, 0}, output.toByteArray());
+  }
+
+  @Test
+  void testWriteAndReadDialects() throws IOException {
+    final CompoundBinaryTag tag = allTypes();
+    for(final BinaryTagIO.Dialect dialect : new BinaryTagIO.Dialect[]{BinaryTagIO.Dialect.LITTLE_ENDIAN, BinaryTagIO.Dialect.LITTLE_ENDIAN_VAR_INT, BinaryTagIO.Dialect.of(ByteOrder.BIG_ENDIAN, true, false)}) {
+      final ByteArrayOutputStream output = new ByteArrayOutputStream();
+      BinaryTagIO.writer(dialect).write(tag, output, BinaryTagIO.Compression.GZIP);
+      assertEquals(tag, BinaryTagIO.reader(dialect).read(new ByteArrayInputStream(output.toByteArray()), BinaryTagIO.Compression.GZIP));
+    }
+  }
+
+  @Test
+  void testTranscode() throws IOException {
+    final CompoundBinaryTag tag = allTypes();
+    final ByteArrayOutputStream original = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(tag, original);
+    final ByteArrayOutputStream transcoded = new ByteArrayOutputStream();
+    try(final DataOutputStream output = new DataOutputStream(transcoded)) {
+      BinaryTagIO.transcode(new DataInputStream(new ByteArrayInputStream(original.toByteArray())), BinaryTagIO.Dialect.DEFAULT, output, BinaryTagIO.Dialect.LITTLE_ENDIAN_VAR_INT);
+    }
+    final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    BinaryTagIO.writer(BinaryTagIO.Dialect.LITTLE_ENDIAN_VAR_INT).write(tag, expected);
+    assertArrayEquals(expected.toByteArray(), transcoded.toByteArray());
+  }
+
+  @Test
+  void testReadOversizedVarIntString() {
+    final BinaryTagIO.Dialect dialect = BinaryTagIO.Dialect.LITTLE_ENDIAN_VAR_INT;
+    final byte[] oversized = stringWithLength((byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0x07);
+    assertThrows(IOException.class, () -> BinaryTagIO.reader(dialect).read(new ByteArrayInputStream(oversized)));
+    assertThrows(IOException.class, () -> BinaryTagIO.reader(dialect).readNamed(new ByteArrayInputStream(oversized)));
+    assertThrows(IOException.class, () -> BinaryTagIO.transcode(new DataInputStream(new ByteArrayInputStream(oversized)), dialect, new DataOutputStream(new ByteArrayOutputStream()), BinaryTagIO.Dialect.DEFAULT));
+    final byte[] negative = stringWithLength((byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0x0f);
+    assertThrows(IOException.class, () -> BinaryTagIO.reader(dialect).read(new ByteArrayInputStream(negative)));
+  }
+
+  // a root compound holding one string entry, whose VarInt length is the given bytes
+  private static byte[] stringWithLength(final byte... length) {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    output.write(BinaryTagTypes.COMPOUND.id());
+    output.write(0); // empty root name
+    output.write(BinaryTagTypes.STRING.id());
+    output.write(1);
+    output.write('a');
+    output.write(length, 0, length.length);
+    return output.toByteArray();
+  }
+
+  private static CompoundBinaryTag allTypes() {
+    return CompoundBinaryTag.builder()
+      .putByte("byte", (byte) -3)
+      .putShort("short", (short) 1234)
+      .putInt("int", 123456789)
+      .putLong("long", -1234567890123L)
+      .putFloat("float", 1.5f)
+      .putDouble("double", -2.25d)
+      .putByteArray("byteArray", new byte[]{1, 2, 3})
+      .putString("string", "h\u00e9llo \u2603") // multi-byte characters
+      .put("list", ListBinaryTag.builder().add(StringBinaryTag.of("a")).add(StringBinaryTag.of("b")).build())
+      .put("compound", CompoundBinaryTag.builder().putString("nested", "value").build())
+      .putIntArray("intArray", new int[]{1, -2, 300})
+      .putLongArray("longArray", new long[]{Long.MIN_VALUE, Long.MAX_VALUE})
+      .build();
+  }
 }
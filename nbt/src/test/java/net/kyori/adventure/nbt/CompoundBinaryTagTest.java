@@ -0,0 +1,129 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompoundBinaryTagTest {
+  private static final CompoundBinaryTag TREE = CompoundBinaryTag.builder()
+    .putString("id", "minecraft:chest")
+    .put("display", CompoundBinaryTag.builder()
+      .putString("Name", "Loot")
+      .put("Lore", ListBinaryTag.builder().add(StringBinaryTag.of("shiny")).build())
+      .build())
+    .put("BlockEntityTag", CompoundBinaryTag.builder()
+      .putString("Lock", "")
+      .put("Items", ListBinaryTag.empty())
+      .build())
+    .build();
+
+  @Test
+  void testEditUnchanged() {
+    assertSame(TREE, TREE.edit(view -> {
+    }));
+    assertSame(TREE, TREE.edit(view -> view.put("id", TREE.get("id")).compound("display")));
+  }
+
+  @Test
+  void testEditNested() {
+    final CompoundBinaryTag edited = TREE.edit(view -> {
+      view.putByte("Count", (byte) 2);
+      view.compound("display").putString("Name", "Treasure").compound("extra").putInt("a", 1);
+      view.compound("display").remove("Lore");
+    });
+    assertEquals(2, edited.getByte("Count"));
+    assertEquals("Treasure", edited.getCompound("display").getString("Name"));
+    assertEquals(1, edited.getCompound("display").getCompound("extra").getInt("a"));
+    assertEquals(ListBinaryTag.empty(), edited.getCompound("display").getList("Lore"));
+    assertSame(TREE.get("BlockEntityTag"), edited.get("BlockEntityTag"));
+    assertEquals("Loot", TREE.getCompound("display").getString("Name")); // unchanged
+  }
+
+  @Test
+  void testEditReplacesNonCompound() {
+    final CompoundBinaryTag edited = TREE.edit(view -> view.compound("id").putInt("a", 1));
+    assertEquals(CompoundBinaryTag.empty().putInt("a", 1), edited.get("id"));
+  }
+
+  @Test
+  void testEditGetSeesChildChanges() {
+    TREE.edit(view -> {
+      view.compound("display").putString("Name", "Treasure");
+      assertEquals("Treasure", ((CompoundBinaryTag) view.get("display")).getString("Name"));
+    });
+  }
+
+  @Test
+  void testEditGetAndRemoveLeaveChildOpen() {
+    final AtomicReference<BinaryTag> removed = new AtomicReference<>();
+    final CompoundBinaryTag edited = TREE.edit(view -> {
+      final CompoundBinaryTag.MutableView display = view.compound("display");
+      display.putString("Name", "Treasure");
+      final CompoundBinaryTag seen = (CompoundBinaryTag) view.get("display");
+      display.putInt("a", 1);
+      assertEquals("Treasure", seen.getString("Name"));
+      assertNull(seen.get("a"));
+      view.compound("extra").putInt("b", 2);
+      view.remove("extra", removed::set);
+    });
+    assertEquals("Treasure", edited.getCompound("display").getString("Name"));
+    assertEquals(1, edited.getCompound("display").getInt("a"));
+    assertNull(edited.get("extra"));
+    assertEquals(CompoundBinaryTag.empty().putInt("b", 2), removed.get());
+  }
+
+  @Test
+  void testEditViewClosed() {
+    final AtomicReference<CompoundBinaryTag.MutableView> leaked = new AtomicReference<>();
+    TREE.edit(view -> leaked.set(view.compound("display")));
+    assertThrows(IllegalStateException.class, () -> leaked.get().putInt("a", 1));
+  }
+
+  @Test
+  void testDeepMerge() {
+    final CompoundBinaryTag patch = CompoundBinaryTag.builder()
+      .put("display", CompoundBinaryTag.builder().putString("Name", "Treasure").build())
+      .put("BlockEntityTag", CompoundBinaryTag.builder().put("Items", ListBinaryTag.builder().add(CompoundBinaryTag.empty()).build()).build())
+      .putString("id", "minecraft:barrel")
+      .build();
+    final CompoundBinaryTag merged = TREE.deepMerge(patch);
+    assertEquals("minecraft:barrel", merged.getString("id"));
+    assertEquals("Treasure", merged.getCompound("display").getString("Name"));
+    assertSame(TREE.getCompound("display").get("Lore"), merged.getCompound("display").get("Lore"));
+    assertEquals(1, merged.getCompound("BlockEntityTag").getList("Items").size());
+    assertSame(TREE.getCompound("BlockEntityTag").get("Lock"), merged.getCompound("BlockEntityTag").get("Lock"));
+  }
+
+  @Test
+  void testDeepMergeEmpty() {
+    assertSame(TREE, TREE.deepMerge(CompoundBinaryTag.empty()));
+    assertSame(TREE, CompoundBinaryTag.empty().deepMerge(TREE));
+  }
+}
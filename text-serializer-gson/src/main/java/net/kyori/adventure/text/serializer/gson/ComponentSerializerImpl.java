@@ -23,18 +23,14 @@
  */
 package net.kyori.adventure.text.serializer.gson;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-import java.lang.reflect.Type;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.BlockNBTComponent;
 import net.kyori.adventure.text.BuildableComponent;
@@ -52,7 +48,7 @@ import net.kyori.adventure.text.TranslatableComponent;
 import net.kyori.adventure.text.format.Style;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-final class ComponentSerializerImpl implements JsonDeserializer<Component>, JsonSerializer<Component> {
+final class ComponentSerializerImpl extends TypeAdapter<Component> {
   static final String TEXT = "text";
   static final String TRANSLATE = "translate";
   static final String TRANSLATE_WITH = "with";
@@ -69,100 +65,197 @@ final class ComponentSerializerImpl implements JsonDeserializer<Component>, Json
   static final String NBT_ENTITY = "entity";
   static final String NBT_STORAGE = "storage";
 
+  private final StyleSerializer style;
+  private final TypeAdapter<Key> key;
+  private final TypeAdapter<BlockNBTComponent.Pos> pos;
+
+  ComponentSerializerImpl(final Gson gson, final StyleSerializer style) {
+    this.style = style;
+    this.key = gson.getAdapter(Key.class);
+    this.pos = gson.getAdapter(BlockNBTComponent.Pos.class);
+  }
+
   @Override
-  public Component deserialize(final JsonElement json, final Type typeOfT, final JsonDeserializationContext context) throws JsonParseException {
-    return this.deserialize0(json, context);
+  public BuildableComponent<?, ?> read(final JsonReader in) throws IOException {
+    switch(in.peek()) {
+      case STRING:
+      case NUMBER:
+      case BOOLEAN:
+        return Component.text(GsonHacks.readString(in));
+      case BEGIN_ARRAY:
+        return this.readArray(in);
+      case BEGIN_OBJECT:
+        return this.readObject(in);
+      case NULL:
+        in.nextNull();
+        throw notSureHowToDeserialize("null");
+      default:
+        throw notSureHowToDeserialize(in.peek() + " at " + in.getPath());
+    }
   }
 
-  private BuildableComponent<?, ?> deserialize0(final JsonElement element, final JsonDeserializationContext context) throws JsonParseException {
-    if(element.isJsonPrimitive()) {
-      return Component.text(element.getAsString());
-    } else if(element.isJsonArray()) {
-      ComponentBuilder<?, ?> parent = null;
-      for(final JsonElement childElement : element.getAsJsonArray()) {
-        final BuildableComponent<?, ?> child = this.deserialize0(childElement, context);
-        if(parent == null) {
-          parent = child.toBuilder();
-        } else {
-          parent.append(child);
-        }
-      }
-      if(parent == null) {
-        throw notSureHowToDeserialize(element);
+  private BuildableComponent<?, ?> readArray(final JsonReader in) throws IOException {
+    in.beginArray();
+    if(!in.hasNext()) {
+      in.endArray();
+      throw notSureHowToDeserialize("[]");
+    }
+    final ComponentBuilder<?, ?> parent = this.read(in).toBuilder();
+    while(in.hasNext()) {
+      parent.append(this.read(in));
+    }
+    in.endArray();
+    return parent.build();
+  }
+
+  private List<Component> readComponents(final JsonReader in) throws IOException {
+    in.beginArray();
+    final List<Component> components = new ArrayList<>();
+    while(in.hasNext()) {
+      components.add(this.read(in));
+    }
+    in.endArray();
+    return components;
+  }
+
+  private BuildableComponent<?, ?> readObject(final JsonReader in) throws IOException {
+    // fields may come in any order, so everything is collected before deciding what kind of component this is
+    in.beginObject();
+    @Nullable String text = null;
+    @Nullable String translate = null;
+    @Nullable List<Component> with = null;
+    ScoreComponent./*@Nullable*/ Builder score = null;
+    @Nullable String selector = null;
+    @Nullable String keybind = null;
+    @Nullable String nbt = null;
+    boolean interpret = false;
+    BlockNBTComponent./*@Nullable*/ Pos block = null;
+    @Nullable String entity = null;
+    @Nullable Key storage = null;
+    @Nullable List<Component> extra = null;
+    StyleSerializer./*@Nullable*/ Fields style = null;
+    while(in.hasNext()) {
+      final String name = in.nextName();
+      switch(name) {
+        case TEXT:
+          text = GsonHacks.readString(in);
+          break;
+        case TRANSLATE:
+          translate = GsonHacks.readString(in);
+          break;
+        case TRANSLATE_WITH:
+          with = this.readComponents(in);
+          break;
+        case SCORE:
+          score = readScore(in);
+          break;
+        case SELECTOR:
+          selector = GsonHacks.readString(in);
+          break;
+        case KEYBIND:
+          keybind = GsonHacks.readString(in);
+          break;
+        case NBT:
+          nbt = GsonHacks.readString(in);
+          break;
+        case NBT_INTERPRET:
+          interpret = GsonHacks.readBoolean(in);
+          break;
+        case NBT_BLOCK:
+          block = this.pos.read(in);
+          break;
+        case NBT_ENTITY:
+          entity = GsonHacks.readString(in);
+          break;
+        case NBT_STORAGE:
+          storage = this.key.read(in);
+          break;
+        case EXTRA:
+          extra = this.readComponents(in);
+          break;
+        default:
+          if(style == null) style = new StyleSerializer.Fields();
+          this.style.readField(in, name, style);
+          break;
       }
-      return parent.build();
-    } else if(!element.isJsonObject()) {
-      throw notSureHowToDeserialize(element);
     }
+    in.endObject();
 
-    final JsonObject object = element.getAsJsonObject();
     final ComponentBuilder<?, ?> component;
-    if(object.has(TEXT)) {
-      component = Component.text().content(object.get(TEXT).getAsString());
-    } else if(object.has(TRANSLATE)) {
-      final String key = object.get(TRANSLATE).getAsString();
-      if(!object.has(TRANSLATE_WITH)) {
-        component = Component.translatable().key(key);
-      } else {
-        final JsonArray with = object.getAsJsonArray(TRANSLATE_WITH);
-        final List<Component> args = new ArrayList<>(with.size());
-        for(int i = 0, size = with.size(); i < size; i++) {
-          final JsonElement argElement = with.get(i);
-          args.add(this.deserialize0(argElement, context));
-        }
-        component = Component.translatable().key(key).args(args);
-      }
-    } else if(object.has(SCORE)) {
-      final JsonObject score = object.getAsJsonObject(SCORE);
-      if(!score.has(SCORE_NAME) || !score.has(SCORE_OBJECTIVE)) {
-        throw new JsonParseException("A score component requires a " + SCORE_NAME + " and " + SCORE_OBJECTIVE);
-      }
-      final ScoreComponent.Builder builder = Component.score()
-        .name(score.get(SCORE_NAME).getAsString())
-        .objective(score.get(SCORE_OBJECTIVE).getAsString());
-      // score components can have a value sometimes, let's grab it
-      if(score.has(SCORE_VALUE)) {
-        component = builder.value(score.get(SCORE_VALUE).getAsString());
+    if(text != null) {
+      component = Component.text().content(text);
+    } else if(translate != null) {
+      if(with == null) {
+        component = Component.translatable().key(translate);
       } else {
-        component = builder;
+        component = Component.translatable().key(translate).args(with);
       }
-    } else if(object.has(SELECTOR)) {
-      component = Component.selector().pattern(object.get(SELECTOR).getAsString());
-    } else if(object.has(KEYBIND)) {
-      component = Component.keybind().keybind(object.get(KEYBIND).getAsString());
-    } else if(object.has(NBT)) {
-      final String nbt = object.get(NBT).getAsString();
-      final boolean interpret = object.has(NBT_INTERPRET) && object.getAsJsonPrimitive(NBT_INTERPRET).getAsBoolean();
-      if(object.has(NBT_BLOCK)) {
-        final BlockNBTComponent.Pos pos = context.deserialize(object.get(NBT_BLOCK), BlockNBTComponent.Pos.class);
-        component = nbt(Component.blockNBT(), nbt, interpret).pos(pos);
-      } else if(object.has(NBT_ENTITY)) {
-        component = nbt(Component.entityNBT(), nbt, interpret).selector(object.get(NBT_ENTITY).getAsString());
-      } else if(object.has(NBT_STORAGE)) {
-        component = nbt(Component.storageNBT(), nbt, interpret).storage(context.deserialize(object.get(NBT_STORAGE), Key.class));
+    } else if(score != null) {
+      component = score;
+    } else if(selector != null) {
+      component = Component.selector().pattern(selector);
+    } else if(keybind != null) {
+      component = Component.keybind().keybind(keybind);
+    } else if(nbt != null) {
+      if(block != null) {
+        component = nbt(Component.blockNBT(), nbt, interpret).pos(block);
+      } else if(entity != null) {
+        component = nbt(Component.entityNBT(), nbt, interpret).selector(entity);
+      } else if(storage != null) {
+        component = nbt(Component.storageNBT(), nbt, interpret).storage(storage);
       } else {
-        throw notSureHowToDeserialize(element);
+        throw notSureHowToDeserialize(in.getPath());
       }
     } else {
-      throw notSureHowToDeserialize(element);
+      throw notSureHowToDeserialize(in.getPath());
     }
 
-    if(object.has(EXTRA)) {
-      final JsonArray extra = object.getAsJsonArray(EXTRA);
-      for(int i = 0, size = extra.size(); i < size; i++) {
-        final JsonElement extraElement = extra.get(i);
-        component.append(this.deserialize0(extraElement, context));
-      }
+    if(extra != null) {
+      component.append(extra);
     }
 
-    final Style style = context.deserialize(element, Style.class);
-    if(!style.isEmpty()) {
-      component.style(style);
+    if(style != null) {
+      final Style built = style.build();
+      if(!built.isEmpty()) {
+        component.style(built);
+      }
     }
 
     return component.build();
   }
 
+  private static ScoreComponent.Builder readScore(final JsonReader in) throws IOException {
+    in.beginObject();
+    @Nullable String name = null;
+    @Nullable String objective = null;
+    @Nullable String value = null;
+    while(in.hasNext()) {
+      final String fieldName = in.nextName();
+      if(fieldName.equals(SCORE_NAME)) {
+        name = GsonHacks.readString(in);
+      } else if(fieldName.equals(SCORE_OBJECTIVE)) {
+        objective = GsonHacks.readString(in);
+      } else if(fieldName.equals(SCORE_VALUE)) {
+        value = GsonHacks.readString(in);
+      } else {
+        in.skipValue();
+      }
+    }
+    in.endObject();
+
+    if(name == null || objective == null) {
+      throw new JsonParseException("A score component requires a " + SCORE_NAME + " and " + SCORE_OBJECTIVE);
+    }
+    final ScoreComponent.Builder builder = Component.score()
+      .name(name)
+      .objective(objective);
+    // score components can have a value sometimes, let's grab it
+    if(value != null) {
+      builder.value(value);
+    }
+    return builder;
+  }
+
   private static <C extends NBTComponent<C, B>, B extends NBTComponentBuilder<C, B>> B nbt(final B builder, final String nbt, final boolean interpret) {
     return builder
       .nbtPath(nbt)
@@ -170,72 +263,69 @@ final class ComponentSerializerImpl implements JsonDeserializer<Component>, Json
   }
 
   @Override
-  public JsonElement serialize(final Component src, final Type typeOfSrc, final JsonSerializationContext context) {
-    final JsonObject object = new JsonObject();
-
-    if(src.hasStyling()) {
-      final JsonElement style = context.serialize(src.style());
-      if(style.isJsonObject()) {
-        for(final Map.Entry<String, JsonElement> entry : ((JsonObject) style).entrySet()) {
-          object.add(entry.getKey(), entry.getValue());
-        }
-      }
+  public void write(final JsonWriter out, final Component value) throws IOException {
+    out.beginObject();
+
+    if(value.hasStyling()) {
+      this.style.writeFields(out, value.style());
     }
 
-    final List<Component> children = src.children();
+    final List<Component> children = value.children();
     if(!children.isEmpty()) {
-      final JsonArray extra = new JsonArray();
-      for(final Component child : children) {
-        extra.add(context.serialize(child));
+      out.name(EXTRA).beginArray();
+      for(int i = 0, size = children.size(); i < size; i++) {
+        this.write(out, children.get(i));
       }
-      object.add(EXTRA, extra);
+      out.endArray();
     }
 
-    if(src instanceof TextComponent) {
-      object.addProperty(TEXT, ((TextComponent) src).content());
-    } else if(src instanceof TranslatableComponent) {
-      final TranslatableComponent tc = (TranslatableComponent) src;
-      object.addProperty(TRANSLATE, tc.key());
-      if(!tc.args().isEmpty()) {
-        final JsonArray with = new JsonArray();
-        for(final Component arg : tc.args()) {
-          with.add(context.serialize(arg));
+    if(value instanceof TextComponent) {
+      out.name(TEXT).value(((TextComponent) value).content());
+    } else if(value instanceof TranslatableComponent) {
+      final TranslatableComponent tc = (TranslatableComponent) value;
+      out.name(TRANSLATE).value(tc.key());
+      final List<Component> args = tc.args();
+      if(!args.isEmpty()) {
+        out.name(TRANSLATE_WITH).beginArray();
+        for(int i = 0, size = args.size(); i < size; i++) {
+          this.write(out, args.get(i));
         }
-        object.add(TRANSLATE_WITH, with);
+        out.endArray();
       }
-    } else if(src instanceof ScoreComponent) {
-      final ScoreComponent sc = (ScoreComponent) src;
-      final JsonObject score = new JsonObject();
-      score.addProperty(SCORE_NAME, sc.name());
-      score.addProperty(SCORE_OBJECTIVE, sc.objective());
+    } else if(value instanceof ScoreComponent) {
+      final ScoreComponent sc = (ScoreComponent) value;
+      out.name(SCORE).beginObject();
+      out.name(SCORE_NAME).value(sc.name());
+      out.name(SCORE_OBJECTIVE).value(sc.objective());
       // score component value is optional
       @SuppressWarnings("deprecation")
-      final @Nullable String value = sc.value();
-      if(value != null) score.addProperty(SCORE_VALUE, value);
-      object.add(SCORE, score);
-    } else if(src instanceof SelectorComponent) {
-      object.addProperty(SELECTOR, ((SelectorComponent) src).pattern());
-    } else if(src instanceof KeybindComponent) {
-      object.addProperty(KEYBIND, ((KeybindComponent) src).keybind());
-    } else if(src instanceof NBTComponent) {
-      final NBTComponent<?, ?> nc = (NBTComponent<?, ?>) src;
-      object.addProperty(NBT, nc.nbtPath());
-      object.addProperty(NBT_INTERPRET, nc.interpret());
-      if(src instanceof BlockNBTComponent) {
-        final JsonElement position = context.serialize(((BlockNBTComponent) nc).pos());
-        object.add(NBT_BLOCK, position);
-      } else if(src instanceof EntityNBTComponent) {
-        object.addProperty(NBT_ENTITY, ((EntityNBTComponent) nc).selector());
-      } else if(src instanceof StorageNBTComponent) {
-        object.add(NBT_STORAGE, context.serialize(((StorageNBTComponent) nc).storage()));
+      final @Nullable String scoreValue = sc.value();
+      if(scoreValue != null) out.name(SCORE_VALUE).value(scoreValue);
+      out.endObject();
+    } else if(value instanceof SelectorComponent) {
+      out.name(SELECTOR).value(((SelectorComponent) value).pattern());
+    } else if(value instanceof KeybindComponent) {
+      out.name(KEYBIND).value(((KeybindComponent) value).keybind());
+    } else if(value instanceof NBTComponent) {
+      final NBTComponent<?, ?> nc = (NBTComponent<?, ?>) value;
+      out.name(NBT).value(nc.nbtPath());
+      out.name(NBT_INTERPRET).value(nc.interpret());
+      if(value instanceof BlockNBTComponent) {
+        out.name(NBT_BLOCK);
+        this.pos.write(out, ((BlockNBTComponent) nc).pos());
+      } else if(value instanceof EntityNBTComponent) {
+        out.name(NBT_ENTITY).value(((EntityNBTComponent) nc).selector());
+      } else if(value instanceof StorageNBTComponent) {
+        out.name(NBT_STORAGE);
+        this.key.write(out, ((StorageNBTComponent) nc).storage());
       } else {
-        throw notSureHowToSerialize(src);
+        throw notSureHowToSerialize(value);
       }
     } else {
-      throw notSureHowToSerialize(src);
+      throw notSureHowToSerialize(value);
     }
 
-    return object;
+    out.endObject();
   }
 
   static JsonParseException notSureHowToDeserialize(final Object element) {
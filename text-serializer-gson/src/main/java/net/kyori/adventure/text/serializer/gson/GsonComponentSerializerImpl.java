@@ -32,7 +32,6 @@ import net.kyori.adventure.text.BlockNBTComponent;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
-import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -54,12 +53,9 @@ final class GsonComponentSerializerImpl implements GsonComponentSerializer {
     this.emitLegacyHover = emitLegacyHover;
     this.populator = builder -> {
       builder.registerTypeHierarchyAdapter(Key.class, KeySerializer.INSTANCE);
-      builder.registerTypeHierarchyAdapter(Component.class, new ComponentSerializerImpl());
-      builder.registerTypeHierarchyAdapter(Style.class, new StyleSerializer(legacyHoverSerializer, emitLegacyHover));
+      builder.registerTypeAdapterFactory(new SerializerFactory(legacyHoverSerializer, emitLegacyHover));
       builder.registerTypeAdapter(ClickEvent.Action.class, IndexedSerializer.of("click action", ClickEvent.Action.NAMES));
       builder.registerTypeAdapter(HoverEvent.Action.class, IndexedSerializer.of("hover action", HoverEvent.Action.NAMES));
-      builder.registerTypeAdapter(HoverEvent.ShowItem.class, new ShowItemSerializer());
-      builder.registerTypeAdapter(HoverEvent.ShowEntity.class, new ShowEntitySerializer());
       builder.registerTypeAdapter(TextColorWrapper.class, new TextColorWrapper.Serializer());
       builder.registerTypeHierarchyAdapter(TextColor.class, downsampleColor ? TextColorSerializer.DOWNSAMPLE_COLOR : TextColorSerializer.INSTANCE);
       builder.registerTypeAdapter(TextDecoration.class, IndexedSerializer.of("text decoration", TextDecoration.NAMES));
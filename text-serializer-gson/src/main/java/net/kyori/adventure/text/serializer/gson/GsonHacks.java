@@ -0,0 +1,54 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.gson;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+
+/*
+ * Reads primitives as leniently as the JsonPrimitive getters did when components were deserialized from a tree.
+ */
+final class GsonHacks {
+  private GsonHacks() {
+  }
+
+  static String readString(final JsonReader in) throws IOException {
+    if(in.peek() == JsonToken.BOOLEAN) {
+      return String.valueOf(in.nextBoolean());
+    }
+    return in.nextString();
+  }
+
+  static boolean readBoolean(final JsonReader in) throws IOException {
+    final JsonToken token = in.peek();
+    if(token == JsonToken.BOOLEAN) {
+      return in.nextBoolean();
+    } else if(token == JsonToken.STRING || token == JsonToken.NUMBER) {
+      return Boolean.parseBoolean(in.nextString());
+    }
+    throw new JsonParseException("Expected a boolean but was " + token + " at " + in.getPath());
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.Style;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/*
+ * Creates the adapters that need other adapters from the same Gson instance to read and write their values.
+ */
+final class SerializerFactory implements TypeAdapterFactory {
+  private final @Nullable LegacyHoverEventSerializer legacyHover;
+  private final boolean emitLegacyHover;
+
+  SerializerFactory(final @Nullable LegacyHoverEventSerializer legacyHover, final boolean emitLegacyHover) {
+    this.legacyHover = legacyHover;
+    this.emitLegacyHover = emitLegacyHover;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> TypeAdapter<T> create(final Gson gson, final TypeToken<T> type) {
+    final Class<? super T> rawType = type.getRawType();
+    if(Component.class.isAssignableFrom(rawType)) {
+      return (TypeAdapter<T>) new ComponentSerializerImpl(gson, this.style(gson)).nullSafe();
+    } else if(Style.class.isAssignableFrom(rawType)) {
+      return (TypeAdapter<T>) this.style(gson).nullSafe();
+    } else if(HoverEvent.ShowItem.class.isAssignableFrom(rawType)) {
+      return (TypeAdapter<T>) new ShowItemSerializer(gson).nullSafe();
+    } else if(HoverEvent.ShowEntity.class.isAssignableFrom(rawType)) {
+      return (TypeAdapter<T>) new ShowEntitySerializer(gson).nullSafe();
+    }
+    return null;
+  }
+
+  private StyleSerializer style(final Gson gson) {
+    return new StyleSerializer(gson, this.legacyHover, this.emitLegacyHover);
+  }
+}
@@ -23,56 +23,74 @@
  */
 package net.kyori.adventure.text.serializer.gson;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-import java.lang.reflect.Type;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
 import java.util.UUID;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.HoverEvent;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-final class ShowEntitySerializer implements JsonDeserializer<HoverEvent.ShowEntity>, JsonSerializer<HoverEvent.ShowEntity> {
+final class ShowEntitySerializer extends TypeAdapter<HoverEvent.ShowEntity> {
   static final String TYPE = "type";
   static final String ID = "id";
   static final String NAME = "name";
 
+  private final TypeAdapter<Key> key;
+  private final TypeAdapter<Component> component;
+
+  ShowEntitySerializer(final Gson gson) {
+    this.key = gson.getAdapter(Key.class);
+    this.component = gson.getAdapter(Component.class);
+  }
+
   @Override
-  public HoverEvent.ShowEntity deserialize(final JsonElement json, final Type typeOfT, final JsonDeserializationContext context) throws JsonParseException {
-    final JsonObject object = json.getAsJsonObject();
+  public HoverEvent.ShowEntity read(final JsonReader in) throws IOException {
+    in.beginObject();
 
-    if(!object.has(TYPE) || !object.has(ID)) {
-      throw new JsonParseException("A show entity hover event needs type and id fields to be deserialized");
+    Key type = null;
+    UUID id = null;
+    @Nullable Component name = null;
+    while(in.hasNext()) {
+      final String fieldName = in.nextName();
+      if(fieldName.equals(TYPE)) {
+        type = this.key.read(in);
+      } else if(fieldName.equals(ID)) {
+        id = UUID.fromString(in.nextString());
+      } else if(fieldName.equals(NAME)) {
+        name = this.component.read(in);
+      } else {
+        in.skipValue();
+      }
     }
 
-    final Key type = context.deserialize(object.getAsJsonPrimitive(TYPE), Key.class);
-    final UUID id = UUID.fromString(object.getAsJsonPrimitive(ID).getAsString());
+    in.endObject();
 
-    @Nullable Component name = null;
-    if(object.has(NAME)) {
-      name = context.deserialize(object.get(NAME), Component.class);
+    if(type == null || id == null) {
+      throw new JsonParseException("A show entity hover event needs type and id fields to be deserialized");
     }
 
     return HoverEvent.ShowEntity.of(type, id, name);
   }
 
   @Override
-  public JsonElement serialize(final HoverEvent.ShowEntity src, final Type typeOfSrc, final JsonSerializationContext context) {
-    final JsonObject json = new JsonObject();
+  public void write(final JsonWriter out, final HoverEvent.ShowEntity value) throws IOException {
+    out.beginObject();
 
-    json.add(TYPE, context.serialize(src.type()));
-    json.addProperty(ID, src.id().toString());
+    out.name(TYPE);
+    this.key.write(out, value.type());
+    out.name(ID).value(value.id().toString());
 
-    final @Nullable Component name = src.name();
+    final @Nullable Component name = value.name();
     if(name != null) {
-      json.add(NAME, context.serialize(name));
+      out.name(NAME);
+      this.component.write(out, name);
     }
 
-    return json;
+    out.endObject();
   }
 }
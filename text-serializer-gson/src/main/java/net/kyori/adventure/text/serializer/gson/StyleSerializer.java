@@ -23,21 +23,18 @@
  */
 package net.kyori.adventure.text.serializer.gson;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
+import com.google.gson.Gson;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonNull;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
 import com.google.gson.internal.Streams;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import java.io.StringReader;
-import java.lang.reflect.Type;
+import java.io.StringWriter;
 import java.util.EnumSet;
 import java.util.Set;
 import net.kyori.adventure.key.Key;
@@ -50,7 +47,7 @@ import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.util.Codec;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-final class StyleSerializer implements JsonDeserializer<Style>, JsonSerializer<Style> {
+final class StyleSerializer extends TypeAdapter<Style> {
   @SuppressWarnings("checkstyle:NoWhitespaceAfter")
   private static final TextDecoration[] DECORATIONS = {
     // The order here is important -- Minecraft does string comparisons of some
@@ -84,105 +81,178 @@ final class StyleSerializer implements JsonDeserializer<Style>, JsonSerializer<S
   static final String HOVER_EVENT_CONTENTS = "contents";
   static final @Deprecated String HOVER_EVENT_VALUE = "value";
 
-  private final LegacyHoverEventSerializer legacyHover;
+  private final Gson gson;
+  private final @Nullable LegacyHoverEventSerializer legacyHover;
   private final boolean emitLegacyHover;
+  private final TypeAdapter<Key> key;
+  private final TypeAdapter<TextColor> color;
+  private final TypeAdapter<TextColorWrapper> colorWrapper;
+  private final TypeAdapter<ClickEvent.Action> clickAction;
+  private final TypeAdapter<HoverEvent.Action<?>> hoverAction;
+  private final TypeAdapter<Component> component;
 
-  StyleSerializer(final @Nullable LegacyHoverEventSerializer legacyHover, final boolean emitLegacyHover) {
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  StyleSerializer(final Gson gson, final @Nullable LegacyHoverEventSerializer legacyHover, final boolean emitLegacyHover) {
+    this.gson = gson;
     this.legacyHover = legacyHover;
     this.emitLegacyHover = emitLegacyHover;
+    this.key = gson.getAdapter(Key.class);
+    this.color = gson.getAdapter(TextColor.class);
+    this.colorWrapper = gson.getAdapter(TextColorWrapper.class);
+    this.clickAction = gson.getAdapter(ClickEvent.Action.class);
+    this.hoverAction = (TypeAdapter) gson.getAdapter(HoverEvent.Action.class);
+    this.component = gson.getAdapter(Component.class);
   }
 
   @Override
-  public Style deserialize(final JsonElement json, final Type typeOfT, final JsonDeserializationContext context) throws JsonParseException {
-    final JsonObject object = json.getAsJsonObject();
-    return this.deserialize(object, context);
+  public Style read(final JsonReader in) throws IOException {
+    in.beginObject();
+    final Fields fields = new Fields();
+    while(in.hasNext()) {
+      this.readField(in, in.nextName(), fields);
+    }
+    in.endObject();
+    return fields.build();
   }
 
-  @SuppressWarnings({"rawtypes", "unchecked"})
-  private Style deserialize(final JsonObject json, final JsonDeserializationContext context) throws JsonParseException {
-    final Style.Builder style = Style.style();
+  /**
+   * Reads the value of a field into {@code fields}, skipping it if it is not a style field.
+   *
+   * <p>Component objects carry their style inline, so this is also used while reading components.</p>
+   *
+   * @param in the reader, positioned at the value of the field
+   * @param name the field name
+   * @param fields the style fields read so far
+   * @throws IOException if the value could not be read
+   */
+  void readField(final JsonReader in, final String name, final Fields fields) throws IOException {
+    switch(name) {
+      case FONT:
+        fields.builder.font(this.key.read(in));
+        break;
+      case COLOR:
+        final TextColorWrapper wrapper = this.colorWrapper.read(in);
+        if(wrapper.color != null) {
+          fields.builder.color(wrapper.color);
+        } else if(wrapper.decoration != null) {
+          // I know. Setting a decoration from the color is weird. This is, unfortunately, something we need to support.
+          fields.colorDecoration = wrapper.decoration;
+        }
+        break;
+      case INSERTION:
+        fields.builder.insertion(GsonHacks.readString(in));
+        break;
+      case CLICK_EVENT:
+        this.readClickEvent(in, fields.builder);
+        break;
+      case HOVER_EVENT:
+        this.readHoverEvent(in, fields.builder);
+        break;
+      default:
+        final @Nullable TextDecoration decoration = TextDecoration.NAMES.value(name);
+        if(decoration != null) {
+          fields.decoration(decoration, GsonHacks.readBoolean(in));
+        } else {
+          in.skipValue();
+        }
+        break;
+    }
+  }
 
-    if(json.has(FONT)) {
-      style.font(context.deserialize(json.get(FONT), Key.class));
+  private void readClickEvent(final JsonReader in, final Style.Builder style) throws IOException {
+    if(in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return;
     }
 
-    if(json.has(COLOR)) {
-      final TextColorWrapper color = context.deserialize(json.get(COLOR), TextColorWrapper.class);
-      if(color.color != null) {
-        style.color(color.color);
-      } else if(color.decoration != null) {
-        // I know. Setting a decoration from the color is weird. This is, unfortunately, something we need to support.
-        style.decoration(color.decoration, true);
+    in.beginObject();
+    ClickEvent./*@Nullable*/ Action action = null;
+    @Nullable String value = null;
+    while(in.hasNext()) {
+      final String name = in.nextName();
+      if(name.equals(CLICK_EVENT_ACTION)) {
+        action = this.clickAction.read(in);
+      } else if(name.equals(CLICK_EVENT_VALUE)) {
+        value = readPrimitiveString(in);
+      } else {
+        in.skipValue();
       }
     }
+    in.endObject();
 
-    for(int i = 0, length = DECORATIONS.length; i < length; i++) {
-      final TextDecoration decoration = DECORATIONS[i];
-      final String name = TextDecoration.NAMES.key(decoration);
-      if(json.has(name)) {
-        style.decoration(decoration, json.get(name).getAsBoolean());
-      }
+    if(action != null && action.readable() && value != null) {
+      style.clickEvent(ClickEvent.clickEvent(action, value));
     }
+  }
 
-    if(json.has(INSERTION)) {
-      style.insertion(json.get(INSERTION).getAsString());
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private void readHoverEvent(final JsonReader in, final Style.Builder style) throws IOException {
+    if(in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return;
     }
 
-    if(json.has(CLICK_EVENT)) {
-      final JsonObject clickEvent = json.getAsJsonObject(CLICK_EVENT);
-      if(clickEvent != null) {
-        final ClickEvent./*@Nullable*/ Action action = optionallyDeserialize(clickEvent.getAsJsonPrimitive(CLICK_EVENT_ACTION), context, ClickEvent.Action.class);
-        if(action != null && action.readable()) {
-          final @Nullable JsonPrimitive rawValue = clickEvent.getAsJsonPrimitive(CLICK_EVENT_VALUE);
-          final @Nullable String value = rawValue == null ? null : rawValue.getAsString();
-          if(value != null) {
-            style.clickEvent(ClickEvent.clickEvent(action, value));
-          }
+    in.beginObject();
+    HoverEvent./*@Nullable*/ Action<?> action = null;
+    boolean hasContents = false;
+    @Nullable Object contents = null;
+    // contents that came before the action, and so could not be read as the right type yet
+    @Nullable JsonElement rawContents = null;
+    // the legacy value is only used when there are no contents, so it is kept as a tree until we know
+    @Nullable JsonElement legacyValue = null;
+    while(in.hasNext()) {
+      final String name = in.nextName();
+      if(name.equals(HOVER_EVENT_ACTION)) {
+        action = this.hoverAction.read(in);
+      } else if(name.equals(HOVER_EVENT_CONTENTS)) {
+        hasContents = true;
+        if(action == null) {
+          rawContents = this.gson.getAdapter(JsonElement.class).read(in);
+        } else if(action.readable()) {
+          contents = this.gson.getAdapter(action.type()).read(in);
+        } else {
+          in.skipValue();
         }
+      } else if(name.equals(HOVER_EVENT_VALUE) && !hasContents) {
+        legacyValue = this.gson.getAdapter(JsonElement.class).read(in);
+      } else {
+        in.skipValue();
       }
     }
+    in.endObject();
 
-    if(json.has(HOVER_EVENT)) {
-      final JsonObject hoverEvent = json.getAsJsonObject(HOVER_EVENT);
-      if(hoverEvent != null) {
-        final HoverEvent./*@Nullable*/ Action action = optionallyDeserialize(hoverEvent.getAsJsonPrimitive(HOVER_EVENT_ACTION), context, HoverEvent.Action.class);
-        if(action != null && action.readable()) {
-          final @Nullable Object value;
-          if(hoverEvent.has(HOVER_EVENT_CONTENTS)) {
-            final @Nullable JsonElement rawValue = hoverEvent.get(HOVER_EVENT_CONTENTS);
-            value = context.deserialize(rawValue, action.type());
-          } else if(hoverEvent.has(HOVER_EVENT_VALUE)) {
-            final Component rawValue = context.deserialize(hoverEvent.get(HOVER_EVENT_VALUE), Component.class);
-            value = this.legacyHoverEventContents(action, rawValue, context);
-          } else {
-            value = null;
-          }
-
-          if(value != null) {
-            style.hoverEvent(HoverEvent.hoverEvent(action, value));
-          }
-        }
+    if(action != null && action.readable()) {
+      final @Nullable Object value;
+      if(hasContents) {
+        value = rawContents != null ? this.gson.getAdapter(action.type()).fromJsonTree(rawContents) : contents;
+      } else if(legacyValue != null) {
+        value = this.legacyHoverEventContents(action, this.component.fromJsonTree(legacyValue));
+      } else {
+        value = null;
       }
-    }
 
-    if(json.has(FONT)) {
-      style.font(context.deserialize(json.get(FONT), Key.class));
+      if(value != null) {
+        style.hoverEvent(HoverEvent.hoverEvent((HoverEvent.Action) action, value));
+      }
     }
-
-    return style.build();
   }
 
-  private static <T> T optionallyDeserialize(final JsonElement json, final JsonDeserializationContext context, final Class<T> type) {
-    return json == null ? null : context.deserialize(json, type);
+  private static @Nullable String readPrimitiveString(final JsonReader in) throws IOException {
+    final JsonToken token = in.peek();
+    if(token == JsonToken.STRING || token == JsonToken.NUMBER || token == JsonToken.BOOLEAN) {
+      return GsonHacks.readString(in);
+    }
+    in.skipValue();
+    return null;
   }
 
-  private Object legacyHoverEventContents(final HoverEvent.Action<?> action, final Component rawValue, final JsonDeserializationContext context) {
+  private Object legacyHoverEventContents(final HoverEvent.Action<?> action, final Component rawValue) {
     if(action == HoverEvent.Action.SHOW_TEXT) {
       return rawValue; // Passthrough -- no serialization needed
     } else if(this.legacyHover != null) {
       try {
         if(action == HoverEvent.Action.SHOW_ENTITY) {
-          return this.legacyHover.deserializeShowEntity(rawValue, this.decoder(context));
+          return this.legacyHover.deserializeShowEntity(rawValue, this.decoder());
         } else if(action == HoverEvent.Action.SHOW_ITEM) {
           return this.legacyHover.deserializeShowItem(rawValue);
         }
@@ -194,86 +264,138 @@ final class StyleSerializer implements JsonDeserializer<Style>, JsonSerializer<S
     throw new UnsupportedOperationException();
   }
 
-  private Codec.Decoder<Component, String, JsonParseException> decoder(final JsonDeserializationContext ctx) {
+  private Codec.Decoder<Component, String, JsonParseException> decoder() {
     return string -> {
       final JsonReader reader = new JsonReader(new StringReader(string));
-      return ctx.deserialize(Streams.parse(reader), Component.class);
+      return this.component.fromJsonTree(Streams.parse(reader));
     };
   }
 
   @Override
-  public JsonElement serialize(final Style src, final Type typeOfSrc, final JsonSerializationContext context) {
-    final JsonObject json = new JsonObject();
+  public void write(final JsonWriter out, final Style value) throws IOException {
+    out.beginObject();
+    this.writeFields(out, value);
+    out.endObject();
+  }
 
+  /**
+   * Writes the fields of {@code value} into the object currently open in {@code out}.
+   *
+   * @param out the writer
+   * @param value the style
+   * @throws IOException if the style could not be written
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  void writeFields(final JsonWriter out, final Style value) throws IOException {
     for(int i = 0, length = DECORATIONS.length; i < length; i++) {
       final TextDecoration decoration = DECORATIONS[i];
-      final TextDecoration.State state = src.decoration(decoration);
+      final TextDecoration.State state = value.decoration(decoration);
       if(state != TextDecoration.State.NOT_SET) {
         final String name = TextDecoration.NAMES.key(decoration);
         assert name != null; // should never be null
-        json.addProperty(name, state == TextDecoration.State.TRUE);
+        out.name(name).value(state == TextDecoration.State.TRUE);
       }
     }
 
-    final @Nullable TextColor color = src.color();
+    final @Nullable TextColor color = value.color();
     if(color != null) {
-      json.add(COLOR, context.serialize(color));
+      out.name(COLOR);
+      this.color.write(out, color);
     }
 
-    final @Nullable String insertion = src.insertion();
+    final @Nullable String insertion = value.insertion();
     if(insertion != null) {
-      json.addProperty(INSERTION, insertion);
+      out.name(INSERTION).value(insertion);
     }
 
-    final @Nullable ClickEvent clickEvent = src.clickEvent();
+    final @Nullable ClickEvent clickEvent = value.clickEvent();
     if(clickEvent != null) {
-      final JsonObject eventJson = new JsonObject();
-      eventJson.add(CLICK_EVENT_ACTION, context.serialize(clickEvent.action()));
-      eventJson.addProperty(CLICK_EVENT_VALUE, clickEvent.value());
-      json.add(CLICK_EVENT, eventJson);
+      out.name(CLICK_EVENT).beginObject();
+      out.name(CLICK_EVENT_ACTION);
+      this.clickAction.write(out, clickEvent.action());
+      out.name(CLICK_EVENT_VALUE).value(clickEvent.value());
+      out.endObject();
     }
 
-    final @Nullable HoverEvent<?> hoverEvent = src.hoverEvent();
+    final @Nullable HoverEvent<?> hoverEvent = value.hoverEvent();
     if(hoverEvent != null) {
-      final JsonObject eventJson = new JsonObject();
-      eventJson.add(HOVER_EVENT_ACTION, context.serialize(hoverEvent.action()));
-      final JsonElement modernContents = context.serialize(hoverEvent.value());
-      eventJson.add(HOVER_EVENT_CONTENTS, modernContents);
+      out.name(HOVER_EVENT).beginObject();
+      out.name(HOVER_EVENT_ACTION);
+      final HoverEvent.Action<?> action = hoverEvent.action();
+      this.hoverAction.write(out, action);
+      out.name(HOVER_EVENT_CONTENTS);
+      ((TypeAdapter) this.gson.getAdapter(action.type())).write(out, hoverEvent.value());
       if(this.emitLegacyHover) {
-        eventJson.add(HOVER_EVENT_VALUE, this.serializeLegacyHoverEvent(hoverEvent, modernContents, context));
+        out.name(HOVER_EVENT_VALUE);
+        this.writeLegacyHoverEvent(out, hoverEvent);
       }
-      json.add(HOVER_EVENT, eventJson);
+      out.endObject();
     }
 
-    final @Nullable Key font = src.font();
+    final @Nullable Key font = value.font();
     if(font != null) {
-      json.add(FONT, context.serialize(font));
+      out.name(FONT);
+      this.key.write(out, font);
     }
-
-    return json;
   }
 
-  private JsonElement serializeLegacyHoverEvent(final HoverEvent<?> hoverEvent, final JsonElement modernContents, final JsonSerializationContext context) {
+  private void writeLegacyHoverEvent(final JsonWriter out, final HoverEvent<?> hoverEvent) throws IOException {
     if(hoverEvent.action() == HoverEvent.Action.SHOW_TEXT) { // serialization is the same
-      return modernContents;
+      this.component.write(out, (Component) hoverEvent.value());
     } else if(this.legacyHover != null) { // for data formats that require knowledge of SNBT
       Component serialized = null;
       try {
         if(hoverEvent.action() == HoverEvent.Action.SHOW_ENTITY) {
-          serialized = this.legacyHover.serializeShowEntity((HoverEvent.ShowEntity) hoverEvent.value(), this.encoder(context));
+          serialized = this.legacyHover.serializeShowEntity((HoverEvent.ShowEntity) hoverEvent.value(), this.encoder());
         } else if(hoverEvent.action() == HoverEvent.Action.SHOW_ITEM) {
           serialized = this.legacyHover.serializeShowItem((HoverEvent.ShowItem) hoverEvent.value());
         }
       } catch(final IOException ex) {
         throw new JsonSyntaxException(ex);
       }
-      return serialized == null ? JsonNull.INSTANCE : context.serialize(serialized);
+      if(serialized == null) {
+        out.nullValue();
+      } else {
+        this.component.write(out, serialized);
+      }
     } else {
-      return JsonNull.INSTANCE;
+      out.nullValue();
     }
   }
 
-  private Codec.Encoder<Component, String, RuntimeException> encoder(final JsonSerializationContext ctx) {
-    return component -> ctx.serialize(component).toString();
+  private Codec.Encoder<Component, String, RuntimeException> encoder() {
+    return component -> {
+      final StringWriter string = new StringWriter();
+      final JsonWriter out = new JsonWriter(string);
+      out.setLenient(true);
+      try {
+        this.component.write(out, component);
+      } catch(final IOException ex) {
+        throw new JsonSyntaxException(ex);
+      }
+      return string.toString();
+    };
+  }
+
+  /**
+   * Style fields read from an object, which may be interleaved with the fields of a component.
+   */
+  static final class Fields {
+    final Style.Builder builder = Style.style();
+    // a decoration named by the color field, which only applies when the decoration is not set explicitly
+    @Nullable TextDecoration colorDecoration;
+    private int decorations;
+
+    void decoration(final TextDecoration decoration, final boolean flag) {
+      this.builder.decoration(decoration, flag);
+      this.decorations |= 1 << decoration.ordinal();
+    }
+
+    Style build() {
+      if(this.colorDecoration != null && (this.decorations & (1 << this.colorDecoration.ordinal())) == 0) {
+        this.builder.decoration(this.colorDecoration, true);
+      }
+      return this.builder.build();
+    }
   }
 }
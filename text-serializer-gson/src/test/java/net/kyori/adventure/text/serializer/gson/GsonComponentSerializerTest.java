@@ -24,11 +24,14 @@
 package net.kyori.adventure.text.serializer.gson;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
 import org.junit.jupiter.api.Test;
 
 import static net.kyori.adventure.text.serializer.gson.GsonTest.array;
@@ -62,6 +65,22 @@ class GsonComponentSerializerTest {
     }), Component.class));
   }
 
+  @Test
+  void testDeserializeFieldsInAnyOrder() {
+    final Component expected = Component.text("hi", NamedTextColor.RED, TextDecoration.BOLD)
+      .append(Component.translatable("chat.type.text", Component.text("kashike")));
+    assertEquals(expected, GsonComponentSerializer.gson().deserialize("{\"extra\":[{\"with\":[\"kashike\"],\"translate\":\"chat.type.text\"}],\"bold\":true,\"text\":\"hi\",\"color\":\"red\"}"));
+  }
+
+  @Test
+  void testSerializeMatchesTree() {
+    final Component component = Component.text("hi", NamedTextColor.RED, TextDecoration.BOLD)
+      .hoverEvent(HoverEvent.showText(Component.text("<3")))
+      .append(Component.score("kashike", "kills"));
+    final GsonComponentSerializer serializer = GsonComponentSerializer.gson();
+    assertEquals(serializer.serializeToTree(component), serializer.serializer().fromJson(serializer.serialize(component), JsonElement.class));
+  }
+
   @Test
   public void testPre116Downsamples() {
     final TextColor original = TextColor.color(0xAB2211);
@@ -39,6 +39,7 @@ import net.kyori.adventure.text.format.TextDecoration;
 import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -142,6 +143,32 @@ class StyleTest extends GsonTest<Style> {
     );
   }
 
+  @Test
+  void testHoverEventContentsBeforeAction() {
+    assertEquals(showItemStyle(2), this.deserialize(object(json -> {
+      json.add(StyleSerializer.HOVER_EVENT, object(hoverEvent -> {
+        hoverEvent.add(StyleSerializer.HOVER_EVENT_CONTENTS, object(contents -> {
+          contents.addProperty(ShowItemSerializer.COUNT, 2);
+          contents.addProperty(ShowItemSerializer.ID, "minecraft:stone");
+        }));
+        hoverEvent.addProperty(StyleSerializer.HOVER_EVENT_ACTION, name(HoverEvent.Action.SHOW_ITEM));
+      }));
+    })));
+  }
+
+  @Test
+  void testDecorationOverridesDecorationAsColor() {
+    final Style expected = Style.style().decoration(TextDecoration.BOLD, false).build();
+    assertEquals(expected, this.deserialize(object(json -> {
+      json.addProperty(StyleSerializer.COLOR, name(TextDecoration.BOLD));
+      json.addProperty(name(TextDecoration.BOLD), false);
+    })));
+    assertEquals(expected, this.deserialize(object(json -> {
+      json.addProperty(name(TextDecoration.BOLD), false);
+      json.addProperty(StyleSerializer.COLOR, name(TextDecoration.BOLD));
+    })));
+  }
+
   @Test
   void testShowItemHoverEvent() {
     this.test(showItemStyle(1), showItemJson(1));
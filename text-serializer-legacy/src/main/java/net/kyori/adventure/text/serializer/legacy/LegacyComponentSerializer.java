@@ -253,6 +253,32 @@ public interface LegacyComponentSerializer extends ComponentSerializer<Component
      */
     @NonNull Builder flattener(final @NonNull ComponentFlattener flattener);
 
+    /**
+     * Compact deserialized components.
+     *
+     * <p>Deserialization produces a node per formatting code, including empty and redundant ones. With this enabled,
+     * the result is passed through {@link Component#compact()} before being returned.</p>
+     *
+     * @return this builder
+     * @since 4.8.0
+     */
+    @NonNull Builder compact();
+
+    /**
+     * Only write the format codes needed to move from one style to the next when serializing.
+     *
+     * <p>By default, a full reset is written whenever a decoration is dropped, and colours are compared as given rather
+     * than as written. With this enabled, the serializer tracks the style it has written so far and picks the shortest
+     * transition: new decorations are added incrementally, a colour code is used in place of a reset where it also
+     * clears decorations, and hex colours that downsample to the current colour write nothing.</p>
+     *
+     * <p>This relies on colour codes clearing decorations, as they do in the Java Edition client.</p>
+     *
+     * @return this builder
+     * @since 4.8.0
+     */
+    @NonNull Builder minimalFormatCodes();
+
     /**
      * Builds the serializer.
      *
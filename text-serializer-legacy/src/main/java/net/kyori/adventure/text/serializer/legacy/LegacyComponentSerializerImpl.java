@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -55,6 +56,8 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
   private static final char LEGACY_BUNGEE_HEX_CHAR = 'x';
   private static final List<TextFormat> FORMATS;
   private static final String LEGACY_CHARS;
+  private static final TextFormat[] FORMATS_BY_CHAR = new TextFormat[128];
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
 
   static {
     // Enumeration order may change - manually
@@ -93,194 +96,125 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
     if(FORMATS.size() != LEGACY_CHARS.length()) {
       throw new IllegalStateException("FORMATS length differs from LEGACY_CHARS length");
     }
+
+    for(int i = 0, length = LEGACY_CHARS.length(); i < length; i++) {
+      FORMATS_BY_CHAR[LEGACY_CHARS.charAt(i)] = FORMATS.get(i);
+    }
   }
 
-  static final LegacyComponentSerializer SECTION_SERIALIZER = new LegacyComponentSerializerImpl(SECTION_CHAR, HEX_CHAR, null, false, false, ComponentFlattener.basic());
-  static final LegacyComponentSerializer AMPERSAND_SERIALIZER = new LegacyComponentSerializerImpl(AMPERSAND_CHAR, HEX_CHAR, null, false, false, ComponentFlattener.basic());
+  static final LegacyComponentSerializer SECTION_SERIALIZER = new LegacyComponentSerializerImpl(SECTION_CHAR, HEX_CHAR, null, null, false, false, ComponentFlattener.basic(), false, false);
+  static final LegacyComponentSerializer AMPERSAND_SERIALIZER = new LegacyComponentSerializerImpl(AMPERSAND_CHAR, HEX_CHAR, null, null, false, false, ComponentFlattener.basic(), false, false);
 
   private final char character;
   private final char hexCharacter;
   private final @Nullable TextReplacementConfig urlReplacementConfig;
+  private final @Nullable UrlScanner urlScanner;
   private final boolean hexColours;
   private final boolean useTerriblyStupidHexFormat; // (╯°□°)╯︵ ┻━┻
   private final ComponentFlattener flattener;
+  private final boolean compact;
+  private final boolean minimalFormatCodes;
+  private final Map<TextFormat, String> codes;
 
-  LegacyComponentSerializerImpl(final char character, final char hexCharacter, final @Nullable TextReplacementConfig urlReplacementConfig, final boolean hexColours, final boolean useTerriblyStupidHexFormat, final ComponentFlattener flattener) {
+  LegacyComponentSerializerImpl(final char character, final char hexCharacter, final @Nullable TextReplacementConfig urlReplacementConfig, final @Nullable UrlScanner urlScanner, final boolean hexColours, final boolean useTerriblyStupidHexFormat, final ComponentFlattener flattener, final boolean compact, final boolean minimalFormatCodes) {
     this.character = character;
     this.hexCharacter = hexCharacter;
     this.urlReplacementConfig = urlReplacementConfig;
+    this.urlScanner = urlScanner;
     this.hexColours = hexColours;
     this.useTerriblyStupidHexFormat = useTerriblyStupidHexFormat;
     this.flattener = flattener;
-  }
-
-  private @Nullable FormatCodeType determineFormatType(final char legacy, final String input, final int pos) {
-    if(pos >= 14) {
-      // The BungeeCord RGB color format uses a repeating sequence of RGB values, each character formatted
-      // as their own color format string, and to make things interesting, all the colors are also valid
-      // Mojang colors. To differentiate this, we do a lookback check for &x (or equivalent) for its position
-      // in the string if it is indeed a BungeeCord-style RGB color.
-      final int expectedCharacterPosition = pos - 14;
-      final int expectedIndicatorPosition = pos - 13;
-      if(input.charAt(expectedCharacterPosition) == this.character && input.charAt(expectedIndicatorPosition) == LEGACY_BUNGEE_HEX_CHAR) {
-        return FormatCodeType.BUNGEECORD_UNUSUAL_HEX;
-      }
-    }
-    if(legacy == this.hexCharacter && input.length() - pos >= 6) {
-      return FormatCodeType.KYORI_HEX;
-    } else if(LEGACY_CHARS.indexOf(legacy) != -1) {
-      return FormatCodeType.MOJANG_LEGACY;
+    this.compact = compact;
+    this.minimalFormatCodes = minimalFormatCodes;
+    this.codes = new IdentityHashMap<>(FORMATS.size());
+    for(int i = 0, length = FORMATS.size(); i < length; i++) {
+      this.codes.put(FORMATS.get(i), new String(new char[]{character, LEGACY_CHARS.charAt(i)}));
     }
-    return null;
   }
 
-  static @Nullable LegacyFormat legacyFormat(final char character) {
-    final int index = LEGACY_CHARS.indexOf(character);
-    if(index != -1) {
-      final TextFormat format = FORMATS.get(index);
-      if(format instanceof NamedTextColor) {
-        return new LegacyFormat((NamedTextColor) format);
-      } else if(format instanceof TextDecoration) {
-        return new LegacyFormat((TextDecoration) format);
-      } else if(format instanceof Reset) {
-        return LegacyFormat.RESET;
-      }
-    }
-    return null;
+  private static @Nullable TextFormat formatByChar(final char legacy) {
+    return legacy < FORMATS_BY_CHAR.length ? FORMATS_BY_CHAR[legacy] : null;
   }
 
-  private @Nullable DecodedFormat decodeTextFormat(final char legacy, final String input, final int pos) {
-    final FormatCodeType foundFormat = this.determineFormatType(legacy, input, pos);
-    if(foundFormat == null) {
-      return null;
-    }
-    if(foundFormat == FormatCodeType.KYORI_HEX) {
-      final @Nullable TextColor parsed = tryParseHexColor(input.substring(pos, pos + 6));
-      if(parsed != null) {
-        return new DecodedFormat(foundFormat, parsed);
-      }
-    } else if(foundFormat == FormatCodeType.MOJANG_LEGACY) {
-      return new DecodedFormat(foundFormat, FORMATS.get(LEGACY_CHARS.indexOf(legacy)));
-    } else if(foundFormat == FormatCodeType.BUNGEECORD_UNUSUAL_HEX) {
-      final StringBuilder foundHex = new StringBuilder(6);
-      for(int i = pos - 1; i >= pos - 11; i -= 2) {
-        foundHex.append(input.charAt(i));
-      }
-      final @Nullable TextColor parsed = tryParseHexColor(foundHex.reverse().toString());
-      if(parsed != null) {
-        return new DecodedFormat(foundFormat, parsed);
-      }
+  static @Nullable LegacyFormat legacyFormat(final char character) {
+    final TextFormat format = formatByChar(character);
+    if(format instanceof NamedTextColor) {
+      return new LegacyFormat((NamedTextColor) format);
+    } else if(format instanceof TextDecoration) {
+      return new LegacyFormat((TextDecoration) format);
+    } else if(format instanceof Reset) {
+      return LegacyFormat.RESET;
     }
     return null;
   }
 
-  private static @Nullable TextColor tryParseHexColor(final String hexDigits) {
-    try {
-      final int color = Integer.parseInt(hexDigits, 16);
-      return TextColor.color(color);
-    } catch(final NumberFormatException ex) {
-      return null;
+  private static int parseHex(final String input, final int from, final int step) {
+    int value = 0;
+    for(int i = 0; i < 6; i++) {
+      final int digit = Character.digit(input.charAt(from + i * step), 16);
+      if(digit == -1) return -1;
+      value = (value << 4) | digit;
     }
+    return value;
   }
 
   private static boolean isHexTextColor(final TextFormat format) {
     return format instanceof TextColor && !(format instanceof NamedTextColor);
   }
 
-  private String toLegacyCode(TextFormat format) {
+  // the colour that will actually be written for a style's colour
+  private @Nullable TextColor writtenColor(final @Nullable TextColor color) {
+    if(color == null || this.hexColours || color instanceof NamedTextColor) return color;
+    return NamedTextColor.nearestTo(color);
+  }
+
+  private void appendCode(final StringBuilder sb, TextFormat format) {
     if(isHexTextColor(format)) {
       final TextColor color = (TextColor) format;
       if(this.hexColours) {
-        final String hex = String.format("%06x", color.value());
+        final int value = color.value();
         if(this.useTerriblyStupidHexFormat) {
           // ah yes, wonderful. A 14 digit long completely unreadable string.
-          final StringBuilder legacy = new StringBuilder(String.valueOf(LEGACY_BUNGEE_HEX_CHAR));
-          for(final char character : hex.toCharArray()) {
-            legacy.append(this.character).append(character);
+          sb.append(this.character).append(LEGACY_BUNGEE_HEX_CHAR);
+          for(int shift = 20; shift >= 0; shift -= 4) {
+            sb.append(this.character).append(HEX_DIGITS[(value >> shift) & 0xf]);
           }
-          return legacy.toString();
         } else {
           // this is a bit nicer, hey?
-          return this.hexCharacter + hex;
+          sb.append(this.character).append(this.hexCharacter);
+          for(int shift = 20; shift >= 0; shift -= 4) {
+            sb.append(HEX_DIGITS[(value >> shift) & 0xf]);
+          }
         }
+        return;
       } else {
         // if we are not using hex colours, then convert the hex colour
         // to the "nearest" possible named/standard text colour
         format = NamedTextColor.nearestTo(color);
       }
     }
-    final int index = FORMATS.indexOf(format);
-    return Character.toString(LEGACY_CHARS.charAt(index));
+    sb.append(this.codes.get(format));
   }
 
   private TextComponent extractUrl(final TextComponent component) {
-    if(this.urlReplacementConfig == null) return component;
+    // with the default pattern, urls were already linked while parsing
+    if(this.urlReplacementConfig == null || this.urlScanner != null) return component;
     final Component newComponent = component.replaceText(this.urlReplacementConfig);
     if(newComponent instanceof TextComponent) return (TextComponent) newComponent;
     return TextComponent.ofChildren(newComponent);
   }
 
+  private TextComponent finish(final TextComponent component) {
+    final TextComponent extracted = this.extractUrl(component);
+    if(!this.compact) return extracted;
+    final Component compacted = extracted.compact();
+    if(compacted instanceof TextComponent) return (TextComponent) compacted;
+    return TextComponent.ofChildren(compacted);
+  }
+
   @Override
   public @NonNull TextComponent deserialize(final @NonNull String input) {
-    int next = input.lastIndexOf(this.character, input.length() - 2);
-    if(next == -1) {
-      return this.extractUrl(Component.text(input));
-    }
-
-    final List<TextComponent> parts = new ArrayList<>();
-
-    TextComponent.Builder current = null;
-    boolean reset = false;
-
-    int pos = input.length();
-    do {
-      final DecodedFormat decoded = this.decodeTextFormat(input.charAt(next + 1), input, next + 2);
-      if(decoded != null) {
-        final int from = next + (decoded.encodedFormat == FormatCodeType.KYORI_HEX ? 8 : 2);
-        if(from != pos) {
-          if(current != null) {
-            if(reset) {
-              parts.add(current.build());
-              reset = false;
-              current = Component.text();
-            } else {
-              current = Component.text().append(current.build());
-            }
-          } else {
-            current = Component.text();
-          }
-
-          current.content(input.substring(from, pos));
-        } else if(current == null) {
-          current = Component.text();
-        }
-
-        if(!reset) {
-          reset = applyFormat(current, decoded.format);
-        }
-        if(decoded.encodedFormat == FormatCodeType.BUNGEECORD_UNUSUAL_HEX) {
-          // BungeeCord hex characters are a repeating set of characters, all of which are also valid
-          // legacy Mojang chat colors. Subtract the number of characters in the format, and only then
-          // skip ahead.
-          next -= 12;
-        }
-        pos = next;
-      }
-
-      next = input.lastIndexOf(this.character, next - 1);
-    } while(next != -1);
-
-    if(current != null) {
-      parts.add(current.build());
-    }
-
-    final String remaining = pos > 0 ? input.substring(0, pos) : "";
-    if(parts.size() == 1 && remaining.isEmpty()) {
-      return this.extractUrl(parts.get(0));
-    } else {
-      Collections.reverse(parts);
-      return this.extractUrl(Component.text().content(remaining).append(parts).build());
-    }
+    return this.finish(new Decoder(input).decode());
   }
 
   @Override
@@ -290,19 +224,6 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
     return state.toString();
   }
 
-  private static boolean applyFormat(final TextComponent.@NonNull Builder builder, final @NonNull TextFormat format) {
-    if(format instanceof TextColor) {
-      builder.colorIfAbsent((TextColor) format);
-      return true;
-    } else if(format instanceof TextDecoration) {
-      builder.decoration((TextDecoration) format, TextDecoration.State.TRUE);
-      return false;
-    } else if(format instanceof Reset) {
-      return true;
-    }
-    throw new IllegalArgumentException(String.format("unknown format '%s'", format.getClass()));
-  }
-
   @Override
   public @NonNull Builder toBuilder() {
     return new BuilderImpl(this);
@@ -312,6 +233,121 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
     INSTANCE
   }
 
+  // Reads the input front to back. Every run of format codes updates the running style,
+  // and the text up to the next code becomes a single flat sibling carrying that style.
+  private final class Decoder {
+    private final String input;
+    private final List<TextComponent> parts = new ArrayList<>();
+    private @Nullable TextColor color;
+    private final Set<TextDecoration> decorations = EnumSet.noneOf(TextDecoration.class);
+    private @Nullable Style style = Style.empty();
+    private int end;
+
+    Decoder(final String input) {
+      this.input = input;
+    }
+
+    TextComponent decode() {
+      final String input = this.input;
+      final int length = input.length();
+      final char character = LegacyComponentSerializerImpl.this.character;
+      String leading = null;
+      int textStart = 0;
+      int next = input.indexOf(character);
+      while(next != -1 && next < length - 1) {
+        final TextFormat format = this.format(next);
+        if(format != null) {
+          if(leading == null) {
+            leading = input.substring(0, next);
+          } else if(next != textStart) {
+            this.emit(input.substring(textStart, next));
+          }
+          this.apply(format);
+          textStart = this.end;
+          next = input.indexOf(character, textStart);
+        } else {
+          next = input.indexOf(character, next + 1);
+        }
+      }
+
+      if(leading == null) {
+        final TextComponent linked = this.link(input, Style.empty());
+        return linked != null ? linked : Component.text(input);
+      }
+      // trailing codes still produce a (possibly empty) styled part
+      this.emit(input.substring(textStart));
+
+      if(this.parts.size() == 1 && leading.isEmpty()) {
+        return this.parts.get(0);
+      }
+      final TextComponent linked = this.link(leading, Style.empty());
+      if(linked != null) {
+        return linked.toBuilder().append(this.parts).build();
+      }
+      return Component.text().content(leading).append(this.parts).build();
+    }
+
+    private @Nullable TextFormat format(final int at) {
+      final String input = this.input;
+      final char legacy = input.charAt(at + 1);
+      if(legacy == LEGACY_BUNGEE_HEX_CHAR && input.length() - at >= 14) {
+        // §x§r§r§g§g§b§b - every digit is itself a valid code, so it has to be recognised as a whole here
+        final TextColor color = this.bungeeHex(at);
+        if(color != null) {
+          this.end = at + 14;
+          return color;
+        }
+      }
+      if(legacy == LegacyComponentSerializerImpl.this.hexCharacter && input.length() - at >= 8) {
+        final int value = parseHex(input, at + 2, 1);
+        if(value == -1) return null;
+        this.end = at + 8;
+        return TextColor.color(value);
+      }
+      this.end = at + 2;
+      return formatByChar(legacy);
+    }
+
+    private @Nullable TextColor bungeeHex(final int at) {
+      final char character = LegacyComponentSerializerImpl.this.character;
+      for(int i = at + 2; i < at + 14; i += 2) {
+        if(this.input.charAt(i) != character) return null;
+      }
+      final int value = parseHex(this.input, at + 3, 2);
+      return value == -1 ? null : TextColor.color(value);
+    }
+
+    private void apply(final TextFormat format) {
+      if(format instanceof TextColor) {
+        this.color = (TextColor) format;
+        this.decorations.clear();
+      } else if(format instanceof TextDecoration) {
+        if(!this.decorations.add((TextDecoration) format)) return;
+      } else {
+        this.color = null;
+        this.decorations.clear();
+      }
+      this.style = null;
+    }
+
+    private void emit(final String content) {
+      if(this.style == null) {
+        this.style = Style.style(this.color, this.decorations);
+      }
+      if(content.isEmpty() && this.style.isEmpty()) {
+        this.parts.add(Component.empty());
+      } else {
+        final TextComponent linked = this.link(content, this.style);
+        this.parts.add(linked != null ? linked : Component.text(content, this.style));
+      }
+    }
+
+    private @Nullable TextComponent link(final String content, final Style style) {
+      final UrlScanner scanner = LegacyComponentSerializerImpl.this.urlScanner;
+      return scanner == null ? null : scanner.link(content, style);
+    }
+  }
+
   // Are you hungry?
   private final class Cereal implements FlattenerListener {
     private final StringBuilder sb = new StringBuilder();
@@ -362,11 +398,16 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
 
     void append(final @NonNull TextFormat format) {
       if(this.lastWritten != format) {
-        this.sb.append(LegacyComponentSerializerImpl.this.character).append(LegacyComponentSerializerImpl.this.toLegacyCode(format));
+        LegacyComponentSerializerImpl.this.appendCode(this.sb, format);
       }
       this.lastWritten = format;
     }
 
+    void write(final @NonNull TextFormat format) {
+      LegacyComponentSerializerImpl.this.appendCode(this.sb, format);
+      this.lastWritten = format;
+    }
+
     @Override
     public String toString() {
       return this.sb.toString();
@@ -414,6 +455,11 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
       }
 
       void applyFormat() {
+        if(LegacyComponentSerializerImpl.this.minimalFormatCodes) {
+          this.applyMinimalFormat();
+          return;
+        }
+
         final boolean colorChanged = this.color != Cereal.this.style.color;
         if(this.needsReset) {
           if(!colorChanged) {
@@ -444,6 +490,31 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
         }
       }
 
+      // Moves the written style to this one with as few codes as possible. Decorations can only be
+      // added incrementally; dropping one needs a colour code (which clears decorations) or,
+      // without a colour, a reset.
+      private void applyMinimalFormat() {
+        this.needsReset = false;
+        final StyleState written = Cereal.this.style;
+        final TextColor color = LegacyComponentSerializerImpl.this.writtenColor(this.color);
+        if(sameColor(color, written.color) && this.decorations.containsAll(written.decorations)) {
+          for(final TextDecoration decoration : this.decorations) {
+            if(written.decorations.add(decoration)) {
+              Cereal.this.write(decoration);
+            }
+          }
+          return;
+        }
+
+        Cereal.this.write(color != null ? color : Reset.INSTANCE);
+        written.color = color;
+        for(final TextDecoration decoration : this.decorations) {
+          Cereal.this.write(decoration);
+        }
+        written.decorations.clear();
+        written.decorations.addAll(this.decorations);
+      }
+
       private void applyFullFormat() {
         if(this.color != null) {
           Cereal.this.append(this.color);
@@ -462,13 +533,21 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
     }
   }
 
+  private static boolean sameColor(final @Nullable TextColor a, final @Nullable TextColor b) {
+    if(a == null || b == null) return a == b;
+    return a.value() == b.value();
+  }
+
   static final class BuilderImpl implements Builder {
     private char character = LegacyComponentSerializer.SECTION_CHAR;
     private char hexCharacter = LegacyComponentSerializer.HEX_CHAR;
     private TextReplacementConfig urlReplacementConfig = null;
+    private UrlScanner urlScanner = null;
     private boolean hexColours = false;
     private boolean useTerriblyStupidHexFormat = false;
     private ComponentFlattener flattener = ComponentFlattener.basic();
+    private boolean compact = false;
+    private boolean minimalFormatCodes = false;
 
     BuilderImpl() {
     }
@@ -477,8 +556,11 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
       this.character = serializer.character;
       this.hexCharacter = serializer.hexCharacter;
       this.urlReplacementConfig = serializer.urlReplacementConfig;
+      this.urlScanner = serializer.urlScanner;
       this.hexColours = serializer.hexColours;
       this.useTerriblyStupidHexFormat = serializer.useTerriblyStupidHexFormat;
+      this.compact = serializer.compact;
+      this.minimalFormatCodes = serializer.minimalFormatCodes;
     }
 
     @Override
@@ -521,6 +603,7 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
           return (style == null ? url : url.style(style)).clickEvent(ClickEvent.openUrl(clickUrl));
         })
         .build();
+      this.urlScanner = pattern == DEFAULT_URL_PATTERN ? new UrlScanner(style) : null;
       return this;
     }
 
@@ -543,27 +626,20 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
     }
 
     @Override
-    public @NonNull LegacyComponentSerializer build() {
-      return new LegacyComponentSerializerImpl(this.character, this.hexCharacter, this.urlReplacementConfig, this.hexColours, this.useTerriblyStupidHexFormat, this.flattener);
+    public @NonNull Builder compact() {
+      this.compact = true;
+      return this;
     }
-  }
-
-  enum FormatCodeType {
-    MOJANG_LEGACY,
-    KYORI_HEX,
-    BUNGEECORD_UNUSUAL_HEX;
-  }
 
-  static final class DecodedFormat {
-    final FormatCodeType encodedFormat;
-    final TextFormat format;
+    @Override
+    public @NonNull Builder minimalFormatCodes() {
+      this.minimalFormatCodes = true;
+      return this;
+    }
 
-    private DecodedFormat(final FormatCodeType encodedFormat, final TextFormat format) {
-      if(format == null) {
-        throw new IllegalStateException("No format found");
-      }
-      this.encodedFormat = encodedFormat;
-      this.format = format;
+    @Override
+    public @NonNull LegacyComponentSerializer build() {
+      return new LegacyComponentSerializerImpl(this.character, this.hexCharacter, this.urlReplacementConfig, this.urlScanner, this.hexColours, this.useTerriblyStupidHexFormat, this.flattener, this.compact, this.minimalFormatCodes);
     }
   }
 }
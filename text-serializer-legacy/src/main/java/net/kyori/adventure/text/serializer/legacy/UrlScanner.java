@@ -0,0 +1,145 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.legacy;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.format.Style;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Finds the same urls as {@link LegacyComponentSerializerImpl#DEFAULT_URL_PATTERN} without a regex, and links
+ * them in the same component structure a {@code replaceText} pass would produce.
+ */
+final class UrlScanner {
+  private final @Nullable Style style;
+
+  UrlScanner(final @Nullable Style style) {
+    this.style = style;
+  }
+
+  /**
+   * Links any urls in a text component's content.
+   *
+   * @param content the content
+   * @param style the style of the component
+   * @return the linked component, or {@code null} if there are no urls
+   */
+  @Nullable TextComponent link(final @NonNull String content, final @NonNull Style style) {
+    if(content.indexOf('.') == -1) return null; // every host has a dot
+
+    final int length = content.length();
+    TextComponent parent = null;
+    List<Component> children = null;
+    int replacedUntil = 0;
+    int failedUntil = 0; // hosts can't start before here: the run of host characters they would be in has no url
+    for(int i = 0; i < length; i++) {
+      int end = -1;
+      final int afterScheme = schemeEnd(content, i);
+      if(afterScheme != -1) {
+        end = hostEnd(content, afterScheme);
+      }
+      final boolean scheme = end != -1;
+      if(!scheme && i >= failedUntil) {
+        end = hostEnd(content, i);
+        if(end == -1) failedUntil = hostRunEnd(content, i);
+      }
+      if(end == -1) continue;
+
+      final String url = content.substring(i, end);
+      if(parent == null) {
+        if(i == 0 && end == length) {
+          return this.url(url, scheme, style);
+        }
+        parent = Component.text(i == 0 ? "" : content.substring(0, i), style);
+        children = new ArrayList<>();
+      } else if(replacedUntil < i) {
+        children.add(Component.text(content.substring(replacedUntil, i)));
+      }
+      children.add(this.url(url, scheme, Style.empty()));
+      replacedUntil = end;
+      i = end - 1;
+    }
+    if(parent == null) return null;
+
+    if(replacedUntil < length) {
+      children.add(Component.text(content.substring(replacedUntil)));
+    }
+    return parent.children(children);
+  }
+
+  private TextComponent url(final String url, final boolean scheme, final Style style) {
+    return Component.text(url, this.style == null ? style : this.style).clickEvent(ClickEvent.openUrl(scheme ? url : "http://" + url));
+  }
+
+  // (https?)://
+  private static int schemeEnd(final String content, final int at) {
+    if(!content.startsWith("http", at)) return -1;
+    final int afterHttp = at + 4;
+    if(content.startsWith("s://", afterHttp)) return afterHttp + 4;
+    if(content.startsWith("://", afterHttp)) return afterHttp + 3;
+    return -1;
+  }
+
+  // ([-\w_.]+\.\w{2,})(/\S*)? - the first part is greedy, so the host ends at the last dot that works
+  private static int hostEnd(final String content, final int from) {
+    final int length = content.length();
+    final int runEnd = hostRunEnd(content, from);
+    for(int dot = runEnd - 3; dot > from; dot--) {
+      if(content.charAt(dot) == '.' && isWordChar(content.charAt(dot + 1)) && isWordChar(content.charAt(dot + 2))) {
+        int end = dot + 3;
+        while(end < length && isWordChar(content.charAt(end))) end++;
+        if(end < length && content.charAt(end) == '/') {
+          end++;
+          while(end < length && !isWhitespace(content.charAt(end))) end++;
+        }
+        return end;
+      }
+    }
+    return -1;
+  }
+
+  private static int hostRunEnd(final String content, final int from) {
+    final int length = content.length();
+    int end = from;
+    while(end < length && isHostChar(content.charAt(end))) end++;
+    return end;
+  }
+
+  private static boolean isWordChar(final char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+  }
+
+  private static boolean isHostChar(final char c) {
+    return isWordChar(c) || c == '-' || c == '.';
+  }
+
+  private static boolean isWhitespace(final char c) {
+    return c == ' ' || (c >= '\t' && c <= '\r'); // \t \n \x0B \f \r
+  }
+}
@@ -61,6 +61,18 @@ class LegacyComponentSerializerTest {
     assertEquals(component, LegacyComponentSerializer.legacy('&').deserialize("&a&9foo"));
   }
 
+  @Test
+  void testCompact() {
+    final LegacyComponentSerializer serializer = LegacyComponentSerializer.builder().character('&').compact().build();
+    final TextComponent expected = Component.text().content("")
+      .append(Component.text("foobar ").color(NamedTextColor.GREEN).decoration(TextDecoration.BOLD, TextDecoration.State.TRUE))
+      .append(Component.text("baz").color(NamedTextColor.BLUE))
+      .build();
+    assertEquals(expected, serializer.deserialize("&a&lfoo&a&lbar &9baz"));
+    assertEquals(Component.text("foobar", NamedTextColor.GREEN, TextDecoration.BOLD), serializer.deserialize("&a&lfoo&a&lbar"));
+    assertEquals(Component.text("foo"), serializer.deserialize("foo"));
+  }
+
   @Test
   void testInvalidColors() {
     // https://github.com/KyoriPowered/adventure/issues/266
@@ -318,4 +330,85 @@ class LegacyComponentSerializerTest {
 
     assertEquals(Component.text(text), deserialized);
   }
+
+  @Test
+  void testDecorationsProduceFlatSiblings() {
+    final TextComponent expected = Component.text().content("")
+      .append(Component.text("foo", NamedTextColor.GREEN))
+      .append(Component.text("bar", NamedTextColor.GREEN, TextDecoration.BOLD))
+      .append(Component.text("baz", NamedTextColor.GREEN, TextDecoration.BOLD, TextDecoration.ITALIC))
+      .append(Component.text("qux", NamedTextColor.RED))
+      .build();
+    assertEquals(expected, LegacyComponentSerializer.legacyAmpersand().deserialize("&afoo&lbar&obaz&cqux"));
+  }
+
+  @Test
+  void testTrailingFormatCodes() {
+    final TextComponent expected = Component.text().content("foo")
+      .append(Component.text("", NamedTextColor.GREEN, TextDecoration.BOLD))
+      .build();
+    assertEquals(expected, LegacyComponentSerializer.legacyAmpersand().deserialize("foo&a&l"));
+    assertEquals(Component.text("foo&"), LegacyComponentSerializer.legacyAmpersand().deserialize("foo&"));
+    assertEquals(Component.text("foo"), LegacyComponentSerializer.legacyAmpersand().deserialize("foo&r"));
+  }
+
+  @Test
+  void testStrayBungeeIndicatorDoesNotSwallowLaterCodes() {
+    final TextComponent expected = Component.text().content("&x")
+      .append(Component.text("abcdefgh", NamedTextColor.YELLOW))
+      .append(Component.text("Kittens!", NamedTextColor.RED))
+      .build();
+    assertEquals(expected, LegacyComponentSerializer.legacyAmpersand().deserialize("&x&eabcdefgh&cKittens!"));
+  }
+
+  @Test
+  void testHexColorsWithLeadingZeroes() {
+    final TextComponent component = Component.text("deep", TextColor.color(0x00a0b0));
+    assertEquals("&#00a0b0deep", LegacyComponentSerializer.builder().character('&').hexColors().build().serialize(component));
+    assertEquals("&x&0&0&a&0&b&0deep", LegacyComponentSerializer.builder().character('&').hexColors().useUnusualXRepeatedCharacterHexFormat().build().serialize(component));
+  }
+
+  @Test
+  void testMinimalFormatCodes() {
+    final LegacyComponentSerializer minimal = LegacyComponentSerializer.builder().character('&').minimalFormatCodes().build();
+
+    // a colour code clears decorations on its own, no reset needed
+    final Component dropDecoration = Component.text("foo", NamedTextColor.GREEN, TextDecoration.BOLD)
+      .append(Component.text("bar").decoration(TextDecoration.BOLD, false));
+    assertEquals("&a&lfoo&r&abar", LegacyComponentSerializer.legacyAmpersand().serialize(dropDecoration));
+    assertEquals("&a&lfoo&abar", minimal.serialize(dropDecoration));
+
+    // decorations are only added incrementally
+    final Component addDecoration = Component.text()
+      .append(Component.text("foo", NamedTextColor.GREEN, TextDecoration.BOLD))
+      .append(Component.text("bar", NamedTextColor.GREEN, TextDecoration.BOLD, TextDecoration.ITALIC))
+      .build();
+    assertEquals("&a&lfoo&obar", minimal.serialize(addDecoration));
+
+    // without a colour, dropping a decoration still needs a reset
+    final Component noColor = Component.text()
+      .append(Component.text("foo", NamedTextColor.GREEN, TextDecoration.BOLD))
+      .append(Component.text("bar", Style.style(TextDecoration.ITALIC)))
+      .build();
+    assertEquals("&a&lfoo&r&obar", minimal.serialize(noColor));
+  }
+
+  @Test
+  void testMinimalFormatCodesComparesWrittenColors() {
+    final Component component = Component.text()
+      .append(Component.text("foo", TextColor.color(0xff5656)))
+      .append(Component.text("bar", TextColor.color(0xfe5757)))
+      .build();
+    assertEquals("&cfoobar", LegacyComponentSerializer.builder().character('&').minimalFormatCodes().build().serialize(component));
+    assertEquals("&#ff5656foo&#fe5757bar", LegacyComponentSerializer.builder().character('&').minimalFormatCodes().hexColors().build().serialize(component));
+  }
+
+  @Test
+  void testMinimalFormatCodesRoundtrip() {
+    final LegacyComponentSerializer minimal = LegacyComponentSerializer.builder().character('&').minimalFormatCodes().build();
+    final String input = "&6&lServer &r&7» &aWelcome, &b&oSteve&a! You have &e&l12&a messages.";
+    final String serialized = minimal.serialize(minimal.deserialize(input));
+    assertEquals("&6&lServer &7» &aWelcome, &b&oSteve&a! You have &e&l12&a messages.", serialized);
+    assertEquals(LegacyComponentSerializer.legacyAmpersand().serialize(minimal.deserialize(input)), LegacyComponentSerializer.legacyAmpersand().serialize(minimal.deserialize(serialized)));
+  }
 }
@@ -23,6 +23,8 @@
  */
 package net.kyori.adventure.text.serializer.legacy;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.regex.Pattern;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
@@ -138,4 +140,46 @@ class LinkingLegacyComponentSerializerTest {
       .build();
     assertEquals(expectedManyUrls, serializer.deserialize(manyUrls));
   }
+
+  @Test
+  void testUrlBoundaries() {
+    final LegacyComponentSerializer serializer = LegacyComponentSerializer.builder().character('&').extractUrls().build();
+
+    final TextComponent path = Component.text().content("see ")
+      .append(Component.text("https://example.com/a/b?c=d").clickEvent(ClickEvent.openUrl("https://example.com/a/b?c=d")))
+      .append(Component.text(" now"))
+      .build();
+    assertEquals(path, serializer.deserialize("see https://example.com/a/b?c=d now"));
+
+    // the host ends at the last dot followed by two word characters
+    final TextComponent trailingDot = Component.text().content("")
+      .append(Component.text("a.co").clickEvent(ClickEvent.openUrl("http://a.co")))
+      .append(Component.text(".x"))
+      .build();
+    assertEquals(trailingDot, serializer.deserialize("a.co.x"));
+
+    // a scheme can start inside a word
+    final TextComponent embeddedScheme = Component.text().content("x")
+      .append(Component.text("http://a.com").clickEvent(ClickEvent.openUrl("http://a.com")))
+      .build();
+    assertEquals(embeddedScheme, serializer.deserialize("xhttp://a.com"));
+
+    assertEquals(Component.text("no links. here"), serializer.deserialize("no links. here"));
+  }
+
+  @Test
+  void testDefaultPatternMatchesRegex() {
+    final LegacyComponentSerializer scanning = LegacyComponentSerializer.builder().character('&').extractUrls().build();
+    final LegacyComponentSerializer regex = LegacyComponentSerializer.builder().character('&').extractUrls(Pattern.compile(LegacyComponentSerializerImpl.DEFAULT_URL_PATTERN.pattern())).build();
+    final List<String> inputs = Arrays.asList(
+      "&avisit example.com&r, or &lhttps://sub.example.net/path&r!",
+      "http://https://a.b.cc/x y.zz",
+      "HTTP://EXAMPLE.COM and ftp://files.example.org",
+      "a.b.c.d-e_f.gh..ij a..bc",
+      "a bad.link &chere a.com &lthere b.org"
+    );
+    for(final String input : inputs) {
+      assertEquals(regex.deserialize(input), scanning.deserialize(input), input);
+    }
+  }
 }
@@ -23,6 +23,8 @@
  */
 package net.kyori.adventure.text.serializer.plain;
 
+import java.io.IOException;
+import java.nio.CharBuffer;
 import java.util.function.Function;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.KeybindComponent;
@@ -126,6 +128,55 @@ public class PlainComponentSerializer implements ComponentSerializer<Component,
     this.flattener.flatten(requireNonNull(component, "component"), sb::append);
   }
 
+  /**
+   * Serializes a component, writing its plain text directly to {@code appendable}.
+   *
+   * <p>No intermediate {@link String} is built for the whole component. If the appendable fails,
+   * nothing further is written and the first failure is rethrown once flattening completes.</p>
+   *
+   * @param component the component
+   * @param appendable the appendable to write to
+   * @throws IOException if the appendable fails
+   * @since 4.8.0
+   */
+  public void serialize(final @NonNull Component component, final @NonNull Appendable appendable) throws IOException {
+    final PlainComponentSerializerImpl.AppendableListener listener = new PlainComponentSerializerImpl.AppendableListener(requireNonNull(appendable, "appendable"));
+    this.flattener.flatten(requireNonNull(component, "component"), listener);
+    listener.rethrow();
+  }
+
+  /**
+   * Serializes a component, writing its plain text into {@code buffer}.
+   *
+   * <p>The buffer must have at least {@link #plainLength(Component)} characters remaining.</p>
+   *
+   * @param component the component
+   * @param buffer the buffer to write to
+   * @throws java.nio.BufferOverflowException if the buffer does not have enough space remaining
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+   * @since 4.8.0
+   */
+  public void serialize(final @NonNull Component component, final @NonNull CharBuffer buffer) {
+    requireNonNull(buffer, "buffer");
+    this.flattener.flatten(requireNonNull(component, "component"), buffer::put);
+  }
+
+  /**
+   * Computes the length of the plain text {@code component} serializes to.
+   *
+   * <p>This runs the same flattener as serialization, so it can be used to size a buffer
+   * exactly before calling {@link #serialize(Component, CharBuffer)}.</p>
+   *
+   * @param component the component
+   * @return the number of characters in the serialized form
+   * @since 4.8.0
+   */
+  public int plainLength(final @NonNull Component component) {
+    final PlainComponentSerializerImpl.LengthListener listener = new PlainComponentSerializerImpl.LengthListener();
+    this.flattener.flatten(requireNonNull(component, "component"), listener);
+    return listener.length;
+  }
+
   @Override
   public PlainComponentSerializer.@NonNull Builder toBuilder() {
     return new PlainComponentSerializerImpl.BuilderImpl(this.flattener);
@@ -23,13 +23,47 @@
  */
 package net.kyori.adventure.text.serializer.plain;
 
+import java.io.IOException;
 import net.kyori.adventure.text.flattener.ComponentFlattener;
+import net.kyori.adventure.text.flattener.FlattenerListener;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import static java.util.Objects.requireNonNull;
 
 final class PlainComponentSerializerImpl {
 
+  static final class AppendableListener implements FlattenerListener {
+    private final Appendable appendable;
+    private IOException failure;
+
+    AppendableListener(final Appendable appendable) {
+      this.appendable = appendable;
+    }
+
+    @Override
+    public void component(final @NonNull String text) {
+      if(this.failure != null) return;
+      try {
+        this.appendable.append(text);
+      } catch(final IOException ex) {
+        this.failure = ex;
+      }
+    }
+
+    void rethrow() throws IOException {
+      if(this.failure != null) throw this.failure;
+    }
+  }
+
+  static final class LengthListener implements FlattenerListener {
+    int length;
+
+    @Override
+    public void component(final @NonNull String text) {
+      this.length += text.length();
+    }
+  }
+
   static final class BuilderImpl implements PlainComponentSerializer.Builder {
     private ComponentFlattener flattener;
 
@@ -23,6 +23,10 @@
  */
 package net.kyori.adventure.text.serializer.plain;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -30,6 +34,8 @@ import net.kyori.adventure.text.format.TextDecoration;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class PlainComponentSerializerTest {
   @Test
@@ -68,4 +74,55 @@ class PlainComponentSerializerTest {
       .build();
     assertEquals("Hello there, you!", PlainComponentSerializer.plain().serialize(c2));
   }
+
+  @Test
+  void testSerializeToAppendable() throws IOException {
+    final Component component = Component.text("Hello ").append(Component.text("there", NamedTextColor.RED)).append(Component.text("!"));
+    final StringWriter writer = new StringWriter();
+    PlainComponentSerializer.plain().serialize(component, writer);
+    assertEquals("Hello there!", writer.toString());
+  }
+
+  @Test
+  void testSerializeToAppendableFailure() {
+    final IOException failure = new IOException("closed");
+    final Appendable broken = new Appendable() {
+      @Override
+      public Appendable append(final CharSequence csq) throws IOException {
+        throw failure;
+      }
+
+      @Override
+      public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+        throw failure;
+      }
+
+      @Override
+      public Appendable append(final char c) throws IOException {
+        throw failure;
+      }
+    };
+    assertSame(failure, assertThrows(IOException.class, () -> PlainComponentSerializer.plain().serialize(Component.text("a").append(Component.text("b")), broken)));
+  }
+
+  @Test
+  void testSerializeToCharBuffer() {
+    final Component component = Component.text("Hello ").append(Component.text("there", NamedTextColor.RED)).append(Component.text("!"));
+    final int length = PlainComponentSerializer.plain().plainLength(component);
+    assertEquals(12, length);
+
+    final CharBuffer buffer = CharBuffer.allocate(length);
+    PlainComponentSerializer.plain().serialize(component, buffer);
+    assertEquals(0, buffer.remaining());
+    buffer.flip();
+    assertEquals("Hello there!", buffer.toString());
+
+    assertThrows(BufferOverflowException.class, () -> PlainComponentSerializer.plain().serialize(component, CharBuffer.allocate(length - 1)));
+  }
+
+  @Test
+  void testPlainLengthUsesFlattener() {
+    final Component component = Component.text("a").append(Component.keybind("key.jump")).append(Component.translatable("chat.type.text"));
+    assertEquals(PlainComponentSerializer.plain().serialize(component).length(), PlainComponentSerializer.plain().plainLength(component));
+  }
 }